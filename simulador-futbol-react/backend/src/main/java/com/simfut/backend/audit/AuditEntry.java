@@ -0,0 +1,16 @@
+package com.simfut.backend.audit;
+
+import com.simfut.backend.model.Cambio;
+
+/**
+ * Un registro de auditoría. Las huellas son hashes de 64 bits del estado de la entidad antes y
+ * después de la escritura; 0 indica que ese estado no aplica o no se conoce.
+ */
+public record AuditEntry(long fecha,
+                         String usuario,
+                         Cambio.Entidad entidad,
+                         Cambio.Operacion operacion,
+                         long entidadId,
+                         long huellaAnterior,
+                         long huellaNueva) {
+}
@@ -0,0 +1,242 @@
+package com.simfut.backend.audit;
+
+import com.simfut.backend.auth.Role;
+import com.simfut.backend.model.Cambio;
+import com.simfut.backend.service.AuthorizationService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * Bitácora de auditoría de las escrituras administrativas. Las transacciones solo encolan el
+ * registro al confirmar; un único hilo lo vuelca en segmentos mapeados en memoria que rotan al
+ * llenarse, así que escribir no agrega inserts ni bloqueos a la transacción de negocio.
+ */
+@Component
+public class AuditLog {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditLog.class);
+    private static final String PREFIX = "audit-";
+    private static final String SUFFIX = ".seg";
+    private static final int MAX_LIMITE = 10_000;
+
+    private final AuthorizationService authorizationService;
+    private final Path directory;
+    private final int recordsPerSegment;
+    private final int maxSegments;
+    private final long forceIntervalNanos;
+    private final ConcurrentLinkedQueue<AuditEntry> queue = new ConcurrentLinkedQueue<>();
+    private final List<AuditSegment> segments = new CopyOnWriteArrayList<>();
+    private final Thread writer = new Thread(this::drain, "audit-writer");
+    private volatile boolean running = true;
+    private long nextSegment;
+    private long lastFecha;
+
+    public AuditLog(AuthorizationService authorizationService,
+                    @Value("${simfut.auditoria.directory:data/auditoria}") String directory,
+                    @Value("${simfut.auditoria.records-per-segment:65536}") int recordsPerSegment,
+                    @Value("${simfut.auditoria.max-segments:64}") int maxSegments,
+                    @Value("${simfut.auditoria.force-interval-ms:1000}") long forceIntervalMs) {
+        this.authorizationService = authorizationService;
+        this.directory = Path.of(directory);
+        this.recordsPerSegment = Math.max(1, recordsPerSegment);
+        this.maxSegments = Math.max(1, maxSegments);
+        this.forceIntervalNanos = TimeUnit.MILLISECONDS.toNanos(forceIntervalMs);
+        this.writer.setDaemon(true);
+    }
+
+    @PostConstruct
+    void start() {
+        try {
+            Files.createDirectories(directory);
+            List<Path> existing;
+            try (Stream<Path> files = Files.list(directory)) {
+                existing = files
+                        .filter(file -> file.getFileName().toString().startsWith(PREFIX)
+                                && file.getFileName().toString().endsWith(SUFFIX))
+                        .sorted()
+                        .toList();
+            }
+            for (Path file : existing) {
+                AuditSegment segment = AuditSegment.open(file, recordsPerSegment);
+                segments.add(segment);
+                lastFecha = Math.max(lastFecha, segment.lastFecha());
+            }
+            if (!existing.isEmpty()) {
+                nextSegment = segmentNumber(existing.get(existing.size() - 1)) + 1;
+            }
+            if (segments.isEmpty() || current().isFull()) {
+                rotate();
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("No se pudo abrir la bitácora de auditoría", ex);
+        }
+        writer.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    /**
+     * Registra la operación del usuario autenticado. Dentro de una transacción el registro se
+     * encola recién al confirmar, de modo que un rollback no deja rastro.
+     */
+    public void registrar(Cambio.Entidad entidad, Cambio.Operacion operacion, Long entidadId,
+                          long huellaAnterior, long huellaNueva) {
+        String usuario = usuarioActual();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    append(usuario, entidad, operacion, entidadId, huellaAnterior, huellaNueva);
+                }
+            });
+        } else {
+            append(usuario, entidad, operacion, entidadId, huellaAnterior, huellaNueva);
+        }
+    }
+
+    /** Encola un registro ya confirmado, para escrituras que se aplican fuera del hilo del request. */
+    public void append(String usuario, Cambio.Entidad entidad, Cambio.Operacion operacion, Long entidadId,
+                       long huellaAnterior, long huellaNueva) {
+        queue.offer(new AuditEntry(System.currentTimeMillis(), usuario, entidad, operacion,
+                entidadId != null ? entidadId : 0L, huellaAnterior, huellaNueva));
+        LockSupport.unpark(writer);
+    }
+
+    public List<AuditEntry> buscar(Instant desde, Instant hasta, int limite) {
+        authorizationService.requireAnyRole(Role.ADMIN);
+        if (limite < 1 || limite > MAX_LIMITE) {
+            throw new IllegalArgumentException("El límite debe estar entre 1 y " + MAX_LIMITE);
+        }
+        long from = desde != null ? desde.toEpochMilli() : Long.MIN_VALUE;
+        long to = hasta != null ? hasta.toEpochMilli() : Long.MAX_VALUE;
+        if (from > to) {
+            throw new IllegalArgumentException("El inicio del rango no puede ser posterior al fin");
+        }
+        List<AuditEntry> result = new ArrayList<>();
+        for (AuditSegment segment : segments) {
+            if (result.size() >= limite) {
+                break;
+            }
+            segment.read(from, to, limite, result);
+        }
+        return result;
+    }
+
+    public static String usuarioActual() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : "";
+    }
+
+    /** FNV-1a de 64 bits sobre la representación textual de los campos, con separador entre ellos. */
+    public static long huella(Object... campos) {
+        long hash = 0xcbf29ce484222325L;
+        for (Object campo : campos) {
+            String value = Objects.toString(campo);
+            for (int i = 0; i < value.length(); i++) {
+                hash ^= value.charAt(i);
+                hash *= 0x100000001b3L;
+            }
+            hash ^= 0x1f;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private void drain() {
+        long lastForce = System.nanoTime();
+        boolean dirty = false;
+        while (running || !queue.isEmpty()) {
+            AuditEntry entry = queue.poll();
+            if (entry != null) {
+                // Un error no debe terminar el único hilo escritor: la cola seguiría creciendo sin nadie que la vacíe
+                try {
+                    write(entry);
+                    dirty = true;
+                } catch (RuntimeException ex) {
+                    log.warn("Se descartó un registro de auditoría de {} {}", entry.entidad(), entry.entidadId(), ex);
+                }
+                continue;
+            }
+            if (dirty && System.nanoTime() - lastForce >= forceIntervalNanos) {
+                lastForce = System.nanoTime();
+                try {
+                    current().force();
+                    dirty = false;
+                } catch (RuntimeException ex) {
+                    log.warn("No se pudo bajar a disco el segmento de auditoría", ex);
+                }
+            }
+            LockSupport.parkNanos(this, forceIntervalNanos);
+        }
+        try {
+            current().force();
+        } catch (RuntimeException ex) {
+            log.warn("No se pudo bajar a disco el segmento de auditoría", ex);
+        }
+    }
+
+    private void write(AuditEntry entry) {
+        try {
+            if (current().isFull()) {
+                current().force();
+                rotate();
+            }
+        } catch (IOException ex) {
+            // Sin segmento nuevo el registro se descarta; reintentar bloquearía la cola indefinidamente
+            return;
+        }
+        // Fechas no decrecientes dentro del log para poder buscar rangos por bisección
+        lastFecha = Math.max(lastFecha, entry.fecha());
+        current().append(new AuditEntry(lastFecha, entry.usuario(), entry.entidad(), entry.operacion(),
+                entry.entidadId(), entry.huellaAnterior(), entry.huellaNueva()));
+    }
+
+    private void rotate() throws IOException {
+        Path file = directory.resolve(String.format("%s%012d%s", PREFIX, nextSegment++, SUFFIX));
+        segments.add(AuditSegment.open(file, recordsPerSegment));
+        while (segments.size() > maxSegments) {
+            AuditSegment oldest = segments.remove(0);
+            Files.deleteIfExists(oldest.path());
+        }
+    }
+
+    private AuditSegment current() {
+        return segments.get(segments.size() - 1);
+    }
+
+    private static long segmentNumber(Path file) {
+        String name = file.getFileName().toString();
+        try {
+            return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+        } catch (NumberFormatException ex) {
+            return 0;
+        }
+    }
+}
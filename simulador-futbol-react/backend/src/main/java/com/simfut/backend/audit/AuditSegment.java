@@ -0,0 +1,196 @@
+package com.simfut.backend.audit;
+
+import com.simfut.backend.model.Cambio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * Archivo de tamaño fijo mapeado en memoria con registros de 128 bytes. Una ranura con fecha 0
+ * está libre; como las fechas se escriben en orden no decreciente, tanto el primer hueco como el
+ * inicio de un rango se ubican por búsqueda binaria.
+ *
+ * Layout: fecha (8), entidadId (8), huella anterior (8), huella nueva (8), entidad (1),
+ * operación (1), largo del usuario (1), reservado (1), usuario UTF-8 (88), CRC32C (4).
+ */
+final class AuditSegment {
+
+    static final int RECORD_SIZE = 128;
+
+    private static final int ENTIDAD_OFFSET = 32;
+    private static final int OPERACION_OFFSET = 33;
+    private static final int USUARIO_LENGTH_OFFSET = 34;
+    private static final int USUARIO_OFFSET = 36;
+    private static final int USUARIO_MAX = 88;
+    private static final int CRC_OFFSET = RECORD_SIZE - Integer.BYTES;
+
+    private static final Cambio.Entidad[] ENTIDADES = Cambio.Entidad.values();
+    private static final Cambio.Operacion[] OPERACIONES = Cambio.Operacion.values();
+
+    private final Path path;
+    private final int capacity;
+    private final MappedByteBuffer buffer;
+    private final CRC32C crc = new CRC32C();
+    private volatile int count;
+    private volatile long firstFecha;
+    private volatile long lastFecha;
+
+    private AuditSegment(Path path, int capacity, MappedByteBuffer buffer) {
+        this.path = path;
+        this.capacity = capacity;
+        this.buffer = buffer;
+    }
+
+    static AuditSegment open(Path path, int capacity) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // El mapeo sigue siendo válido después de cerrar el canal
+            AuditSegment segment = new AuditSegment(path, capacity,
+                    channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) capacity * RECORD_SIZE));
+            segment.recover();
+            return segment;
+        }
+    }
+
+    Path path() {
+        return path;
+    }
+
+    boolean isFull() {
+        return count == capacity;
+    }
+
+    boolean isEmpty() {
+        return count == 0;
+    }
+
+    long firstFecha() {
+        return firstFecha;
+    }
+
+    long lastFecha() {
+        return lastFecha;
+    }
+
+    /** Solo lo invoca el hilo escritor. */
+    void append(AuditEntry entry) {
+        int index = count;
+        int base = index * RECORD_SIZE;
+        byte[] usuario = truncate(entry.usuario());
+        buffer.putLong(base, entry.fecha());
+        buffer.putLong(base + 8, entry.entidadId());
+        buffer.putLong(base + 16, entry.huellaAnterior());
+        buffer.putLong(base + 24, entry.huellaNueva());
+        buffer.put(base + ENTIDAD_OFFSET, (byte) entry.entidad().ordinal());
+        buffer.put(base + OPERACION_OFFSET, (byte) entry.operacion().ordinal());
+        buffer.put(base + USUARIO_LENGTH_OFFSET, (byte) usuario.length);
+        buffer.put(base + USUARIO_OFFSET, usuario);
+        buffer.putInt(base + CRC_OFFSET, checksum(buffer, base));
+        if (index == 0) {
+            firstFecha = entry.fecha();
+        }
+        lastFecha = entry.fecha();
+        // La escritura volátil publica el registro completo a los lectores
+        count = index + 1;
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    /** Agrega a {@code out} los registros con fecha en [desde, hasta] hasta completar {@code limite}. */
+    void read(long desde, long hasta, int limite, List<AuditEntry> out) {
+        int published = count;
+        if (published == 0 || lastFecha < desde || firstFecha > hasta) {
+            return;
+        }
+        ByteBuffer view = buffer.duplicate();
+        CRC32C readCrc = new CRC32C();
+        int low = 0;
+        int high = published;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (view.getLong(mid * RECORD_SIZE) < desde) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        for (int i = low; i < published && out.size() < limite; i++) {
+            int base = i * RECORD_SIZE;
+            long fecha = view.getLong(base);
+            if (fecha > hasta) {
+                return;
+            }
+            if (checksum(view, base, readCrc) != view.getInt(base + CRC_OFFSET)) {
+                continue;
+            }
+            byte[] usuario = new byte[view.get(base + USUARIO_LENGTH_OFFSET)];
+            view.get(base + USUARIO_OFFSET, usuario);
+            out.add(new AuditEntry(
+                    fecha,
+                    new String(usuario, StandardCharsets.UTF_8),
+                    ENTIDADES[view.get(base + ENTIDAD_OFFSET)],
+                    OPERACIONES[view.get(base + OPERACION_OFFSET)],
+                    view.getLong(base + 8),
+                    view.getLong(base + 16),
+                    view.getLong(base + 24)
+            ));
+        }
+    }
+
+    private void recover() {
+        int low = 0;
+        int high = capacity;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (buffer.getLong(mid * RECORD_SIZE) != 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        // Un último registro con CRC inválido quedó a medio escribir: se sobrescribe
+        if (low > 0 && checksum(buffer, (low - 1) * RECORD_SIZE) != buffer.getInt((low - 1) * RECORD_SIZE + CRC_OFFSET)) {
+            low--;
+            buffer.put(low * RECORD_SIZE, new byte[RECORD_SIZE]);
+        }
+        if (low > 0) {
+            firstFecha = buffer.getLong(0);
+            lastFecha = buffer.getLong((low - 1) * RECORD_SIZE);
+        }
+        count = low;
+    }
+
+    private int checksum(ByteBuffer source, int base) {
+        return checksum(source, base, crc);
+    }
+
+    private static int checksum(ByteBuffer source, int base, CRC32C crc) {
+        crc.reset();
+        crc.update(source.slice(base, CRC_OFFSET));
+        return (int) crc.getValue();
+    }
+
+    private static byte[] truncate(String usuario) {
+        byte[] bytes = (usuario != null ? usuario : "").getBytes(StandardCharsets.UTF_8);
+        if (bytes.length <= USUARIO_MAX) {
+            return bytes;
+        }
+        int length = USUARIO_MAX;
+        // No cortar una secuencia UTF-8 multibyte a la mitad
+        while (length > 0 && (bytes[length] & 0xC0) == 0x80) {
+            length--;
+        }
+        byte[] truncated = new byte[length];
+        System.arraycopy(bytes, 0, truncated, 0, length);
+        return truncated;
+    }
+}
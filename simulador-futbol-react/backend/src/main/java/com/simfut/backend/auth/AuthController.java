@@ -2,17 +2,22 @@ package com.simfut.backend.auth;
 
 import com.simfut.backend.auth.dto.AuthResponse;
 import com.simfut.backend.auth.dto.LoginRequest;
+import com.simfut.backend.auth.dto.RefreshRequest;
 import com.simfut.backend.auth.dto.RegisterRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/api/auth")
 @Tag(name = "Autenticación", description = "Gestión de usuarios y tokens JWT")
@@ -27,13 +32,28 @@ public class AuthController {
     @PostMapping("/register")
     @ResponseStatus(HttpStatus.CREATED)
     @Operation(summary = "Registrar usuario y emitir JWT")
-    public AuthResponse register(@Valid @RequestBody RegisterRequest request) {
+    public CompletableFuture<AuthResponse> register(@Valid @RequestBody RegisterRequest request) {
         return authService.register(request);
     }
 
     @PostMapping("/login")
     @Operation(summary = "Iniciar sesión y obtener JWT")
-    public AuthResponse login(@Valid @RequestBody LoginRequest request) {
+    public CompletableFuture<AuthResponse> login(@Valid @RequestBody LoginRequest request) {
         return authService.login(request);
     }
+
+    @PostMapping("/refresh")
+    @Operation(summary = "Rotar el token de refresco y emitir un nuevo JWT")
+    public AuthResponse refresh(@Valid @RequestBody RefreshRequest request) {
+        return authService.refresh(request);
+    }
+
+    @PostMapping("/logout")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @Operation(summary = "Revocar el JWT actual y, opcionalmente, el token de refresco")
+    public void logout(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+                       @RequestBody(required = false) RefreshRequest request) {
+        String accessToken = authorization != null && authorization.startsWith("Bearer ") ? authorization.substring(7) : null;
+        authService.logout(accessToken, request != null ? request.getRefreshToken() : null);
+    }
 }
@@ -2,14 +2,17 @@ package com.simfut.backend.auth;
 
 import com.simfut.backend.auth.dto.AuthResponse;
 import com.simfut.backend.auth.dto.LoginRequest;
+import com.simfut.backend.auth.dto.RefreshRequest;
 import com.simfut.backend.auth.dto.RegisterRequest;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.AuthenticationException;
-import org.springframework.security.core.userdetails.UserDetailsService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 public class AuthService {
@@ -17,46 +20,107 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
-    private final AuthenticationManager authenticationManager;
-    private final UserDetailsService userDetailsService;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final TokenRevocationList tokenRevocationList;
+    private final String dummyHash;
 
     public AuthService(UserRepository userRepository,
                        PasswordEncoder passwordEncoder,
                        JwtService jwtService,
-                       AuthenticationManager authenticationManager,
-                       UserDetailsService userDetailsService) {
+                       PasswordHashingExecutor passwordHashingExecutor,
+                       TokenRevocationList tokenRevocationList) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtService = jwtService;
-        this.authenticationManager = authenticationManager;
-        this.userDetailsService = userDetailsService;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.tokenRevocationList = tokenRevocationList;
+        this.dummyHash = passwordEncoder.encode("simfut-dummy-password");
     }
 
-    @Transactional
-    public AuthResponse register(RegisterRequest request) {
+    public CompletableFuture<AuthResponse> register(RegisterRequest request) {
+        // Corta temprano el caso común; la restricción única resuelve los registros simultáneos
         if (userRepository.existsByUsername(request.getUsername())) {
             throw new IllegalArgumentException("El usuario ya existe");
         }
-        UserAccount user = new UserAccount(
-                request.getUsername(),
-                passwordEncoder.encode(request.getPassword()),
-                request.getRole()
-        );
-        userRepository.save(user);
-        String jwt = jwtService.generateToken(user);
-        return new AuthResponse(jwt, user.getUsername(), user.getRole());
+        return passwordHashingExecutor.submit(() -> {
+            UserAccount user = new UserAccount(
+                    request.getUsername(),
+                    passwordEncoder.encode(request.getPassword()),
+                    request.getRole()
+            );
+            try {
+                userRepository.save(user);
+            } catch (DataIntegrityViolationException ex) {
+                throw new IllegalArgumentException("El usuario ya existe");
+            }
+            return issueTokens(user, null);
+        });
+    }
+
+    public CompletableFuture<AuthResponse> login(LoginRequest request) {
+        Optional<UserAccount> found = userRepository.findByUsername(request.getUsername());
+        return passwordHashingExecutor.submit(() -> {
+            // Sin usuario se compara contra un hash fijo para no revelar su existencia por tiempo de respuesta
+            String storedHash = found.map(UserAccount::getPassword).orElse(dummyHash);
+            boolean matches = passwordEncoder.matches(request.getPassword(), storedHash);
+            if (found.isEmpty() || !matches) {
+                throw new IllegalArgumentException("Credenciales inválidas");
+            }
+            UserAccount user = found.get();
+            if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+                user.setPassword(passwordEncoder.encode(request.getPassword()));
+                userRepository.save(user);
+            }
+            return issueTokens(user, null);
+        });
+    }
+
+    public AuthResponse refresh(RefreshRequest request) {
+        Claims claims = parseRefreshToken(request.getRefreshToken());
+        String family = claims.get(JwtService.FAMILY_CLAIM, String.class);
+        // Revocar el token es la compuerta: de dos refrescos concurrentes con el mismo token solo uno lo logra
+        if (tokenRevocationList.isRevoked(family)
+                || !tokenRevocationList.revoke(claims.getId(), claims.getExpiration().toInstant())) {
+            // Reutilizar un token ya rotado indica robo: se invalida toda la familia
+            tokenRevocationList.revoke(family, Instant.now().plusMillis(jwtService.getRefreshExpirationMs()));
+            throw new IllegalArgumentException("Token de refresco inválido");
+        }
+        UserAccount user = userRepository.findByUsername(claims.getSubject())
+                .orElseThrow(() -> new IllegalArgumentException("Token de refresco inválido"));
+        return issueTokens(user, family);
     }
 
-    public AuthResponse login(LoginRequest request) {
+    public void logout(String accessToken, String refreshToken) {
+        if (accessToken != null) {
+            try {
+                Claims claims = jwtService.parseClaims(accessToken);
+                tokenRevocationList.revoke(claims.getId(), claims.getExpiration().toInstant());
+            } catch (JwtException | IllegalArgumentException ignored) {
+                // Un token inválido o expirado ya no concede acceso
+            }
+        }
+        if (refreshToken != null && !refreshToken.isBlank()) {
+            Claims claims = parseRefreshToken(refreshToken);
+            tokenRevocationList.revoke(claims.get(JwtService.FAMILY_CLAIM, String.class),
+                    Instant.now().plusMillis(jwtService.getRefreshExpirationMs()));
+        }
+    }
+
+    private Claims parseRefreshToken(String refreshToken) {
         try {
-            authenticationManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(request.getUsername(), request.getPassword())
-            );
-        } catch (AuthenticationException ex) {
-            throw new IllegalArgumentException("Credenciales inválidas");
+            Claims claims = jwtService.parseClaims(refreshToken);
+            if (!JwtService.REFRESH_TOKEN.equals(claims.get(JwtService.TOKEN_TYPE_CLAIM))) {
+                throw new IllegalArgumentException("Token de refresco inválido");
+            }
+            return claims;
+        } catch (JwtException ex) {
+            throw new IllegalArgumentException("Token de refresco inválido");
         }
-        UserAccount userDetails = (UserAccount) userDetailsService.loadUserByUsername(request.getUsername());
-        String jwt = jwtService.generateToken(userDetails);
-        return new AuthResponse(jwt, userDetails.getUsername(), userDetails.getRole());
+    }
+
+    private AuthResponse issueTokens(UserAccount user, String family) {
+        String jwt = jwtService.generateToken(user);
+        String refreshToken = jwtService.generateRefreshToken(user, family);
+        return new AuthResponse(jwt, refreshToken, user.getUsername(), user.getRole());
     }
 }
@@ -11,18 +11,28 @@ import org.springframework.stereotype.Service;
 
 import java.security.Key;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Service
 public class JwtService {
 
+    public static final String TOKEN_TYPE_CLAIM = "typ";
+    public static final String FAMILY_CLAIM = "fam";
+    public static final String ACCESS_TOKEN = "access";
+    public static final String REFRESH_TOKEN = "refresh";
+
     @Value("${security.jwt.secret}")
     private String secret;
 
     @Value("${security.jwt.expiration}")
     private long jwtExpirationMs;
 
+    @Value("${security.jwt.refresh-expiration:604800000}")
+    private long refreshExpirationMs;
+
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
@@ -32,19 +42,25 @@ public class JwtService {
         return claimsResolver.apply(claims);
     }
 
+    public Claims parseClaims(String token) {
+        return extractAllClaims(token);
+    }
+
     public String generateToken(UserDetails userDetails) {
         return generateToken(Map.of("role", userDetails.getAuthorities().stream().findFirst().map(Object::toString).orElse("")), userDetails);
     }
 
     public String generateToken(Map<String, Object> extraClaims, UserDetails userDetails) {
-        Date now = new Date();
-        return Jwts.builder()
-                .setClaims(extraClaims)
-                .setSubject(userDetails.getUsername())
-                .setIssuedAt(now)
-                .setExpiration(new Date(now.getTime() + jwtExpirationMs))
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256)
-                .compact();
+        Map<String, Object> claims = new HashMap<>(extraClaims);
+        claims.put(TOKEN_TYPE_CLAIM, ACCESS_TOKEN);
+        return buildToken(claims, userDetails.getUsername(), jwtExpirationMs);
+    }
+
+    public String generateRefreshToken(UserDetails userDetails, String family) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(TOKEN_TYPE_CLAIM, REFRESH_TOKEN);
+        claims.put(FAMILY_CLAIM, family != null ? family : UUID.randomUUID().toString());
+        return buildToken(claims, userDetails.getUsername(), refreshExpirationMs);
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
@@ -52,6 +68,27 @@ public class JwtService {
         return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
     }
 
+    public boolean isAccessToken(Claims claims) {
+        Object type = claims.get(TOKEN_TYPE_CLAIM);
+        return type == null || ACCESS_TOKEN.equals(type);
+    }
+
+    public long getRefreshExpirationMs() {
+        return refreshExpirationMs;
+    }
+
+    private String buildToken(Map<String, Object> claims, String subject, long expirationMs) {
+        Date now = new Date();
+        return Jwts.builder()
+                .setClaims(claims)
+                .setId(UUID.randomUUID().toString())
+                .setSubject(subject)
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + expirationMs))
+                .signWith(getSignInKey(), SignatureAlgorithm.HS256)
+                .compact();
+    }
+
     private boolean isTokenExpired(String token) {
         return extractExpiration(token).before(new Date());
     }
@@ -0,0 +1,20 @@
+package com.simfut.backend.auth;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+@Transactional
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    List<RevokedToken> findByExpiresAtAfter(Instant instant);
+
+    @Modifying
+    @Transactional
+    @Query("delete from RevokedToken t where t.expiresAt <= :instant")
+    int deleteExpired(Instant instant);
+}
@@ -0,0 +1,111 @@
+package com.simfut.backend.auth;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lista de tokens revocados consultada en cada request autenticada. Un filtro de Bloom
+ * descarta sin contención la gran mayoría de tokens vigentes; solo los posibles positivos
+ * se confirman contra el mapa. La base de datos se usa únicamente para sobrevivir reinicios.
+ */
+@Component
+public class TokenRevocationList {
+
+    private static final int HASHES = 4;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final int bloomBits;
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private volatile AtomicLongArray bloom;
+
+    public TokenRevocationList(RevokedTokenRepository revokedTokenRepository,
+                               @Value("${security.jwt.revocation.bloom-bits:1048576}") int bloomBits) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.bloomBits = Math.max(64, bloomBits);
+        this.bloom = new AtomicLongArray(this.bloomBits / 64);
+    }
+
+    @PostConstruct
+    void load() {
+        for (RevokedToken token : revokedTokenRepository.findByExpiresAtAfter(Instant.now())) {
+            revoked.put(token.getTokenId(), token.getExpiresAt().toEpochMilli());
+            setBits(bloom, token.getTokenId());
+        }
+    }
+
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null || !mightContain(bloom, tokenId)) {
+            return false;
+        }
+        Long expiresAt = revoked.get(tokenId);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    /** @return true solo si esta llamada revocó el token; false si ya estaba revocado o no aplica */
+    public synchronized boolean revoke(String tokenId, Instant expiresAt) {
+        if (tokenId == null || expiresAt == null || !expiresAt.isAfter(Instant.now())) {
+            return false;
+        }
+        if (revoked.putIfAbsent(tokenId, expiresAt.toEpochMilli()) != null) {
+            return false;
+        }
+        revokedTokenRepository.save(new RevokedToken(tokenId, expiresAt));
+        setBits(bloom, tokenId);
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "${security.jwt.revocation.prune-interval-ms:300000}")
+    public synchronized void prune() {
+        long now = System.currentTimeMillis();
+        if (!revoked.values().removeIf(expiresAt -> expiresAt <= now)) {
+            return;
+        }
+        AtomicLongArray rebuilt = new AtomicLongArray(bloomBits / 64);
+        revoked.keySet().forEach(tokenId -> setBits(rebuilt, tokenId));
+        bloom = rebuilt;
+        revokedTokenRepository.deleteExpired(Instant.ofEpochMilli(now));
+    }
+
+    private boolean mightContain(AtomicLongArray bits, String tokenId) {
+        long hash = hash64(tokenId);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < HASHES; i++) {
+            int bit = Math.floorMod(h1 + i * h2, bits.length() * 64);
+            if ((bits.get(bit >>> 6) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void setBits(AtomicLongArray bits, String tokenId) {
+        long hash = hash64(tokenId);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < HASHES; i++) {
+            int bit = Math.floorMod(h1 + i * h2, bits.length() * 64);
+            long mask = 1L << bit;
+            bits.getAndAccumulate(bit >>> 6, mask, (current, m) -> current | m);
+        }
+    }
+
+    private static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
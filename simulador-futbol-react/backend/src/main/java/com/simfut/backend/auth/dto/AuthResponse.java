@@ -4,11 +4,13 @@ import com.simfut.backend.auth.Role;
 
 public class AuthResponse {
     private String token;
+    private String refreshToken;
     private String username;
     private Role role;
 
-    public AuthResponse(String token, String username, Role role) {
+    public AuthResponse(String token, String refreshToken, String username, Role role) {
         this.token = token;
+        this.refreshToken = refreshToken;
         this.username = username;
         this.role = role;
     }
@@ -17,6 +19,10 @@ public class AuthResponse {
         return token;
     }
 
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
     public String getUsername() {
         return username;
     }
@@ -0,0 +1,136 @@
+package com.simfut.backend.bulkhead;
+
+import com.simfut.backend.controller.dto.BulkheadEstado;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Límite de concurrencia de una clase de carga con cola acotada. El límite se ajusta por AIMD
+ * con la latencia observada: cada respuesta dentro del objetivo suma 1/límite (en total, +1 por
+ * cada límite de respuestas mientras la clase usa al menos la mitad), y una respuesta lenta lo
+ * multiplica por el factor de retroceso. Como en TCP, el retroceso se aplica una vez por
+ * ventana: solo cuentan las respuestas admitidas después de la última reducción.
+ *
+ * Quien llega con cupos libres y sin cola entra directo; si no, espera en la cola hasta el plazo
+ * configurado, y con la cola llena se rechaza sin esperar.
+ */
+final class AdaptiveBulkhead {
+
+    /** Peso de la última muestra en el promedio móvil de latencia. */
+    private static final double ALFA = 0.1;
+
+    private final String nombre;
+    private final int minimo;
+    private final int maximo;
+    private final int maxCola;
+    private final long esperaMaximaNanos;
+    private final long objetivoNanos;
+    private final double retroceso;
+    private final boolean retenerAsync;
+
+    private double limite;
+    private int enCurso;
+    private int enCola;
+    private long ultimaReduccion;
+    private double latenciaMediaNanos;
+    private long admitidos;
+    private long encolados;
+    private long rechazados;
+    private long vencidos;
+    private long esperados;
+    private long esperaTotalNanos;
+    private long reducciones;
+
+    AdaptiveBulkhead(BulkheadProperties.WorkloadClass config) {
+        if (config.getName() == null || config.getPaths().isEmpty() || config.getMinLimit() < 1
+                || config.getMaxLimit() < config.getMinLimit() || config.getMaxQueue() < 0
+                || config.getBackoffRatio() <= 0 || config.getBackoffRatio() >= 1) {
+            throw new IllegalArgumentException("Clase de carga inválida: " + config.getName());
+        }
+        this.nombre = config.getName();
+        this.minimo = config.getMinLimit();
+        this.maximo = config.getMaxLimit();
+        this.maxCola = config.getMaxQueue();
+        this.esperaMaximaNanos = TimeUnit.MILLISECONDS.toNanos(config.getQueueTimeoutMs());
+        this.objetivoNanos = TimeUnit.MILLISECONDS.toNanos(config.getLatencyTargetMs());
+        this.retroceso = config.getBackoffRatio();
+        this.retenerAsync = config.isHoldAsync();
+        this.limite = Math.max(minimo, Math.min(maximo, config.getInitialLimit()));
+        this.ultimaReduccion = System.nanoTime();
+    }
+
+    String nombre() {
+        return nombre;
+    }
+
+    boolean retenerAsync() {
+        return retenerAsync;
+    }
+
+    /** @return false si la cola estaba llena o venció la espera */
+    synchronized boolean adquirir() throws InterruptedException {
+        if (enCola == 0 && enCurso < (int) limite) {
+            return admitir();
+        }
+        if (enCola >= maxCola) {
+            rechazados++;
+            return false;
+        }
+        enCola++;
+        encolados++;
+        long llegada = System.nanoTime();
+        try {
+            long restante = esperaMaximaNanos;
+            while (enCurso >= (int) limite) {
+                if (restante <= 0) {
+                    vencidos++;
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, restante);
+                restante = esperaMaximaNanos - (System.nanoTime() - llegada);
+            }
+            esperados++;
+            esperaTotalNanos += System.nanoTime() - llegada;
+            return admitir();
+        } finally {
+            enCola--;
+        }
+    }
+
+    /**
+     * Devuelve el permiso tomado en {@code admision} (nanoTime). Con {@code muestra} la duración alimenta el ajuste del límite; las
+     * respuestas asíncronas retenidas no cuentan porque su duración depende del tamaño del envío.
+     */
+    synchronized void liberar(long admision, boolean muestra) {
+        enCurso--;
+        if (muestra) {
+            long latencia = System.nanoTime() - admision;
+            latenciaMediaNanos = latenciaMediaNanos == 0 ? latencia
+                    : latenciaMediaNanos + ALFA * (latencia - latenciaMediaNanos);
+            if (latencia > objetivoNanos) {
+                if (admision - ultimaReduccion > 0) {
+                    limite = Math.max(minimo, limite * retroceso);
+                    ultimaReduccion = System.nanoTime();
+                    reducciones++;
+                }
+            } else if ((enCurso + 1) * 2 >= limite) {
+                limite = Math.min(maximo, limite + 1 / limite);
+            }
+        }
+        notifyAll();
+    }
+
+    synchronized BulkheadEstado estado() {
+        return new BulkheadEstado(nombre, Math.round(limite * 100) / 100.0, minimo, maximo, enCurso, enCola, maxCola,
+                admitidos, encolados, rechazados, vencidos,
+                esperados > 0 ? TimeUnit.NANOSECONDS.toMicros(esperaTotalNanos / esperados) / 1000.0 : 0,
+                TimeUnit.NANOSECONDS.toMicros((long) latenciaMediaNanos) / 1000.0,
+                reducciones);
+    }
+
+    private boolean admitir() {
+        enCurso++;
+        admitidos++;
+        return true;
+    }
+}
@@ -0,0 +1,142 @@
+package com.simfut.backend.bulkhead;
+
+import com.simfut.backend.controller.dto.BulkheadEstado;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Compartimentos por clase de carga (autenticación, simulación, importación, CRUD), para que un
+ * tipo de pedido pesado no consuma los hilos de Tomcat ni las conexiones que necesitan los
+ * demás. La clase se elige por la primera regla cuyo patrón coincide con la ruta; lo que no
+ * coincide con ninguna pasa sin control.
+ *
+ * Las respuestas asíncronas liberan el permiso al volver el hilo de la request, salvo en las
+ * clases que piden retenerlo hasta que la respuesta termina.
+ */
+@Component
+public class BulkheadFilter extends OncePerRequestFilter {
+
+    private final BulkheadProperties properties;
+    private final List<Rule> rules;
+    private final AntPathMatcher matcher = new AntPathMatcher();
+
+    public BulkheadFilter(BulkheadProperties properties) {
+        this.properties = properties;
+        this.rules = properties.getClasses().stream().map(Rule::new).toList();
+    }
+
+    public List<BulkheadEstado> estado() {
+        return rules.stream().map(rule -> rule.bulkhead.estado()).toList();
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        AdaptiveBulkhead bulkhead = properties.isEnabled() ? resolve(request) : null;
+        if (bulkhead == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        boolean admitido;
+        try {
+            admitido = bulkhead.adquirir();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            admitido = false;
+        }
+        if (!admitido) {
+            reject(response, bulkhead.nombre());
+            return;
+        }
+
+        long admision = System.nanoTime();
+        AtomicBoolean liberado = new AtomicBoolean();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted() && bulkhead.retenerAsync()) {
+                request.getAsyncContext().addListener(new Release(bulkhead, admision, liberado));
+            } else if (liberado.compareAndSet(false, true)) {
+                bulkhead.liberar(admision, true);
+            }
+        }
+    }
+
+    private AdaptiveBulkhead resolve(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        for (Rule rule : rules) {
+            for (String path : rule.paths) {
+                if (matcher.match(path, uri)) {
+                    return rule.bulkhead;
+                }
+            }
+        }
+        return null;
+    }
+
+    private void reject(HttpServletResponse response, String clase) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(properties.getRetryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().write("{\"timestamp\":\"" + LocalDateTime.now()
+                + "\",\"status\":503,\"error\":\"Servicio saturado (" + clase + "), intente nuevamente\"}");
+    }
+
+    private static final class Rule {
+
+        private final List<String> paths;
+        private final AdaptiveBulkhead bulkhead;
+
+        private Rule(BulkheadProperties.WorkloadClass config) {
+            this.paths = List.copyOf(config.getPaths());
+            this.bulkhead = new AdaptiveBulkhead(config);
+        }
+    }
+
+    private record Release(AdaptiveBulkhead bulkhead, long admision, AtomicBoolean liberado) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+
+        private void release() {
+            if (liberado.compareAndSet(false, true)) {
+                bulkhead.liberar(admision, false);
+            }
+        }
+    }
+}
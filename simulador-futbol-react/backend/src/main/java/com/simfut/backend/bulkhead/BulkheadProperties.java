@@ -0,0 +1,135 @@
+package com.simfut.backend.bulkhead;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@ConfigurationProperties(prefix = "bulkhead")
+public class BulkheadProperties {
+
+    private boolean enabled = true;
+    private long retryAfterSeconds = 1;
+    private List<WorkloadClass> classes = new ArrayList<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    public void setRetryAfterSeconds(long retryAfterSeconds) {
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public List<WorkloadClass> getClasses() {
+        return classes;
+    }
+
+    public void setClasses(List<WorkloadClass> classes) {
+        this.classes = classes;
+    }
+
+    public static class WorkloadClass {
+
+        private String name;
+        private List<String> paths = new ArrayList<>();
+        private int initialLimit = 16;
+        private int minLimit = 1;
+        private int maxLimit = 64;
+        private int maxQueue = 32;
+        private long queueTimeoutMs = 500;
+        private long latencyTargetMs = 500;
+        private double backoffRatio = 0.9;
+        /** Retiene el permiso hasta que termina la respuesta asíncrona (p. ej. StreamingResponseBody). */
+        private boolean holdAsync;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public List<String> getPaths() {
+            return paths;
+        }
+
+        public void setPaths(List<String> paths) {
+            this.paths = paths;
+        }
+
+        public int getInitialLimit() {
+            return initialLimit;
+        }
+
+        public void setInitialLimit(int initialLimit) {
+            this.initialLimit = initialLimit;
+        }
+
+        public int getMinLimit() {
+            return minLimit;
+        }
+
+        public void setMinLimit(int minLimit) {
+            this.minLimit = minLimit;
+        }
+
+        public int getMaxLimit() {
+            return maxLimit;
+        }
+
+        public void setMaxLimit(int maxLimit) {
+            this.maxLimit = maxLimit;
+        }
+
+        public int getMaxQueue() {
+            return maxQueue;
+        }
+
+        public void setMaxQueue(int maxQueue) {
+            this.maxQueue = maxQueue;
+        }
+
+        public long getQueueTimeoutMs() {
+            return queueTimeoutMs;
+        }
+
+        public void setQueueTimeoutMs(long queueTimeoutMs) {
+            this.queueTimeoutMs = queueTimeoutMs;
+        }
+
+        public long getLatencyTargetMs() {
+            return latencyTargetMs;
+        }
+
+        public void setLatencyTargetMs(long latencyTargetMs) {
+            this.latencyTargetMs = latencyTargetMs;
+        }
+
+        public double getBackoffRatio() {
+            return backoffRatio;
+        }
+
+        public void setBackoffRatio(double backoffRatio) {
+            this.backoffRatio = backoffRatio;
+        }
+
+        public boolean isHoldAsync() {
+            return holdAsync;
+        }
+
+        public void setHoldAsync(boolean holdAsync) {
+            this.holdAsync = holdAsync;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.simfut.backend.config;
 
 import com.simfut.backend.auth.UserAccount;
 import com.simfut.backend.auth.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -16,9 +17,12 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 public class ApplicationConfig {
 
     private final UserRepository userRepository;
+    private final int bcryptStrength;
 
-    public ApplicationConfig(UserRepository userRepository) {
+    public ApplicationConfig(UserRepository userRepository,
+                             @Value("${security.password.bcrypt-strength:10}") int bcryptStrength) {
         this.userRepository = userRepository;
+        this.bcryptStrength = bcryptStrength;
     }
 
     @Bean
@@ -42,6 +46,12 @@ public class ApplicationConfig {
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BCryptPasswordEncoder(bcryptStrength) {
+            @Override
+            public boolean upgradeEncoding(String encodedPassword) {
+                return encodedPassword != null && encodedPassword.length() > 6
+                        && !encodedPassword.startsWith(String.format("%02d$", bcryptStrength), 4);
+            }
+        };
     }
 }
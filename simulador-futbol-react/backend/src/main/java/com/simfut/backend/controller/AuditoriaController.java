@@ -0,0 +1,37 @@
+package com.simfut.backend.controller;
+
+import com.simfut.backend.audit.AuditLog;
+import com.simfut.backend.controller.dto.AuditoriaResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Instant;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/auditoria")
+@Tag(name = "Auditoría", description = "Bitácora de escrituras administrativas")
+@PreAuthorize("hasRole('ADMIN')")
+public class AuditoriaController {
+
+    private final AuditLog auditLog;
+
+    public AuditoriaController(AuditLog auditLog) {
+        this.auditLog = auditLog;
+    }
+
+    @GetMapping
+    @Operation(summary = "Listar registros de auditoría en un rango de fechas (ISO-8601), en orden cronológico")
+    public List<AuditoriaResponse> find(@RequestParam(required = false) Instant desde,
+                                        @RequestParam(required = false) Instant hasta,
+                                        @RequestParam(defaultValue = "1000") int limit) {
+        return auditLog.buscar(desde, hasta, limit).stream()
+                .map(AuditoriaResponse::new)
+                .toList();
+    }
+}
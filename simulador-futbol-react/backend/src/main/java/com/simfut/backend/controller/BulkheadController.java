@@ -0,0 +1,31 @@
+package com.simfut.backend.controller;
+
+import com.simfut.backend.bulkhead.BulkheadFilter;
+import com.simfut.backend.controller.dto.BulkheadEstado;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/bulkheads")
+@Tag(name = "Bulkheads", description = "Control de admisión por clase de carga")
+@PreAuthorize("hasRole('ADMIN')")
+public class BulkheadController {
+
+    private final BulkheadFilter bulkheadFilter;
+
+    public BulkheadController(BulkheadFilter bulkheadFilter) {
+        this.bulkheadFilter = bulkheadFilter;
+    }
+
+    @GetMapping
+    @Operation(summary = "Límite vigente, ocupación, cola y rechazos de cada clase de carga")
+    public List<BulkheadEstado> estado() {
+        return bulkheadFilter.estado();
+    }
+}
@@ -0,0 +1,34 @@
+package com.simfut.backend.controller;
+
+import com.simfut.backend.controller.dto.CambiosResponse;
+import com.simfut.backend.service.CambioService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.CompletableFuture;
+
+@RestController
+@RequestMapping("/api/cambios")
+@Tag(name = "Cambios", description = "Registro de cambios para sincronización incremental")
+@PreAuthorize("hasAnyRole('USER','ADMIN')")
+public class CambioController {
+
+    private final CambioService cambioService;
+
+    public CambioController(CambioService cambioService) {
+        this.cambioService = cambioService;
+    }
+
+    @GetMapping
+    @Operation(summary = "Listar cambios posteriores a una secuencia, esperando hasta wait segundos si no hay ninguno")
+    public CompletableFuture<CambiosResponse> findSince(@RequestParam(defaultValue = "0") long since,
+                                                       @RequestParam(defaultValue = "100") int limit,
+                                                       @RequestParam(defaultValue = "0") long wait) {
+        return cambioService.consultar(since, limit, wait);
+    }
+}
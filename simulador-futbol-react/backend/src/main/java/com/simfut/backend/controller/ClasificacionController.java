@@ -0,0 +1,36 @@
+package com.simfut.backend.controller;
+
+import com.simfut.backend.controller.dto.ClasificacionFila;
+import com.simfut.backend.index.ClasificacionIndex;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/clasificacion")
+@Tag(name = "Clasificación", description = "Tabla de posiciones histórica")
+@PreAuthorize("hasAnyRole('USER','ADMIN')")
+public class ClasificacionController {
+
+    private final ClasificacionIndex clasificacionIndex;
+
+    public ClasificacionController(ClasificacionIndex clasificacionIndex) {
+        this.clasificacionIndex = clasificacionIndex;
+    }
+
+    @GetMapping
+    @Operation(summary = "Tabla de posiciones a una fecha o a la jornada N de cada equipo; sin parámetros, la actual")
+    public List<ClasificacionFila> tabla(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fecha,
+            @RequestParam(required = false) Integer jornada) {
+        return clasificacionIndex.tabla(fecha, jornada);
+    }
+}
@@ -0,0 +1,32 @@
+package com.simfut.backend.controller;
+
+import com.simfut.backend.controller.dto.CopaProbabilidades;
+import com.simfut.backend.controller.dto.CopaRequest;
+import com.simfut.backend.simulacion.CopaService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/copas")
+@Tag(name = "Copas", description = "Probabilidades de torneos a eliminación directa")
+@PreAuthorize("hasAnyRole('USER','ADMIN')")
+public class CopaController {
+
+    private final CopaService copaService;
+
+    public CopaController(CopaService copaService) {
+        this.copaService = copaService;
+    }
+
+    @PostMapping("/probabilidades")
+    @Operation(summary = "Probabilidad exacta de cada equipo de llegar a cada ronda y de ser campeón")
+    public CopaProbabilidades probabilidades(@Valid @RequestBody CopaRequest request) {
+        return copaService.probabilidades(request);
+    }
+}
@@ -0,0 +1,29 @@
+package com.simfut.backend.controller;
+
+import com.simfut.backend.controller.dto.DashboardResponse;
+import com.simfut.backend.service.DashboardService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/dashboard")
+@Tag(name = "Tablero", description = "Resumen agregado para la página de inicio")
+@PreAuthorize("hasAnyRole('USER','ADMIN')")
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    public DashboardController(DashboardService dashboardService) {
+        this.dashboardService = dashboardService;
+    }
+
+    @GetMapping
+    @Operation(summary = "Conteos, tabla, rankings y partidos recientes y próximos; las secciones lentas se omiten")
+    public DashboardResponse resumen() {
+        return dashboardService.resumen();
+    }
+}
@@ -1,22 +1,36 @@
 package com.simfut.backend.controller;
 
+import com.simfut.backend.controller.dto.EquipoEliminacionRequest;
+import com.simfut.backend.controller.dto.EquipoFuerzaResponse;
+import com.simfut.backend.controller.dto.EquipoPatchRequest;
+import com.simfut.backend.controller.dto.MultiGetResponse;
+import com.simfut.backend.index.FuerzaEquipoIndex;
 import com.simfut.backend.model.Equipo;
 import com.simfut.backend.service.EquipoService;
+import com.simfut.backend.service.EscudoService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -26,15 +40,31 @@ import java.util.List;
 public class EquipoController {
 
     private final EquipoService equipoService;
+    private final FuerzaEquipoIndex fuerzaEquipoIndex;
+    private final EscudoService escudoService;
 
-    public EquipoController(EquipoService equipoService) {
+    public EquipoController(EquipoService equipoService,
+                            FuerzaEquipoIndex fuerzaEquipoIndex,
+                            EscudoService escudoService) {
         this.equipoService = equipoService;
+        this.fuerzaEquipoIndex = fuerzaEquipoIndex;
+        this.escudoService = escudoService;
     }
 
     @GetMapping
     @Operation(summary = "Listar equipos")
-    public List<Equipo> findAll() {
-        return equipoService.findAll();
+    public List<?> findAll(@RequestParam(required = false) String fields,
+                           @RequestParam(required = false) String embed) {
+        if (fields == null && embed == null) {
+            return equipoService.findAll();
+        }
+        return equipoService.findAll(fields, embed);
+    }
+
+    @GetMapping(params = "ids")
+    @Operation(summary = "Obtener varios equipos por id en una sola consulta")
+    public MultiGetResponse<Equipo> findAllById(@RequestParam List<Long> ids) {
+        return equipoService.findAllById(ids);
     }
 
     @GetMapping("/{id}")
@@ -43,6 +73,12 @@ public class EquipoController {
         return equipoService.findById(id);
     }
 
+    @GetMapping("/{id}/fuerza")
+    @Operation(summary = "Fuerza del equipo según su plantel: ataque, defensa y jugadores por posición")
+    public EquipoFuerzaResponse fuerza(@PathVariable Long id) {
+        return fuerzaEquipoIndex.consultar(id);
+    }
+
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     @Operation(summary = "Crear equipo")
@@ -58,11 +94,42 @@ public class EquipoController {
         return equipoService.update(id, equipo);
     }
 
+    @PatchMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @Operation(summary = "Actualizar solo los campos enviados del equipo")
+    @PreAuthorize("hasRole('ADMIN')")
+    public void patch(@PathVariable Long id, @Valid @RequestBody EquipoPatchRequest request) {
+        equipoService.patch(id, request);
+    }
+
+    @PutMapping(value = "/{id}/escudo", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Subir el escudo del equipo como archivo adjunto")
+    @PreAuthorize("hasRole('ADMIN')")
+    public Equipo subirEscudo(@PathVariable Long id, @RequestPart("archivo") MultipartFile archivo) throws IOException {
+        try (InputStream entrada = archivo.getInputStream()) {
+            return equipoService.asignarEscudo(id, escudoService.guardar(entrada));
+        }
+    }
+
+    @PutMapping(value = "/{id}/escudo", consumes = "image/*")
+    @Operation(summary = "Subir el escudo del equipo como cuerpo de la petición")
+    @PreAuthorize("hasRole('ADMIN')")
+    public Equipo subirEscudo(@PathVariable Long id, HttpServletRequest request) throws IOException {
+        return equipoService.asignarEscudo(id, escudoService.guardar(request.getInputStream()));
+    }
+
+    @DeleteMapping("/{id}/escudo")
+    @Operation(summary = "Quitar el escudo del equipo")
+    @PreAuthorize("hasRole('ADMIN')")
+    public Equipo quitarEscudo(@PathVariable Long id) {
+        return equipoService.asignarEscudo(id, null);
+    }
+
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
-    @Operation(summary = "Eliminar equipo")
+    @Operation(summary = "Eliminar equipo, decidiendo qué hacer con sus jugadores y partidos")
     @PreAuthorize("hasRole('ADMIN')")
-    public void delete(@PathVariable Long id) {
-        equipoService.delete(id);
+    public void delete(@PathVariable Long id, EquipoEliminacionRequest opciones) {
+        equipoService.delete(id, opciones);
     }
 }
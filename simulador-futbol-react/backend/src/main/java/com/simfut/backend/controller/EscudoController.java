@@ -0,0 +1,68 @@
+package com.simfut.backend.controller;
+
+import com.simfut.backend.service.EscudoService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+
+/**
+ * Escudos públicos (se cargan desde etiquetas img, sin token). El nombre incluye el hash del
+ * contenido, así que la respuesta es inmutable y se cachea por un año.
+ */
+@RestController
+@RequestMapping("/api/escudos")
+@Tag(name = "Escudos", description = "Imágenes de escudos por hash de contenido")
+public class EscudoController {
+
+    private static final String CACHE_INMUTABLE = "public, max-age=31536000, immutable";
+    // Atributos con los que Tomcat envía el archivo con sendfile al terminar la request
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final EscudoService escudoService;
+
+    public EscudoController(EscudoService escudoService) {
+        this.escudoService = escudoService;
+    }
+
+    @GetMapping("/{archivo:.+}")
+    @Operation(summary = "Escudo original (<hash>.png) o una variante (<hash>-<lado>.png)")
+    public void servir(@PathVariable String archivo,
+                       HttpServletRequest request,
+                       HttpServletResponse response) throws IOException {
+        EscudoService.Escudo escudo = escudoService.buscar(archivo);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_INMUTABLE);
+        if (new ServletWebRequest(request, response).checkNotModified(escudo.etag())) {
+            return;
+        }
+        response.setContentType(MediaType.IMAGE_PNG_VALUE);
+        response.setContentLengthLong(escudo.tamano());
+        if (HttpMethod.HEAD.matches(request.getMethod())) {
+            return;
+        }
+
+        // Solo con sendfile el kernel copia del archivo al socket sin pasar por el heap
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, escudo.path().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, escudo.tamano());
+            return;
+        }
+        // Sin sendfile (otro conector, TLS) se copia por un búfer como cualquier respuesta
+        Files.copy(escudo.path(), response.getOutputStream());
+    }
+}
@@ -0,0 +1,59 @@
+package com.simfut.backend.controller;
+
+import com.simfut.backend.service.ImportacionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/importaciones")
+@Tag(name = "Importaciones", description = "Carga masiva de planteles y fixtures desde CSV")
+@PreAuthorize("hasRole('ADMIN')")
+public class ImportacionController {
+
+    private static final String TEXT_CSV = "text/csv";
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final ImportacionService importacionService;
+
+    public ImportacionController(ImportacionService importacionService) {
+        this.importacionService = importacionService;
+    }
+
+    @PostMapping(value = "/jugadores", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Importar jugadores desde un CSV adjunto; responde el progreso como NDJSON")
+    public ResponseEntity<StreamingResponseBody> importarJugadores(@RequestPart("archivo") MultipartFile archivo) {
+        return ndjson(importacionService.importarJugadores(archivo));
+    }
+
+    @PostMapping(value = "/jugadores", consumes = TEXT_CSV)
+    @Operation(summary = "Importar jugadores desde el cuerpo text/csv de la petición")
+    public ResponseEntity<StreamingResponseBody> importarJugadores(HttpServletRequest request) {
+        return ndjson(importacionService.importarJugadores(request::getInputStream));
+    }
+
+    @PostMapping(value = "/partidos", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Importar partidos desde un CSV adjunto; responde el progreso como NDJSON")
+    public ResponseEntity<StreamingResponseBody> importarPartidos(@RequestPart("archivo") MultipartFile archivo) {
+        return ndjson(importacionService.importarPartidos(archivo));
+    }
+
+    @PostMapping(value = "/partidos", consumes = TEXT_CSV)
+    @Operation(summary = "Importar partidos desde el cuerpo text/csv de la petición")
+    public ResponseEntity<StreamingResponseBody> importarPartidos(HttpServletRequest request) {
+        return ndjson(importacionService.importarPartidos(request::getInputStream));
+    }
+
+    private ResponseEntity<StreamingResponseBody> ndjson(StreamingResponseBody body) {
+        return ResponseEntity.ok().contentType(NDJSON).body(body);
+    }
+}
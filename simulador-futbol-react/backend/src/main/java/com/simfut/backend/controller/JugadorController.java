@@ -1,7 +1,10 @@
 package com.simfut.backend.controller;
 
+import com.simfut.backend.controller.dto.JugadorPatchRequest;
 import com.simfut.backend.controller.dto.JugadorRequest;
 import com.simfut.backend.controller.dto.JugadorResponse;
+import com.simfut.backend.controller.dto.MultiGetResponse;
+import com.simfut.backend.index.JugadorSearchIndex;
 import com.simfut.backend.service.JugadorService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -10,11 +13,13 @@ import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -27,15 +32,36 @@ import java.util.List;
 public class JugadorController {
 
     private final JugadorService jugadorService;
+    private final JugadorSearchIndex jugadorSearchIndex;
 
-    public JugadorController(JugadorService jugadorService) {
+    public JugadorController(JugadorService jugadorService, JugadorSearchIndex jugadorSearchIndex) {
         this.jugadorService = jugadorService;
+        this.jugadorSearchIndex = jugadorSearchIndex;
     }
 
     @GetMapping
     @Operation(summary = "Listar jugadores")
-    public List<JugadorResponse> findAll() {
-        return jugadorService.findAll();
+    public List<?> findAll(@RequestParam(required = false) String fields,
+                           @RequestParam(required = false) String embed) {
+        if (fields == null && embed == null) {
+            return jugadorService.findAll();
+        }
+        return jugadorService.findAll(fields, embed);
+    }
+
+    @GetMapping(params = "ids")
+    @Operation(summary = "Obtener varios jugadores por id en una sola consulta")
+    public MultiGetResponse<JugadorResponse> findAllById(@RequestParam List<Long> ids) {
+        return jugadorService.findAllById(ids);
+    }
+
+    @GetMapping("/buscar")
+    @Operation(summary = "Buscar jugadores por nombre o parte de él, sin distinguir tildes ni mayúsculas")
+    public List<JugadorResponse> buscar(@RequestParam String q,
+                                        @RequestParam(required = false) String posicion,
+                                        @RequestParam(required = false) Long equipoId,
+                                        @RequestParam(defaultValue = "20") int limit) {
+        return jugadorSearchIndex.buscar(q, posicion, equipoId, limit);
     }
 
     @GetMapping("/{id}")
@@ -59,6 +85,14 @@ public class JugadorController {
         return jugadorService.update(id, request);
     }
 
+    @PatchMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @Operation(summary = "Actualizar solo los campos enviados del jugador")
+    @PreAuthorize("hasRole('ADMIN')")
+    public void patch(@PathVariable Long id, @Valid @RequestBody JugadorPatchRequest request) {
+        jugadorService.patch(id, request);
+    }
+
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @Operation(summary = "Eliminar jugador")
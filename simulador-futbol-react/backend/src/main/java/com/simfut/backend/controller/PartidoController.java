@@ -1,23 +1,35 @@
 package com.simfut.backend.controller;
 
+import com.simfut.backend.controller.dto.GolRequest;
+import com.simfut.backend.controller.dto.MarcadorResponse;
+import com.simfut.backend.controller.dto.MultiGetResponse;
+import com.simfut.backend.controller.dto.PartidoCompactoResponse;
+import com.simfut.backend.controller.dto.PartidoPatchRequest;
+import com.simfut.backend.datasource.ReadYourWritesFilter;
 import com.simfut.backend.model.Partido;
 import com.simfut.backend.service.PartidoService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/partidos")
@@ -33,8 +45,26 @@ public class PartidoController {
 
     @GetMapping
     @Operation(summary = "Listar partidos")
-    public List<Partido> findAll() {
-        return partidoService.findAll();
+    public List<?> findAll(@RequestParam(required = false) String fields,
+                           @RequestParam(required = false) String embed) {
+        if (fields == null && embed == null) {
+            return partidoService.findAll();
+        }
+        return partidoService.findAll(fields, embed);
+    }
+
+    @GetMapping("/compacto")
+    @Operation(summary = "Listar partidos con los equipos deduplicados en un diccionario")
+    public PartidoCompactoResponse findAllCompact(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hasta) {
+        return partidoService.findAllCompact(desde, hasta);
+    }
+
+    @GetMapping(params = "ids")
+    @Operation(summary = "Obtener varios partidos por id en una sola consulta")
+    public MultiGetResponse<Partido> findAllById(@RequestParam List<Long> ids) {
+        return partidoService.findAllById(ids);
     }
 
     @GetMapping("/{id}")
@@ -51,6 +81,14 @@ public class PartidoController {
         return partidoService.create(partido);
     }
 
+    @PostMapping("/lote")
+    @ResponseStatus(HttpStatus.CREATED)
+    @Operation(summary = "Crear varios partidos en una sola transacción")
+    @PreAuthorize("hasRole('ADMIN')")
+    public List<Partido> createAll(@RequestBody List<@Valid Partido> partidos) {
+        return partidoService.createAll(partidos);
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = "Actualizar partido")
     @PreAuthorize("hasRole('ADMIN')")
@@ -58,6 +96,26 @@ public class PartidoController {
         return partidoService.update(id, partido);
     }
 
+    @PatchMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @Operation(summary = "Actualizar solo los campos enviados del partido")
+    @PreAuthorize("hasRole('ADMIN')")
+    public void patch(@PathVariable Long id, @Valid @RequestBody PartidoPatchRequest request) {
+        partidoService.patch(id, request);
+    }
+
+    @PostMapping("/{id}/goles")
+    @Operation(summary = "Sumar goles al marcador de forma atómica")
+    @PreAuthorize("hasRole('ADMIN')")
+    public CompletableFuture<ResponseEntity<MarcadorResponse>> registrarGoles(@PathVariable Long id,
+                                                                            @Valid @RequestBody GolRequest request) {
+        // El commit ocurre en otro hilo, así que el filtro no ve la secuencia: se informa acá
+        return partidoService.registrarGoles(id, request)
+                .thenApply(resultado -> ResponseEntity.ok()
+                        .header(ReadYourWritesFilter.HEADER, Long.toString(resultado.seq()))
+                        .body(resultado.marcador()));
+    }
+
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @Operation(summary = "Eliminar partido")
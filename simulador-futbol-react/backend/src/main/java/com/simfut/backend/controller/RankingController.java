@@ -0,0 +1,33 @@
+package com.simfut.backend.controller;
+
+import com.simfut.backend.controller.dto.RankingFila;
+import com.simfut.backend.index.RankingIndex;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/rankings")
+@Tag(name = "Rankings", description = "Mejores equipos por métrica")
+@PreAuthorize("hasAnyRole('USER','ADMIN')")
+public class RankingController {
+
+    private final RankingIndex rankingIndex;
+
+    public RankingController(RankingIndex rankingIndex) {
+        this.rankingIndex = rankingIndex;
+    }
+
+    @GetMapping("/{metrica}")
+    @Operation(summary = "Top-K equipos por puntos, diferencia, goles, vallas-invictas o racha (victorias consecutivas)")
+    public List<RankingFila> top(@PathVariable String metrica, @RequestParam(defaultValue = "10") int k) {
+        return rankingIndex.top(RankingIndex.Metrica.desde(metrica), k);
+    }
+}
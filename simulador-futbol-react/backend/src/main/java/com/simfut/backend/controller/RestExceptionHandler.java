@@ -1,6 +1,10 @@
 package com.simfut.backend.controller;
 
+import com.simfut.backend.service.PreconditionRequiredException;
 import com.simfut.backend.service.ResourceNotFoundException;
+import com.simfut.backend.service.ServiceOverloadedException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -29,4 +33,33 @@ public class RestExceptionHandler {
                 "error", ex.getMessage()
         ));
     }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Map<String, Object>> handleConflict(OptimisticLockingFailureException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of(
+                "timestamp", LocalDateTime.now(),
+                "status", HttpStatus.CONFLICT.value(),
+                "error", "El recurso fue modificado por otra operación, vuelva a cargarlo"
+        ));
+    }
+
+    @ExceptionHandler(PreconditionRequiredException.class)
+    public ResponseEntity<Map<String, Object>> handlePreconditionRequired(PreconditionRequiredException ex) {
+        return ResponseEntity.status(HttpStatus.PRECONDITION_REQUIRED).body(Map.of(
+                "timestamp", LocalDateTime.now(),
+                "status", HttpStatus.PRECONDITION_REQUIRED.value(),
+                "error", ex.getMessage()
+        ));
+    }
+
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<Map<String, Object>> handleOverloaded(ServiceOverloadedException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(Map.of(
+                        "timestamp", LocalDateTime.now(),
+                        "status", HttpStatus.SERVICE_UNAVAILABLE.value(),
+                        "error", ex.getMessage()
+                ));
+    }
 }
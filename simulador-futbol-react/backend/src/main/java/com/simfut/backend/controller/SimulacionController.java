@@ -0,0 +1,59 @@
+package com.simfut.backend.controller;
+
+import com.simfut.backend.controller.dto.SimulacionRequest;
+import com.simfut.backend.controller.dto.SimulacionResponse;
+import com.simfut.backend.simulacion.SimulacionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.net.URI;
+
+@RestController
+@RequestMapping("/api/simulaciones")
+@Tag(name = "Simulaciones", description = "Simulaciones asíncronas de partidos, barridos de parámetros y temporadas")
+@PreAuthorize("hasAnyRole('USER','ADMIN')")
+public class SimulacionController {
+
+    private final SimulacionService simulacionService;
+
+    public SimulacionController(SimulacionService simulacionService) {
+        this.simulacionService = simulacionService;
+    }
+
+    @PostMapping
+    @Operation(summary = "Encolar una simulación; responde 202 con el id para consultar su avance")
+    public ResponseEntity<SimulacionResponse> enviar(@Valid @RequestBody SimulacionRequest request) {
+        SimulacionResponse response = simulacionService.enviar(request);
+        return ResponseEntity.accepted().location(URI.create("/api/simulaciones/" + response.getId())).body(response);
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Estado, avance y, al terminar, resultado de una simulación")
+    public SimulacionResponse consultar(@PathVariable String id) {
+        return simulacionService.consultar(id);
+    }
+
+    @GetMapping(value = "/{id}/eventos", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Avance de una simulación como Server-Sent Events")
+    public SseEmitter eventos(@PathVariable String id) {
+        return simulacionService.suscribir(id);
+    }
+
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Cancelar una simulación en cola o en curso")
+    public SimulacionResponse cancelar(@PathVariable String id) {
+        return simulacionService.cancelar(id);
+    }
+}
@@ -0,0 +1,32 @@
+package com.simfut.backend.controller;
+
+import com.simfut.backend.controller.dto.SnapshotResponse;
+import com.simfut.backend.snapshot.SnapshotService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/snapshot")
+@Tag(name = "Snapshot", description = "Snapshot binario de los datos para arranques rápidos")
+@PreAuthorize("hasRole('ADMIN')")
+public class SnapshotController {
+
+    private final SnapshotService snapshotService;
+
+    public SnapshotController(SnapshotService snapshotService) {
+        this.snapshotService = snapshotService;
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    @Operation(summary = "Escribir un snapshot de equipos, jugadores, partidos y usuarios")
+    public SnapshotResponse create() {
+        return snapshotService.create();
+    }
+}
@@ -0,0 +1,59 @@
+package com.simfut.backend.controller.dto;
+
+import com.simfut.backend.audit.AuditEntry;
+import com.simfut.backend.model.Cambio;
+
+import java.time.Instant;
+
+public class AuditoriaResponse {
+
+    private final Instant fecha;
+    private final String usuario;
+    private final Cambio.Entidad entidad;
+    private final Cambio.Operacion operacion;
+    private final long entidadId;
+    private final String huellaAnterior;
+    private final String huellaNueva;
+
+    public AuditoriaResponse(AuditEntry entry) {
+        this.fecha = Instant.ofEpochMilli(entry.fecha());
+        this.usuario = entry.usuario();
+        this.entidad = entry.entidad();
+        this.operacion = entry.operacion();
+        this.entidadId = entry.entidadId();
+        this.huellaAnterior = hex(entry.huellaAnterior());
+        this.huellaNueva = hex(entry.huellaNueva());
+    }
+
+    public Instant getFecha() {
+        return fecha;
+    }
+
+    public String getUsuario() {
+        return usuario;
+    }
+
+    public Cambio.Entidad getEntidad() {
+        return entidad;
+    }
+
+    public Cambio.Operacion getOperacion() {
+        return operacion;
+    }
+
+    public long getEntidadId() {
+        return entidadId;
+    }
+
+    public String getHuellaAnterior() {
+        return huellaAnterior;
+    }
+
+    public String getHuellaNueva() {
+        return huellaNueva;
+    }
+
+    private static String hex(long huella) {
+        return huella != 0 ? String.format("%016x", huella) : null;
+    }
+}
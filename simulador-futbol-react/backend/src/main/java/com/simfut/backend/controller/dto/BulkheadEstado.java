@@ -0,0 +1,98 @@
+package com.simfut.backend.controller.dto;
+
+public class BulkheadEstado {
+
+    private final String clase;
+    private final double limite;
+    private final int limiteMinimo;
+    private final int limiteMaximo;
+    private final int enCurso;
+    private final int enCola;
+    private final int colaMaxima;
+    private final long admitidos;
+    private final long encolados;
+    private final long rechazados;
+    private final long vencidos;
+    private final double esperaMediaMs;
+    private final double latenciaMediaMs;
+    private final long reducciones;
+
+    public BulkheadEstado(String clase, double limite, int limiteMinimo, int limiteMaximo, int enCurso, int enCola,
+                          int colaMaxima, long admitidos, long encolados, long rechazados, long vencidos,
+                          double esperaMediaMs, double latenciaMediaMs, long reducciones) {
+        this.clase = clase;
+        this.limite = limite;
+        this.limiteMinimo = limiteMinimo;
+        this.limiteMaximo = limiteMaximo;
+        this.enCurso = enCurso;
+        this.enCola = enCola;
+        this.colaMaxima = colaMaxima;
+        this.admitidos = admitidos;
+        this.encolados = encolados;
+        this.rechazados = rechazados;
+        this.vencidos = vencidos;
+        this.esperaMediaMs = esperaMediaMs;
+        this.latenciaMediaMs = latenciaMediaMs;
+        this.reducciones = reducciones;
+    }
+
+    public String getClase() {
+        return clase;
+    }
+
+    /** Límite de concurrencia vigente; varía entre el mínimo y el máximo según la latencia. */
+    public double getLimite() {
+        return limite;
+    }
+
+    public int getLimiteMinimo() {
+        return limiteMinimo;
+    }
+
+    public int getLimiteMaximo() {
+        return limiteMaximo;
+    }
+
+    public int getEnCurso() {
+        return enCurso;
+    }
+
+    public int getEnCola() {
+        return enCola;
+    }
+
+    public int getColaMaxima() {
+        return colaMaxima;
+    }
+
+    public long getAdmitidos() {
+        return admitidos;
+    }
+
+    /** Pedidos que tuvieron que esperar en la cola, se hayan admitido o no. */
+    public long getEncolados() {
+        return encolados;
+    }
+
+    /** Rechazados al llegar con la cola llena. */
+    public long getRechazados() {
+        return rechazados;
+    }
+
+    /** Rechazados tras esperar en la cola el plazo máximo. */
+    public long getVencidos() {
+        return vencidos;
+    }
+
+    public double getEsperaMediaMs() {
+        return esperaMediaMs;
+    }
+
+    public double getLatenciaMediaMs() {
+        return latenciaMediaMs;
+    }
+
+    public long getReducciones() {
+        return reducciones;
+    }
+}
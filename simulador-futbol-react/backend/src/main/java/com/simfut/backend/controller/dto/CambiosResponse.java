@@ -0,0 +1,30 @@
+package com.simfut.backend.controller.dto;
+
+import com.simfut.backend.model.Cambio;
+
+import java.util.List;
+
+public class CambiosResponse {
+
+    private final List<Cambio> cambios;
+    private final long siguienteSeq;
+    private final boolean resyncRequerido;
+
+    public CambiosResponse(List<Cambio> cambios, long siguienteSeq, boolean resyncRequerido) {
+        this.cambios = cambios;
+        this.siguienteSeq = siguienteSeq;
+        this.resyncRequerido = resyncRequerido;
+    }
+
+    public List<Cambio> getCambios() {
+        return cambios;
+    }
+
+    public long getSiguienteSeq() {
+        return siguienteSeq;
+    }
+
+    public boolean isResyncRequerido() {
+        return resyncRequerido;
+    }
+}
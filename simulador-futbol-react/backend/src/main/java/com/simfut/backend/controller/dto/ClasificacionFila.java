@@ -0,0 +1,73 @@
+package com.simfut.backend.controller.dto;
+
+public class ClasificacionFila {
+
+    private final int posicion;
+    private final long equipoId;
+    private final String equipo;
+    private final int jugados;
+    private final int ganados;
+    private final int empatados;
+    private final int perdidos;
+    private final int golesAFavor;
+    private final int golesEnContra;
+    private final int puntos;
+
+    public ClasificacionFila(int posicion, long equipoId, String equipo, int jugados, int ganados, int empatados,
+                             int perdidos, int golesAFavor, int golesEnContra, int puntos) {
+        this.posicion = posicion;
+        this.equipoId = equipoId;
+        this.equipo = equipo;
+        this.jugados = jugados;
+        this.ganados = ganados;
+        this.empatados = empatados;
+        this.perdidos = perdidos;
+        this.golesAFavor = golesAFavor;
+        this.golesEnContra = golesEnContra;
+        this.puntos = puntos;
+    }
+
+    public int getPosicion() {
+        return posicion;
+    }
+
+    public long getEquipoId() {
+        return equipoId;
+    }
+
+    public String getEquipo() {
+        return equipo;
+    }
+
+    public int getJugados() {
+        return jugados;
+    }
+
+    public int getGanados() {
+        return ganados;
+    }
+
+    public int getEmpatados() {
+        return empatados;
+    }
+
+    public int getPerdidos() {
+        return perdidos;
+    }
+
+    public int getGolesAFavor() {
+        return golesAFavor;
+    }
+
+    public int getGolesEnContra() {
+        return golesEnContra;
+    }
+
+    public int getDiferenciaGoles() {
+        return golesAFavor - golesEnContra;
+    }
+
+    public int getPuntos() {
+        return puntos;
+    }
+}
@@ -0,0 +1,65 @@
+package com.simfut.backend.controller.dto;
+
+import java.util.List;
+
+public class CopaProbabilidades {
+
+    private final List<String> rondas;
+    private final List<Fila> equipos;
+
+    public CopaProbabilidades(List<String> rondas, List<Fila> equipos) {
+        this.rondas = rondas;
+        this.equipos = equipos;
+    }
+
+    /** Nombre de cada ronda; el último elemento es "campeon". */
+    public List<String> getRondas() {
+        return rondas;
+    }
+
+    public List<Fila> getEquipos() {
+        return equipos;
+    }
+
+    public static class Fila {
+
+        private final long equipoId;
+        private final String equipo;
+        private final double ataque;
+        private final double defensa;
+        private final double[] probabilidadPorRonda;
+
+        public Fila(long equipoId, String equipo, double ataque, double defensa, double[] probabilidadPorRonda) {
+            this.equipoId = equipoId;
+            this.equipo = equipo;
+            this.ataque = ataque;
+            this.defensa = defensa;
+            this.probabilidadPorRonda = probabilidadPorRonda;
+        }
+
+        public long getEquipoId() {
+            return equipoId;
+        }
+
+        public String getEquipo() {
+            return equipo;
+        }
+
+        public double getAtaque() {
+            return ataque;
+        }
+
+        public double getDefensa() {
+            return defensa;
+        }
+
+        /** Probabilidad de llegar a cada ronda de {@code rondas}, alineada por índice. */
+        public double[] getProbabilidadPorRonda() {
+            return probabilidadPorRonda;
+        }
+
+        public double getProbabilidadCampeon() {
+            return probabilidadPorRonda[probabilidadPorRonda.length - 1];
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.simfut.backend.controller.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+/**
+ * Cuadro de una copa a eliminación directa: {@code equipos} en orden de llaves, de a pares en la
+ * primera ronda; la cantidad debe ser potencia de dos.
+ */
+public class CopaRequest {
+
+    @NotEmpty
+    private List<Long> equipos;
+
+    private Integer minutos;
+
+    private String clima;
+
+    private Boolean prorroga;
+
+    public CopaRequest() {
+    }
+
+    public List<Long> getEquipos() {
+        return equipos;
+    }
+
+    public void setEquipos(List<Long> equipos) {
+        this.equipos = equipos;
+    }
+
+    public Integer getMinutos() {
+        return minutos;
+    }
+
+    public void setMinutos(Integer minutos) {
+        this.minutos = minutos;
+    }
+
+    public String getClima() {
+        return clima;
+    }
+
+    public void setClima(String clima) {
+        this.clima = clima;
+    }
+
+    public Boolean getProrroga() {
+        return prorroga;
+    }
+
+    public void setProrroga(Boolean prorroga) {
+        this.prorroga = prorroga;
+    }
+}
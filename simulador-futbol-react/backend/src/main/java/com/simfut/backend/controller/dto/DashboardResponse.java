@@ -0,0 +1,158 @@
+package com.simfut.backend.controller.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Datos de la página de inicio en una sola respuesta. Las secciones que no respondieron a tiempo
+ * o fallaron se omiten y se listan en {@code incompletas}.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DashboardResponse {
+
+    private Long equipos;
+    private Jugadores jugadores;
+    private Partidos partidos;
+    private List<ClasificacionFila> clasificacion;
+    private List<RankingFila> goleadores;
+    private List<RankingFila> rachas;
+    private List<PartidoResumen> ultimosResultados;
+    private List<PartidoResumen> proximosPartidos;
+    private List<String> incompletas;
+    private long duracionMs;
+
+    public DashboardResponse() {
+    }
+
+    public Long getEquipos() {
+        return equipos;
+    }
+
+    public void setEquipos(Long equipos) {
+        this.equipos = equipos;
+    }
+
+    public Jugadores getJugadores() {
+        return jugadores;
+    }
+
+    public void setJugadores(Jugadores jugadores) {
+        this.jugadores = jugadores;
+    }
+
+    public Partidos getPartidos() {
+        return partidos;
+    }
+
+    public void setPartidos(Partidos partidos) {
+        this.partidos = partidos;
+    }
+
+    public List<ClasificacionFila> getClasificacion() {
+        return clasificacion;
+    }
+
+    public void setClasificacion(List<ClasificacionFila> clasificacion) {
+        this.clasificacion = clasificacion;
+    }
+
+    public List<RankingFila> getGoleadores() {
+        return goleadores;
+    }
+
+    public void setGoleadores(List<RankingFila> goleadores) {
+        this.goleadores = goleadores;
+    }
+
+    public List<RankingFila> getRachas() {
+        return rachas;
+    }
+
+    public void setRachas(List<RankingFila> rachas) {
+        this.rachas = rachas;
+    }
+
+    public List<PartidoResumen> getUltimosResultados() {
+        return ultimosResultados;
+    }
+
+    public void setUltimosResultados(List<PartidoResumen> ultimosResultados) {
+        this.ultimosResultados = ultimosResultados;
+    }
+
+    public List<PartidoResumen> getProximosPartidos() {
+        return proximosPartidos;
+    }
+
+    public void setProximosPartidos(List<PartidoResumen> proximosPartidos) {
+        this.proximosPartidos = proximosPartidos;
+    }
+
+    public List<String> getIncompletas() {
+        return incompletas;
+    }
+
+    public void setIncompletas(List<String> incompletas) {
+        this.incompletas = incompletas;
+    }
+
+    public long getDuracionMs() {
+        return duracionMs;
+    }
+
+    public void setDuracionMs(long duracionMs) {
+        this.duracionMs = duracionMs;
+    }
+
+    public static class Jugadores {
+
+        private final long total;
+        private final Map<String, Long> porPosicion;
+
+        public Jugadores(long total, Map<String, Long> porPosicion) {
+            this.total = total;
+            this.porPosicion = porPosicion;
+        }
+
+        public long getTotal() {
+            return total;
+        }
+
+        public Map<String, Long> getPorPosicion() {
+            return porPosicion;
+        }
+    }
+
+    public static class Partidos {
+
+        private final long jugados;
+        private final long pendientes;
+        private final long goles;
+        private final double promedioGoles;
+
+        public Partidos(long jugados, long pendientes, long goles, double promedioGoles) {
+            this.jugados = jugados;
+            this.pendientes = pendientes;
+            this.goles = goles;
+            this.promedioGoles = promedioGoles;
+        }
+
+        public long getJugados() {
+            return jugados;
+        }
+
+        public long getPendientes() {
+            return pendientes;
+        }
+
+        public long getGoles() {
+            return goles;
+        }
+
+        public double getPromedioGoles() {
+            return promedioGoles;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.simfut.backend.controller.dto;
+
+/**
+ * Opciones de {@code DELETE /api/equipos/{id}}. Sin {@code jugadores} el borrado físico elimina el
+ * plantel; sin {@code partidos} se rechaza si el equipo jugó alguno, para que perder el historial
+ * sea siempre una decisión explícita. El borrado lógico no toca dependientes y no admite opciones.
+ */
+public class EquipoEliminacionRequest {
+
+    public enum Modo {
+        FISICO,
+        LOGICO
+    }
+
+    public enum Dependientes {
+        ELIMINAR,
+        LIBERAR,
+        REASIGNAR
+    }
+
+    private Modo modo = Modo.FISICO;
+    private Dependientes jugadores;
+    private Dependientes partidos;
+    private Long destinoId;
+
+    public EquipoEliminacionRequest() {
+    }
+
+    public Modo getModo() {
+        return modo;
+    }
+
+    public void setModo(Modo modo) {
+        this.modo = modo;
+    }
+
+    public Dependientes getJugadores() {
+        return jugadores;
+    }
+
+    public void setJugadores(Dependientes jugadores) {
+        this.jugadores = jugadores;
+    }
+
+    public Dependientes getPartidos() {
+        return partidos;
+    }
+
+    public void setPartidos(Dependientes partidos) {
+        this.partidos = partidos;
+    }
+
+    public Long getDestinoId() {
+        return destinoId;
+    }
+
+    public void setDestinoId(Long destinoId) {
+        this.destinoId = destinoId;
+    }
+}
@@ -0,0 +1,53 @@
+package com.simfut.backend.controller.dto;
+
+import java.util.Map;
+
+public class EquipoFuerzaResponse {
+
+    private final long equipoId;
+    private final String equipo;
+    private final double ataque;
+    private final double defensa;
+    private final int jugadores;
+    private final int valorados;
+    private final Map<String, Integer> profundidad;
+
+    public EquipoFuerzaResponse(long equipoId, String equipo, double ataque, double defensa,
+                                int jugadores, int valorados, Map<String, Integer> profundidad) {
+        this.equipoId = equipoId;
+        this.equipo = equipo;
+        this.ataque = ataque;
+        this.defensa = defensa;
+        this.jugadores = jugadores;
+        this.valorados = valorados;
+        this.profundidad = profundidad;
+    }
+
+    public long getEquipoId() {
+        return equipoId;
+    }
+
+    public String getEquipo() {
+        return equipo;
+    }
+
+    public double getAtaque() {
+        return ataque;
+    }
+
+    public double getDefensa() {
+        return defensa;
+    }
+
+    public int getJugadores() {
+        return jugadores;
+    }
+
+    public int getValorados() {
+        return valorados;
+    }
+
+    public Map<String, Integer> getProfundidad() {
+        return profundidad;
+    }
+}
@@ -0,0 +1,27 @@
+package com.simfut.backend.controller.dto;
+
+public class EquipoPatchRequest {
+
+    private String nombre;
+
+    private String ciudad;
+
+    public EquipoPatchRequest() {
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    public void setNombre(String nombre) {
+        this.nombre = nombre;
+    }
+
+    public String getCiudad() {
+        return ciudad;
+    }
+
+    public void setCiudad(String ciudad) {
+        this.ciudad = ciudad;
+    }
+}
@@ -0,0 +1,43 @@
+package com.simfut.backend.controller.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+public class GolRequest {
+
+    /** Más goles de un lado en una sola request no corresponde a una carga en vivo. */
+    public static final int MAX_CANTIDAD = 20;
+
+    public enum Lado {
+        LOCAL,
+        VISITANTE
+    }
+
+    @NotNull
+    private Lado lado;
+
+    @NotNull
+    @Min(1)
+    @Max(MAX_CANTIDAD)
+    private Integer cantidad = 1;
+
+    public GolRequest() {
+    }
+
+    public Lado getLado() {
+        return lado;
+    }
+
+    public void setLado(Lado lado) {
+        this.lado = lado;
+    }
+
+    public Integer getCantidad() {
+        return cantidad;
+    }
+
+    public void setCantidad(Integer cantidad) {
+        this.cantidad = cantidad;
+    }
+}
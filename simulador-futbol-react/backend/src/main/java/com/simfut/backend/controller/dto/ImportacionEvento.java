@@ -0,0 +1,76 @@
+package com.simfut.backend.controller.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Una línea del progreso NDJSON de una importación: un error de fila, el avance tras cada lote
+ * confirmado o el resumen final.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ImportacionEvento {
+
+    public enum Tipo {
+        ERROR,
+        PROGRESO,
+        RESUMEN
+    }
+
+    private final Tipo tipo;
+    private final Long linea;
+    private final String mensaje;
+    private final Long filas;
+    private final Long importadas;
+    private final Long errores;
+    private final Long duracionMs;
+
+    private ImportacionEvento(Tipo tipo, Long linea, String mensaje, Long filas, Long importadas, Long errores,
+                              Long duracionMs) {
+        this.tipo = tipo;
+        this.linea = linea;
+        this.mensaje = mensaje;
+        this.filas = filas;
+        this.importadas = importadas;
+        this.errores = errores;
+        this.duracionMs = duracionMs;
+    }
+
+    public static ImportacionEvento error(long linea, String mensaje) {
+        return new ImportacionEvento(Tipo.ERROR, linea, mensaje, null, null, null, null);
+    }
+
+    public static ImportacionEvento progreso(long filas, long importadas, long errores) {
+        return new ImportacionEvento(Tipo.PROGRESO, null, null, filas, importadas, errores, null);
+    }
+
+    public static ImportacionEvento resumen(long filas, long importadas, long errores, long duracionMs, String mensaje) {
+        return new ImportacionEvento(Tipo.RESUMEN, null, mensaje, filas, importadas, errores, duracionMs);
+    }
+
+    public Tipo getTipo() {
+        return tipo;
+    }
+
+    public Long getLinea() {
+        return linea;
+    }
+
+    public String getMensaje() {
+        return mensaje;
+    }
+
+    public Long getFilas() {
+        return filas;
+    }
+
+    public Long getImportadas() {
+        return importadas;
+    }
+
+    public Long getErrores() {
+        return errores;
+    }
+
+    public Long getDuracionMs() {
+        return duracionMs;
+    }
+}
@@ -0,0 +1,74 @@
+package com.simfut.backend.controller.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+public class JugadorPatchRequest {
+
+    private String nombre;
+
+    private String posicion;
+
+    private Integer numeroCamiseta;
+
+    @Min(1)
+    @Max(99)
+    private Integer ataque;
+
+    @Min(1)
+    @Max(99)
+    private Integer defensa;
+
+    private Long equipoId;
+
+    public JugadorPatchRequest() {
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    public void setNombre(String nombre) {
+        this.nombre = nombre;
+    }
+
+    public String getPosicion() {
+        return posicion;
+    }
+
+    public void setPosicion(String posicion) {
+        this.posicion = posicion;
+    }
+
+    public Integer getNumeroCamiseta() {
+        return numeroCamiseta;
+    }
+
+    public void setNumeroCamiseta(Integer numeroCamiseta) {
+        this.numeroCamiseta = numeroCamiseta;
+    }
+
+    public Integer getAtaque() {
+        return ataque;
+    }
+
+    public void setAtaque(Integer ataque) {
+        this.ataque = ataque;
+    }
+
+    public Integer getDefensa() {
+        return defensa;
+    }
+
+    public void setDefensa(Integer defensa) {
+        this.defensa = defensa;
+    }
+
+    public Long getEquipoId() {
+        return equipoId;
+    }
+
+    public void setEquipoId(Long equipoId) {
+        this.equipoId = equipoId;
+    }
+}
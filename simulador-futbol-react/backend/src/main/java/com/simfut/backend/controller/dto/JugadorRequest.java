@@ -1,5 +1,7 @@
 package com.simfut.backend.controller.dto;
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 
@@ -13,6 +15,14 @@ public class JugadorRequest {
     @NotNull
     private Integer numeroCamiseta;
 
+    @Min(1)
+    @Max(99)
+    private Integer ataque;
+
+    @Min(1)
+    @Max(99)
+    private Integer defensa;
+
     private Long equipoId;
 
     public JugadorRequest() {
@@ -42,6 +52,22 @@ public class JugadorRequest {
         this.numeroCamiseta = numeroCamiseta;
     }
 
+    public Integer getAtaque() {
+        return ataque;
+    }
+
+    public void setAtaque(Integer ataque) {
+        this.ataque = ataque;
+    }
+
+    public Integer getDefensa() {
+        return defensa;
+    }
+
+    public void setDefensa(Integer defensa) {
+        this.defensa = defensa;
+    }
+
     public Long getEquipoId() {
         return equipoId;
     }
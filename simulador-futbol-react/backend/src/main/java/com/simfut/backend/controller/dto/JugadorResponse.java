@@ -6,16 +6,21 @@ public class JugadorResponse {
     private String nombre;
     private String posicion;
     private Integer numeroCamiseta;
+    private Integer ataque;
+    private Integer defensa;
     private Long equipoId;
 
     public JugadorResponse() {
     }
 
-    public JugadorResponse(Long id, String nombre, String posicion, Integer numeroCamiseta, Long equipoId) {
+    public JugadorResponse(Long id, String nombre, String posicion, Integer numeroCamiseta, Integer ataque,
+                           Integer defensa, Long equipoId) {
         this.id = id;
         this.nombre = nombre;
         this.posicion = posicion;
         this.numeroCamiseta = numeroCamiseta;
+        this.ataque = ataque;
+        this.defensa = defensa;
         this.equipoId = equipoId;
     }
 
@@ -51,6 +56,22 @@ public class JugadorResponse {
         this.numeroCamiseta = numeroCamiseta;
     }
 
+    public Integer getAtaque() {
+        return ataque;
+    }
+
+    public void setAtaque(Integer ataque) {
+        this.ataque = ataque;
+    }
+
+    public Integer getDefensa() {
+        return defensa;
+    }
+
+    public void setDefensa(Integer defensa) {
+        this.defensa = defensa;
+    }
+
     public Long getEquipoId() {
         return equipoId;
     }
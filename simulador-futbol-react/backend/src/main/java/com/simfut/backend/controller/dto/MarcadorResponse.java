@@ -0,0 +1,32 @@
+package com.simfut.backend.controller.dto;
+
+public class MarcadorResponse {
+
+    private final Long partidoId;
+    private final Integer golesLocal;
+    private final Integer golesVisitante;
+    private final Long version;
+
+    public MarcadorResponse(Long partidoId, Integer golesLocal, Integer golesVisitante, Long version) {
+        this.partidoId = partidoId;
+        this.golesLocal = golesLocal;
+        this.golesVisitante = golesVisitante;
+        this.version = version;
+    }
+
+    public Long getPartidoId() {
+        return partidoId;
+    }
+
+    public Integer getGolesLocal() {
+        return golesLocal;
+    }
+
+    public Integer getGolesVisitante() {
+        return golesVisitante;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+}
@@ -0,0 +1,33 @@
+package com.simfut.backend.controller.dto;
+
+import java.util.List;
+
+public class MultiGetResponse<T> {
+
+    private List<T> items;
+    private List<Long> missing;
+
+    public MultiGetResponse() {
+    }
+
+    public MultiGetResponse(List<T> items, List<Long> missing) {
+        this.items = items;
+        this.missing = missing;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public void setItems(List<T> items) {
+        this.items = items;
+    }
+
+    public List<Long> getMissing() {
+        return missing;
+    }
+
+    public void setMissing(List<Long> missing) {
+        this.missing = missing;
+    }
+}
@@ -0,0 +1,49 @@
+package com.simfut.backend.controller.dto;
+
+import java.util.List;
+
+/**
+ * Listado de partidos donde cada equipo aparece una sola vez en {@code equipos} y cada partido es
+ * una fila {@code [id, fecha, indiceLocal, indiceVisitante, golesLocal, golesVisitante]} cuyos
+ * índices apuntan a esa lista.
+ */
+public class PartidoCompactoResponse {
+
+    public static final List<String> COLUMNAS = List.of("id", "fecha", "local", "visitante", "golesLocal", "golesVisitante");
+
+    private List<EquipoResumen> equipos;
+    private List<String> columnas = COLUMNAS;
+    private List<Object[]> partidos;
+
+    public PartidoCompactoResponse() {
+    }
+
+    public PartidoCompactoResponse(List<EquipoResumen> equipos, List<Object[]> partidos) {
+        this.equipos = equipos;
+        this.partidos = partidos;
+    }
+
+    public List<EquipoResumen> getEquipos() {
+        return equipos;
+    }
+
+    public void setEquipos(List<EquipoResumen> equipos) {
+        this.equipos = equipos;
+    }
+
+    public List<String> getColumnas() {
+        return columnas;
+    }
+
+    public void setColumnas(List<String> columnas) {
+        this.columnas = columnas;
+    }
+
+    public List<Object[]> getPartidos() {
+        return partidos;
+    }
+
+    public void setPartidos(List<Object[]> partidos) {
+        this.partidos = partidos;
+    }
+}
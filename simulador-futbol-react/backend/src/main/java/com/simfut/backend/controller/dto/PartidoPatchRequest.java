@@ -0,0 +1,73 @@
+package com.simfut.backend.controller.dto;
+
+import jakarta.validation.constraints.Min;
+
+import java.time.LocalDate;
+
+public class PartidoPatchRequest {
+
+    private LocalDate fecha;
+
+    private Long equipoLocalId;
+
+    private Long equipoVisitanteId;
+
+    @Min(0)
+    private Integer golesLocal;
+
+    @Min(0)
+    private Integer golesVisitante;
+
+    private Long version;
+
+    public PartidoPatchRequest() {
+    }
+
+    public LocalDate getFecha() {
+        return fecha;
+    }
+
+    public void setFecha(LocalDate fecha) {
+        this.fecha = fecha;
+    }
+
+    public Long getEquipoLocalId() {
+        return equipoLocalId;
+    }
+
+    public void setEquipoLocalId(Long equipoLocalId) {
+        this.equipoLocalId = equipoLocalId;
+    }
+
+    public Long getEquipoVisitanteId() {
+        return equipoVisitanteId;
+    }
+
+    public void setEquipoVisitanteId(Long equipoVisitanteId) {
+        this.equipoVisitanteId = equipoVisitanteId;
+    }
+
+    public Integer getGolesLocal() {
+        return golesLocal;
+    }
+
+    public void setGolesLocal(Integer golesLocal) {
+        this.golesLocal = golesLocal;
+    }
+
+    public Integer getGolesVisitante() {
+        return golesVisitante;
+    }
+
+    public void setGolesVisitante(Integer golesVisitante) {
+        this.golesVisitante = golesVisitante;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+}
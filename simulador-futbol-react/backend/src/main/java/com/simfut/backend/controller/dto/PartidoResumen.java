@@ -0,0 +1,47 @@
+package com.simfut.backend.controller.dto;
+
+import java.time.LocalDate;
+
+public class PartidoResumen {
+
+    private final Long id;
+    private final LocalDate fecha;
+    private final String local;
+    private final String visitante;
+    private final Integer golesLocal;
+    private final Integer golesVisitante;
+
+    public PartidoResumen(Long id, LocalDate fecha, String local, String visitante,
+                          Integer golesLocal, Integer golesVisitante) {
+        this.id = id;
+        this.fecha = fecha;
+        this.local = local;
+        this.visitante = visitante;
+        this.golesLocal = golesLocal;
+        this.golesVisitante = golesVisitante;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public LocalDate getFecha() {
+        return fecha;
+    }
+
+    public String getLocal() {
+        return local;
+    }
+
+    public String getVisitante() {
+        return visitante;
+    }
+
+    public Integer getGolesLocal() {
+        return golesLocal;
+    }
+
+    public Integer getGolesVisitante() {
+        return golesVisitante;
+    }
+}
@@ -0,0 +1,32 @@
+package com.simfut.backend.controller.dto;
+
+public class RankingFila {
+
+    private final int posicion;
+    private final long equipoId;
+    private final String equipo;
+    private final long valor;
+
+    public RankingFila(int posicion, long equipoId, String equipo, long valor) {
+        this.posicion = posicion;
+        this.equipoId = equipoId;
+        this.equipo = equipo;
+        this.valor = valor;
+    }
+
+    public int getPosicion() {
+        return posicion;
+    }
+
+    public long getEquipoId() {
+        return equipoId;
+    }
+
+    public String getEquipo() {
+        return equipo;
+    }
+
+    public long getValor() {
+        return valor;
+    }
+}
@@ -0,0 +1,98 @@
+package com.simfut.backend.controller.dto;
+
+import java.util.List;
+
+/** Resultado agregado de simular muchas veces un mismo partido con un clima y duración dados. */
+public class SimulacionEstadisticas {
+
+    private final String clima;
+    private final int minutos;
+    private final long muestras;
+    private final double lambdaLocal;
+    private final double lambdaVisitante;
+    private final double probabilidadLocal;
+    private final double probabilidadEmpate;
+    private final double probabilidadVisitante;
+    private final double promedioGolesLocal;
+    private final double promedioGolesVisitante;
+    private final List<Marcador> marcadores;
+
+    public SimulacionEstadisticas(String clima, int minutos, long muestras, double lambdaLocal, double lambdaVisitante,
+                                  double probabilidadLocal, double probabilidadEmpate, double probabilidadVisitante,
+                                  double promedioGolesLocal, double promedioGolesVisitante, List<Marcador> marcadores) {
+        this.clima = clima;
+        this.minutos = minutos;
+        this.muestras = muestras;
+        this.lambdaLocal = lambdaLocal;
+        this.lambdaVisitante = lambdaVisitante;
+        this.probabilidadLocal = probabilidadLocal;
+        this.probabilidadEmpate = probabilidadEmpate;
+        this.probabilidadVisitante = probabilidadVisitante;
+        this.promedioGolesLocal = promedioGolesLocal;
+        this.promedioGolesVisitante = promedioGolesVisitante;
+        this.marcadores = marcadores;
+    }
+
+    public String getClima() {
+        return clima;
+    }
+
+    public int getMinutos() {
+        return minutos;
+    }
+
+    public long getMuestras() {
+        return muestras;
+    }
+
+    public double getLambdaLocal() {
+        return lambdaLocal;
+    }
+
+    public double getLambdaVisitante() {
+        return lambdaVisitante;
+    }
+
+    public double getProbabilidadLocal() {
+        return probabilidadLocal;
+    }
+
+    public double getProbabilidadEmpate() {
+        return probabilidadEmpate;
+    }
+
+    public double getProbabilidadVisitante() {
+        return probabilidadVisitante;
+    }
+
+    public double getPromedioGolesLocal() {
+        return promedioGolesLocal;
+    }
+
+    public double getPromedioGolesVisitante() {
+        return promedioGolesVisitante;
+    }
+
+    public List<Marcador> getMarcadores() {
+        return marcadores;
+    }
+
+    public static class Marcador {
+
+        private final String marcador;
+        private final double probabilidad;
+
+        public Marcador(String marcador, double probabilidad) {
+            this.marcador = marcador;
+            this.probabilidad = probabilidad;
+        }
+
+        public String getMarcador() {
+            return marcador;
+        }
+
+        public double getProbabilidad() {
+            return probabilidad;
+        }
+    }
+}
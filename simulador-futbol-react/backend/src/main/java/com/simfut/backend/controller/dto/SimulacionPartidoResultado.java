@@ -0,0 +1,76 @@
+package com.simfut.backend.controller.dto;
+
+import java.util.List;
+
+public class SimulacionPartidoResultado {
+
+    private final int golesLocal;
+    private final int golesVisitante;
+    private final String clima;
+    private final double lambdaLocal;
+    private final double lambdaVisitante;
+    private final List<Evento> eventos;
+    private final int minutos;
+
+    public SimulacionPartidoResultado(int golesLocal, int golesVisitante, String clima, double lambdaLocal,
+                                      double lambdaVisitante, List<Evento> eventos, int minutos) {
+        this.golesLocal = golesLocal;
+        this.golesVisitante = golesVisitante;
+        this.clima = clima;
+        this.lambdaLocal = lambdaLocal;
+        this.lambdaVisitante = lambdaVisitante;
+        this.eventos = eventos;
+        this.minutos = minutos;
+    }
+
+    public int getGolesLocal() {
+        return golesLocal;
+    }
+
+    public int getGolesVisitante() {
+        return golesVisitante;
+    }
+
+    public String getMarcador() {
+        return golesLocal + " - " + golesVisitante;
+    }
+
+    public String getClima() {
+        return clima;
+    }
+
+    public double getLambdaLocal() {
+        return lambdaLocal;
+    }
+
+    public double getLambdaVisitante() {
+        return lambdaVisitante;
+    }
+
+    public List<Evento> getEventos() {
+        return eventos;
+    }
+
+    public int getMinutos() {
+        return minutos;
+    }
+
+    public static class Evento {
+
+        private final int minuto;
+        private final String texto;
+
+        public Evento(int minuto, String texto) {
+            this.minuto = minuto;
+            this.texto = texto;
+        }
+
+        public int getMinuto() {
+            return minuto;
+        }
+
+        public String getTexto() {
+            return texto;
+        }
+    }
+}
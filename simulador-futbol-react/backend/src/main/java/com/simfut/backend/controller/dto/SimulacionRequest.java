@@ -0,0 +1,247 @@
+package com.simfut.backend.controller.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+
+import java.util.List;
+
+/**
+ * Pedido de simulación. {@code tipo} elige el trabajo: {@code partido} simula un encuentro,
+ * {@code barrido} lo repite {@code muestras} veces por cada combinación de {@code climas} y
+ * {@code duraciones} (por defecto solo {@code clima} y {@code minutos}) y {@code temporada} juega
+ * {@code muestras} veces un todos contra todos ida y vuelta entre {@code equipos}.
+ *
+ * Con {@code localId}, {@code visitanteId} o {@code equipoId} el nombre y la fuerza salen del
+ * plantel del equipo; los valores enviados explícitamente tienen prioridad.
+ *
+ * Con {@code semilla} el resultado es reproducible y puede servirse desde la caché.
+ */
+public class SimulacionRequest {
+
+    @NotBlank
+    private String tipo;
+
+    private Long localId;
+
+    private String local;
+
+    private Long visitanteId;
+
+    private String visitante;
+
+    @DecimalMin("0.1")
+    @DecimalMax("10")
+    private Double ataqueLocal;
+
+    @DecimalMin("0.1")
+    @DecimalMax("10")
+    private Double defensaLocal;
+
+    @DecimalMin("0.1")
+    @DecimalMax("10")
+    private Double ataqueVisitante;
+
+    @DecimalMin("0.1")
+    @DecimalMax("10")
+    private Double defensaVisitante;
+
+    private Integer minutos;
+
+    private String clima;
+
+    private List<String> climas;
+
+    private List<Integer> duraciones;
+
+    @Valid
+    private List<EquipoSimulado> equipos;
+
+    @Positive
+    private Integer muestras;
+
+    private Long semilla;
+
+    public SimulacionRequest() {
+    }
+
+    public String getTipo() {
+        return tipo;
+    }
+
+    public void setTipo(String tipo) {
+        this.tipo = tipo;
+    }
+
+    public Long getLocalId() {
+        return localId;
+    }
+
+    public void setLocalId(Long localId) {
+        this.localId = localId;
+    }
+
+    public String getLocal() {
+        return local;
+    }
+
+    public void setLocal(String local) {
+        this.local = local;
+    }
+
+    public Long getVisitanteId() {
+        return visitanteId;
+    }
+
+    public void setVisitanteId(Long visitanteId) {
+        this.visitanteId = visitanteId;
+    }
+
+    public String getVisitante() {
+        return visitante;
+    }
+
+    public void setVisitante(String visitante) {
+        this.visitante = visitante;
+    }
+
+    public Double getAtaqueLocal() {
+        return ataqueLocal;
+    }
+
+    public void setAtaqueLocal(Double ataqueLocal) {
+        this.ataqueLocal = ataqueLocal;
+    }
+
+    public Double getDefensaLocal() {
+        return defensaLocal;
+    }
+
+    public void setDefensaLocal(Double defensaLocal) {
+        this.defensaLocal = defensaLocal;
+    }
+
+    public Double getAtaqueVisitante() {
+        return ataqueVisitante;
+    }
+
+    public void setAtaqueVisitante(Double ataqueVisitante) {
+        this.ataqueVisitante = ataqueVisitante;
+    }
+
+    public Double getDefensaVisitante() {
+        return defensaVisitante;
+    }
+
+    public void setDefensaVisitante(Double defensaVisitante) {
+        this.defensaVisitante = defensaVisitante;
+    }
+
+    public Integer getMinutos() {
+        return minutos;
+    }
+
+    public void setMinutos(Integer minutos) {
+        this.minutos = minutos;
+    }
+
+    public String getClima() {
+        return clima;
+    }
+
+    public void setClima(String clima) {
+        this.clima = clima;
+    }
+
+    public List<String> getClimas() {
+        return climas;
+    }
+
+    public void setClimas(List<String> climas) {
+        this.climas = climas;
+    }
+
+    public List<Integer> getDuraciones() {
+        return duraciones;
+    }
+
+    public void setDuraciones(List<Integer> duraciones) {
+        this.duraciones = duraciones;
+    }
+
+    public List<EquipoSimulado> getEquipos() {
+        return equipos;
+    }
+
+    public void setEquipos(List<EquipoSimulado> equipos) {
+        this.equipos = equipos;
+    }
+
+    public Integer getMuestras() {
+        return muestras;
+    }
+
+    public void setMuestras(Integer muestras) {
+        this.muestras = muestras;
+    }
+
+    public Long getSemilla() {
+        return semilla;
+    }
+
+    public void setSemilla(Long semilla) {
+        this.semilla = semilla;
+    }
+
+    public static class EquipoSimulado {
+
+        private Long equipoId;
+
+        private String nombre;
+
+        @DecimalMin("0.1")
+        @DecimalMax("10")
+        private Double ataque;
+
+        @DecimalMin("0.1")
+        @DecimalMax("10")
+        private Double defensa;
+
+        public EquipoSimulado() {
+        }
+
+        public Long getEquipoId() {
+            return equipoId;
+        }
+
+        public void setEquipoId(Long equipoId) {
+            this.equipoId = equipoId;
+        }
+
+        public String getNombre() {
+            return nombre;
+        }
+
+        public void setNombre(String nombre) {
+            this.nombre = nombre;
+        }
+
+        public Double getAtaque() {
+            return ataque;
+        }
+
+        public void setAtaque(Double ataque) {
+            this.ataque = ataque;
+        }
+
+        public Double getDefensa() {
+            return defensa;
+        }
+
+        public void setDefensa(Double defensa) {
+            this.defensa = defensa;
+        }
+    }
+}
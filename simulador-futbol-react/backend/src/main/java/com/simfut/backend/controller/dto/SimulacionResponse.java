@@ -0,0 +1,93 @@
+package com.simfut.backend.controller.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.Instant;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SimulacionResponse {
+
+    private final String id;
+    private final String tipo;
+    private final String prioridad;
+    private final String estado;
+    private final double progreso;
+    private final long semilla;
+    private final Boolean cache;
+    private final Instant creada;
+    private final Instant iniciada;
+    private final Instant finalizada;
+    private final Instant expira;
+    private final Object resultado;
+    private final String error;
+
+    public SimulacionResponse(String id, String tipo, String prioridad, String estado, double progreso, long semilla,
+                              Boolean cache, Instant creada, Instant iniciada, Instant finalizada, Instant expira,
+                              Object resultado, String error) {
+        this.id = id;
+        this.tipo = tipo;
+        this.prioridad = prioridad;
+        this.estado = estado;
+        this.progreso = progreso;
+        this.semilla = semilla;
+        this.cache = cache;
+        this.creada = creada;
+        this.iniciada = iniciada;
+        this.finalizada = finalizada;
+        this.expira = expira;
+        this.resultado = resultado;
+        this.error = error;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getTipo() {
+        return tipo;
+    }
+
+    public String getPrioridad() {
+        return prioridad;
+    }
+
+    public String getEstado() {
+        return estado;
+    }
+
+    public double getProgreso() {
+        return progreso;
+    }
+
+    public long getSemilla() {
+        return semilla;
+    }
+
+    public Boolean getCache() {
+        return cache;
+    }
+
+    public Instant getCreada() {
+        return creada;
+    }
+
+    public Instant getIniciada() {
+        return iniciada;
+    }
+
+    public Instant getFinalizada() {
+        return finalizada;
+    }
+
+    public Instant getExpira() {
+        return expira;
+    }
+
+    public Object getResultado() {
+        return resultado;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
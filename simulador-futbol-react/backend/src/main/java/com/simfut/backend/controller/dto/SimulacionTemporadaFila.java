@@ -0,0 +1,33 @@
+package com.simfut.backend.controller.dto;
+
+public class SimulacionTemporadaFila {
+
+    private final String equipo;
+    private final double puntosPromedio;
+    private final double probabilidadCampeon;
+    private final double[] probabilidadPorPosicion;
+
+    public SimulacionTemporadaFila(String equipo, double puntosPromedio, double probabilidadCampeon,
+                                   double[] probabilidadPorPosicion) {
+        this.equipo = equipo;
+        this.puntosPromedio = puntosPromedio;
+        this.probabilidadCampeon = probabilidadCampeon;
+        this.probabilidadPorPosicion = probabilidadPorPosicion;
+    }
+
+    public String getEquipo() {
+        return equipo;
+    }
+
+    public double getPuntosPromedio() {
+        return puntosPromedio;
+    }
+
+    public double getProbabilidadCampeon() {
+        return probabilidadCampeon;
+    }
+
+    public double[] getProbabilidadPorPosicion() {
+        return probabilidadPorPosicion;
+    }
+}
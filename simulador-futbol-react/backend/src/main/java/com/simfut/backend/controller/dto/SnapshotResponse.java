@@ -0,0 +1,40 @@
+package com.simfut.backend.controller.dto;
+
+import java.util.Map;
+
+public class SnapshotResponse {
+
+    private final String archivo;
+    private final long bytes;
+    private final String checksum;
+    private final Map<String, Long> filas;
+    private final long duracionMs;
+
+    public SnapshotResponse(String archivo, long bytes, String checksum, Map<String, Long> filas, long duracionMs) {
+        this.archivo = archivo;
+        this.bytes = bytes;
+        this.checksum = checksum;
+        this.filas = filas;
+        this.duracionMs = duracionMs;
+    }
+
+    public String getArchivo() {
+        return archivo;
+    }
+
+    public long getBytes() {
+        return bytes;
+    }
+
+    public String getChecksum() {
+        return checksum;
+    }
+
+    public Map<String, Long> getFilas() {
+        return filas;
+    }
+
+    public long getDuracionMs() {
+        return duracionMs;
+    }
+}
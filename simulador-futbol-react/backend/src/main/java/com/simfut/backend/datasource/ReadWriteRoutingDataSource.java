@@ -0,0 +1,33 @@
+package com.simfut.backend.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Envía a la réplica las transacciones {@code readOnly} cuando está al día y la request no
+ * escribió algo que la réplica aún no tenga; todo lo demás va a la primaria. Debe usarse
+ * detrás de un {@code LazyConnectionDataSourceProxy} para que la decisión se tome cuando la
+ * transacción ya está marcada como de solo lectura.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final ReplicaState replicaState;
+
+    public ReadWriteRoutingDataSource(ReplicaState replicaState) {
+        this.replicaState = replicaState;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && replicaState.canServe(ReadYourWritesContext.lastWrittenSeq())) {
+            return Route.REPLICA;
+        }
+        return Route.PRIMARY;
+    }
+}
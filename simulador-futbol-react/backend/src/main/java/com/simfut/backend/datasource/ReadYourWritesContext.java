@@ -0,0 +1,30 @@
+package com.simfut.backend.datasource;
+
+/**
+ * Última secuencia del registro de cambios escrita por la request en curso o informada por el
+ * cliente ({@link ReadYourWritesFilter}). Mientras la réplica no la haya aplicado, las lecturas
+ * de esa request se envían a la primaria.
+ */
+public final class ReadYourWritesContext {
+
+    private static final ThreadLocal<Long> LAST_WRITTEN_SEQ = new ThreadLocal<>();
+
+    private ReadYourWritesContext() {
+    }
+
+    public static void recordWrite(long seq) {
+        Long current = LAST_WRITTEN_SEQ.get();
+        if (current == null || seq > current) {
+            LAST_WRITTEN_SEQ.set(seq);
+        }
+    }
+
+    public static long lastWrittenSeq() {
+        Long current = LAST_WRITTEN_SEQ.get();
+        return current != null ? current : 0L;
+    }
+
+    public static void clear() {
+        LAST_WRITTEN_SEQ.remove();
+    }
+}
@@ -0,0 +1,79 @@
+package com.simfut.backend.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Lleva la secuencia de la última escritura de una request a las siguientes del mismo cliente:
+ * la request que escribe la devuelve en {@value #HEADER}, y el cliente la reenvía en ese mismo
+ * encabezado. Mientras la réplica no la haya aplicado, sus lecturas van a la primaria, así un GET
+ * justo después de un POST ve lo que acaba de escribir.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Write-Seq";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        long recibida = parse(request.getHeader(HEADER));
+        if (recibida > 0) {
+            ReadYourWritesContext.recordWrite(recibida);
+        }
+        SeqResponse wrapper = new SeqResponse(response, recibida);
+        try {
+            filterChain.doFilter(request, wrapper);
+        } finally {
+            wrapper.escribirSeq();
+            ReadYourWritesContext.clear();
+        }
+    }
+
+    /** Un valor inválido se ignora: en el peor caso la lectura va a la réplica como sin encabezado. */
+    private static long parse(String value) {
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException ex) {
+            return 0;
+        }
+    }
+
+    /** Agrega el encabezado justo antes de que se confirme la respuesta, o al terminar si nunca se confirmó. */
+    private static final class SeqResponse extends OnCommittedResponseWrapper {
+
+        private final long recibida;
+
+        private SeqResponse(HttpServletResponse response, long recibida) {
+            super(response);
+            this.recibida = recibida;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            escribirSeq();
+        }
+
+        private void escribirSeq() {
+            long escrita = ReadYourWritesContext.lastWrittenSeq();
+            HttpServletResponse response = (HttpServletResponse) getResponse();
+            if (escrita > recibida && !response.isCommitted()) {
+                response.setHeader(HEADER, Long.toString(escrita));
+            }
+        }
+    }
+}
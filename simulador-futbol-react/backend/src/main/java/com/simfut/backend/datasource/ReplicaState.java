@@ -0,0 +1,45 @@
+package com.simfut.backend.datasource;
+
+/**
+ * Estado compartido entre el enrutador y el sincronizador: hasta qué secuencia del registro
+ * de cambios llegó la réplica y desde cuándo se sabe que está al día.
+ */
+public class ReplicaState {
+
+    private final long maxLagMs;
+    private volatile boolean available;
+    private volatile long appliedSeq;
+    private volatile long caughtUpAt;
+
+    public ReplicaState(long maxLagMs) {
+        this.maxLagMs = maxLagMs;
+    }
+
+    public boolean canServe(long requiredSeq) {
+        return available && appliedSeq >= requiredSeq && lagMs() <= maxLagMs;
+    }
+
+    public long lagMs() {
+        return Math.max(0, System.currentTimeMillis() - caughtUpAt);
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public void setAvailable(boolean available) {
+        this.available = available;
+    }
+
+    public long getAppliedSeq() {
+        return appliedSeq;
+    }
+
+    public void setAppliedSeq(long appliedSeq) {
+        this.appliedSeq = appliedSeq;
+    }
+
+    public void setCaughtUpAt(long caughtUpAt) {
+        this.caughtUpAt = caughtUpAt;
+    }
+}
@@ -0,0 +1,188 @@
+package com.simfut.backend.datasource;
+
+import com.simfut.backend.model.Cambio;
+import com.simfut.backend.service.CambioService;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.sql.DataSource;
+
+/**
+ * Mantiene la réplica local alimentándola con el registro de cambios: por cada entidad
+ * modificada copia la fila vigente desde la primaria, o la borra si ya no existe. Así el
+ * orden de aplicación no importa y reaplicar un cambio es inocuo.
+ */
+@Component
+@ConditionalOnProperty(prefix = "simfut.datasource.replica", name = "enabled", havingValue = "true")
+public class ReplicaSynchronizer implements SmartInitializingSingleton {
+
+    private static final int BATCH_SIZE = 500;
+    private static final Map<Cambio.Entidad, String> TABLES = new EnumMap<>(Map.of(
+            Cambio.Entidad.EQUIPO, "equipos",
+            Cambio.Entidad.JUGADOR, "jugadores",
+            Cambio.Entidad.PARTIDO, "partidos"
+    ));
+
+    private final DataSource primaryDataSource;
+    private final DataSource replicaDataSource;
+    private final ReplicaState replicaState;
+    private final CambioService cambioService;
+
+    public ReplicaSynchronizer(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                               @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                               ReplicaState replicaState,
+                               CambioService cambioService) {
+        this.primaryDataSource = primaryDataSource;
+        this.replicaDataSource = replicaDataSource;
+        this.replicaState = replicaState;
+        this.cambioService = cambioService;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        try (Connection primary = primaryDataSource.getConnection();
+             Connection replica = replicaDataSource.getConnection()) {
+            createSchema(primary, replica);
+        } catch (SQLException ex) {
+            throw new IllegalStateException("No se pudo crear el esquema de la réplica", ex);
+        }
+        resync();
+    }
+
+    /**
+     * Copia completa de las tablas replicadas. Se usa al arrancar y cuando la compactación del
+     * registro de cambios dejó atrás la secuencia aplicada.
+     */
+    public synchronized void resync() {
+        replicaState.setAvailable(false);
+        long start = System.currentTimeMillis();
+        long upTo = cambioService.confirmadoHasta();
+        try (Connection primary = primaryDataSource.getConnection();
+             Connection replica = replicaDataSource.getConnection()) {
+            replica.setAutoCommit(false);
+            for (String table : TABLES.values()) {
+                try (Statement delete = replica.createStatement()) {
+                    delete.executeUpdate("delete from " + table);
+                }
+                try (PreparedStatement select = primary.prepareStatement("select * from " + table)) {
+                    select.setFetchSize(BATCH_SIZE);
+                    try (ResultSet rows = select.executeQuery()) {
+                        copyRows(rows, replica, table, false);
+                    }
+                }
+            }
+            replica.commit();
+        } catch (SQLException ex) {
+            throw new IllegalStateException("No se pudo copiar la réplica", ex);
+        }
+        replicaState.setAppliedSeq(upTo);
+        replicaState.setCaughtUpAt(start);
+        replicaState.setAvailable(true);
+    }
+
+    @Scheduled(fixedDelayString = "${simfut.datasource.replica.sync-interval-ms:50}")
+    public synchronized void sync() {
+        if (!replicaState.isAvailable()) {
+            return;
+        }
+        if (cambioService.requiereResync(replicaState.getAppliedSeq())) {
+            resync();
+            return;
+        }
+        long start = System.currentTimeMillis();
+        List<Cambio> cambios;
+        while (!(cambios = cambioService.pendientes(replicaState.getAppliedSeq(), BATCH_SIZE)).isEmpty()) {
+            apply(cambios);
+            replicaState.setAppliedSeq(cambios.get(cambios.size() - 1).getSeq());
+        }
+        replicaState.setCaughtUpAt(start);
+    }
+
+    private void apply(List<Cambio> cambios) {
+        Map<Cambio.Entidad, Set<Long>> ids = new EnumMap<>(Cambio.Entidad.class);
+        for (Cambio cambio : cambios) {
+            ids.computeIfAbsent(cambio.getEntidad(), entidad -> new LinkedHashSet<>()).add(cambio.getEntidadId());
+        }
+        try (Connection primary = primaryDataSource.getConnection();
+             Connection replica = replicaDataSource.getConnection()) {
+            replica.setAutoCommit(false);
+            for (Map.Entry<Cambio.Entidad, Set<Long>> entry : ids.entrySet()) {
+                String table = TABLES.get(entry.getKey());
+                Set<Long> missing = new LinkedHashSet<>(entry.getValue());
+                try (PreparedStatement select = primary.prepareStatement("select * from " + table + " where id = any(?)")) {
+                    select.setObject(1, entry.getValue().toArray(new Long[0]));
+                    try (ResultSet rows = select.executeQuery()) {
+                        missing.removeAll(copyRows(rows, replica, table, true));
+                    }
+                }
+                if (!missing.isEmpty()) {
+                    try (PreparedStatement delete = replica.prepareStatement("delete from " + table + " where id = any(?)")) {
+                        delete.setObject(1, missing.toArray(new Long[0]));
+                        delete.executeUpdate();
+                    }
+                }
+            }
+            replica.commit();
+        } catch (SQLException ex) {
+            throw new IllegalStateException("No se pudo aplicar el registro de cambios en la réplica", ex);
+        }
+    }
+
+    private List<Long> copyRows(ResultSet rows, Connection replica, String table, boolean upsert) throws SQLException {
+        ResultSetMetaData metaData = rows.getMetaData();
+        int columns = metaData.getColumnCount();
+        List<String> names = new ArrayList<>(columns);
+        for (int i = 1; i <= columns; i++) {
+            names.add(metaData.getColumnName(i));
+        }
+        String sql = (upsert ? "merge into " : "insert into ") + table + " (" + String.join(", ", names) + ")"
+                + (upsert ? " key (id)" : "") + " values (" + String.join(", ", Collections.nCopies(columns, "?")) + ")";
+        List<Long> copied = new ArrayList<>();
+        try (PreparedStatement write = replica.prepareStatement(sql)) {
+            while (rows.next()) {
+                for (int i = 1; i <= columns; i++) {
+                    write.setObject(i, rows.getObject(i));
+                }
+                write.addBatch();
+                copied.add(rows.getLong("id"));
+                if (copied.size() % BATCH_SIZE == 0) {
+                    write.executeBatch();
+                    replica.commit();
+                }
+            }
+            write.executeBatch();
+        }
+        return copied;
+    }
+
+    private void createSchema(Connection primary, Connection replica) throws SQLException {
+        try (Statement script = primary.createStatement();
+             ResultSet statements = script.executeQuery("script nodata");
+             Statement ddl = replica.createStatement()) {
+            while (statements.next()) {
+                String statement = statements.getString(1);
+                if (!statement.startsWith("CREATE USER")) {
+                    ddl.execute(statement);
+                }
+            }
+            // Los cambios se aplican fila a fila y en cualquier orden
+            ddl.execute("set referential_integrity false");
+        }
+    }
+}
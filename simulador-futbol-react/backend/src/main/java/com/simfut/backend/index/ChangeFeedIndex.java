@@ -0,0 +1,98 @@
+package com.simfut.backend.index;
+
+import com.simfut.backend.model.Cambio;
+import com.simfut.backend.service.CambioService;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Base de los índices en memoria alimentados por el registro de cambios. Se construyen completos
+ * al arrancar y luego, antes de cada consulta, aplican solo las entidades modificadas desde la
+ * última secuencia vista. Si no terminó ninguna transacción desde entonces la comprobación es
+ * una lectura volátil, sin tocar la base.
+ *
+ * Las subclases deben leer de la primaria fuera de transacciones de solo lectura, para no
+ * quedar detrás de la réplica.
+ */
+public abstract class ChangeFeedIndex implements SmartInitializingSingleton {
+
+    private static final int PAGE_SIZE = 1000;
+
+    private final CambioService cambioService;
+    private final Set<Cambio.Entidad> entidades;
+    private volatile CompletableFuture<Void> vigilado;
+    private long aplicadoHasta;
+
+    protected ChangeFeedIndex(CambioService cambioService, Set<Cambio.Entidad> entidades) {
+        this.cambioService = cambioService;
+        this.entidades = entidades;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        reconstruirCompleto();
+    }
+
+    /**
+     * Lleva el índice hasta el último cambio confirmado. Además de antes de cada consulta, lo
+     * invoca {@link IndexRefresher} en segundo plano.
+     */
+    protected final void actualizar() {
+        if (!vigilado.isDone()) {
+            return;
+        }
+        synchronized (this) {
+            if (!vigilado.isDone()) {
+                return;
+            }
+            // Se toma la señal antes de leer: lo que confirme después volverá a marcarla
+            vigilado = cambioService.proximoCambio();
+            try {
+                if (cambioService.requiereResync(aplicadoHasta)) {
+                    reconstruirCompleto();
+                    return;
+                }
+                List<Cambio> cambios;
+                while (!(cambios = cambioService.pendientes(aplicadoHasta, PAGE_SIZE)).isEmpty()) {
+                    Map<Cambio.Entidad, Set<Long>> modificados = new EnumMap<>(Cambio.Entidad.class);
+                    for (Cambio cambio : cambios) {
+                        if (entidades.contains(cambio.getEntidad())) {
+                            modificados.computeIfAbsent(cambio.getEntidad(), entidad -> new LinkedHashSet<>())
+                                    .add(cambio.getEntidadId());
+                        }
+                    }
+                    if (!modificados.isEmpty()) {
+                        aplicar(modificados);
+                    }
+                    aplicadoHasta = cambios.get(cambios.size() - 1).getSeq();
+                }
+            } catch (RuntimeException ex) {
+                // Sin esto la señal nueva quedaría pendiente y nadie reintentaría hasta el próximo commit
+                vigilado = CompletableFuture.completedFuture(null);
+                throw ex;
+            }
+        }
+    }
+
+    /** Carga el estado completo desde la base. */
+    protected abstract void reconstruir();
+
+    /**
+     * Recarga las entidades indicadas; las que ya no existen deben quitarse. Como se relee el
+     * estado vigente, aplicar dos veces el mismo cambio es inocuo.
+     */
+    protected abstract void aplicar(Map<Cambio.Entidad, Set<Long>> modificados);
+
+    private synchronized void reconstruirCompleto() {
+        vigilado = cambioService.proximoCambio();
+        long hasta = cambioService.confirmadoHasta();
+        reconstruir();
+        aplicadoHasta = hasta;
+    }
+}
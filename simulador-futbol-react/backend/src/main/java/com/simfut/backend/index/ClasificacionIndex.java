@@ -0,0 +1,236 @@
+package com.simfut.backend.index;
+
+import com.simfut.backend.auth.Role;
+import com.simfut.backend.controller.dto.ClasificacionFila;
+import com.simfut.backend.model.Cambio;
+import com.simfut.backend.service.AuthorizationService;
+import com.simfut.backend.service.CambioService;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Tabla de posiciones a cualquier fecha o jornada. Por equipo se guardan sus partidos jugados
+ * ordenados por fecha junto con sumas acumuladas de puntos, goles y resultados, así que la
+ * tabla a una fecha es una búsqueda binaria por equipo. Un cambio en un partido solo recalcula
+ * las series de los equipos involucrados.
+ */
+@Component
+public class ClasificacionIndex extends ChangeFeedIndex {
+
+    private static final Comparator<ResultadoPartido> POR_FECHA = Comparator
+            .comparingLong(ResultadoPartido::fecha)
+            .thenComparingLong(ResultadoPartido::id);
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final AuthorizationService authorizationService;
+    private final Map<Long, ResultadoPartido> partidos = new HashMap<>();
+    private final Map<Long, Set<Long>> partidosPorEquipo = new HashMap<>();
+    private volatile Estado estado = new Estado(Map.of(), Map.of());
+
+    public ClasificacionIndex(NamedParameterJdbcTemplate jdbc,
+                              CambioService cambioService,
+                              AuthorizationService authorizationService) {
+        super(cambioService, Set.of(Cambio.Entidad.EQUIPO, Cambio.Entidad.PARTIDO));
+        this.jdbc = jdbc;
+        this.authorizationService = authorizationService;
+    }
+
+    /**
+     * Tabla con los partidos hasta {@code fecha} inclusive, o con los primeros {@code jornada}
+     * partidos de cada equipo; sin ninguno de los dos, la tabla actual.
+     */
+    public List<ClasificacionFila> tabla(LocalDate fecha, Integer jornada) {
+        authorizationService.requireAnyRole(Role.USER, Role.ADMIN);
+        if (fecha != null && jornada != null) {
+            throw new IllegalArgumentException("Indique fecha o jornada, no ambas");
+        }
+        if (jornada != null && jornada < 0) {
+            throw new IllegalArgumentException("La jornada no puede ser negativa");
+        }
+        actualizar();
+        Estado actual = estado;
+        List<Totales> totales = new ArrayList<>(actual.equipos().size());
+        for (Map.Entry<Long, String> equipo : actual.equipos().entrySet()) {
+            Serie serie = actual.series().get(equipo.getKey());
+            int jugados = 0;
+            if (serie != null) {
+                jugados = fecha != null ? serie.jugadosHasta(fecha.toEpochDay())
+                        : jornada != null ? Math.min(jornada, serie.fechas().length)
+                        : serie.fechas().length;
+            }
+            totales.add(new Totales(equipo.getKey(), equipo.getValue(), serie, jugados));
+        }
+        totales.sort(Comparator.comparingInt(Totales::puntos).reversed()
+                .thenComparing(Comparator.comparingInt(Totales::diferencia).reversed())
+                .thenComparing(Comparator.comparingInt(Totales::golesAFavor).reversed())
+                .thenComparing(Totales::nombre, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER)));
+        List<ClasificacionFila> filas = new ArrayList<>(totales.size());
+        for (int i = 0; i < totales.size(); i++) {
+            Totales t = totales.get(i);
+            filas.add(new ClasificacionFila(i + 1, t.equipoId(), t.nombre(), t.jugados(), t.ganados(), t.empatados(),
+                    t.jugados() - t.ganados() - t.empatados(), t.golesAFavor(), t.golesEnContra(), t.puntos()));
+        }
+        return filas;
+    }
+
+    @Override
+    protected void reconstruir() {
+        partidos.clear();
+        partidosPorEquipo.clear();
+        for (ResultadoPartido partido : ResultadoPartido.cargarTodos(jdbc)) {
+            if (partido.jugado()) {
+                vincular(partido);
+            }
+        }
+        Map<Long, String> equipos = new HashMap<>();
+        EquipoActivo.cargarTodos(jdbc).forEach(equipo -> equipos.put(equipo.id(), equipo.nombre()));
+        Map<Long, Serie> series = new HashMap<>();
+        partidosPorEquipo.keySet().forEach(equipoId -> series.put(equipoId, serie(equipoId)));
+        estado = new Estado(equipos, series);
+    }
+
+    @Override
+    protected void aplicar(Map<Cambio.Entidad, Set<Long>> modificados) {
+        Estado actual = estado;
+        Map<Long, String> equipos = actual.equipos();
+        Set<Long> equipoIds = modificados.get(Cambio.Entidad.EQUIPO);
+        if (equipoIds != null) {
+            equipos = new HashMap<>(equipos);
+            equipos.keySet().removeAll(equipoIds);
+            for (EquipoActivo equipo : EquipoActivo.cargar(jdbc, equipoIds)) {
+                equipos.put(equipo.id(), equipo.nombre());
+            }
+        }
+        Map<Long, Serie> series = actual.series();
+        Set<Long> partidoIds = modificados.get(Cambio.Entidad.PARTIDO);
+        if (partidoIds != null) {
+            Map<Long, ResultadoPartido> vigentes = new HashMap<>();
+            ResultadoPartido.cargar(jdbc, partidoIds).forEach(partido -> vigentes.put(partido.id(), partido));
+            Set<Long> afectados = new HashSet<>();
+            for (Long id : partidoIds) {
+                ResultadoPartido anterior = partidos.get(id);
+                if (anterior != null) {
+                    desvincular(anterior);
+                    afectados.add(anterior.localId());
+                    afectados.add(anterior.visitanteId());
+                }
+                ResultadoPartido vigente = vigentes.get(id);
+                if (vigente != null && vigente.jugado()) {
+                    vincular(vigente);
+                    afectados.add(vigente.localId());
+                    afectados.add(vigente.visitanteId());
+                }
+            }
+            series = new HashMap<>(series);
+            for (Long equipoId : afectados) {
+                if (partidosPorEquipo.containsKey(equipoId)) {
+                    series.put(equipoId, serie(equipoId));
+                } else {
+                    series.remove(equipoId);
+                }
+            }
+        }
+        estado = new Estado(equipos, series);
+    }
+
+    private void vincular(ResultadoPartido partido) {
+        partidos.put(partido.id(), partido);
+        partidosPorEquipo.computeIfAbsent(partido.localId(), id -> new HashSet<>()).add(partido.id());
+        partidosPorEquipo.computeIfAbsent(partido.visitanteId(), id -> new HashSet<>()).add(partido.id());
+    }
+
+    private void desvincular(ResultadoPartido partido) {
+        partidos.remove(partido.id());
+        for (Long equipoId : List.of(partido.localId(), partido.visitanteId())) {
+            Set<Long> ids = partidosPorEquipo.get(equipoId);
+            if (ids != null && ids.remove(partido.id()) && ids.isEmpty()) {
+                partidosPorEquipo.remove(equipoId);
+            }
+        }
+    }
+
+    private Serie serie(long equipoId) {
+        ResultadoPartido[] jugados = partidosPorEquipo.get(equipoId).stream()
+                .map(partidos::get)
+                .sorted(POR_FECHA)
+                .toArray(ResultadoPartido[]::new);
+        int n = jugados.length;
+        long[] fechas = new long[n];
+        int[] puntos = new int[n];
+        int[] golesAFavor = new int[n];
+        int[] golesEnContra = new int[n];
+        int[] ganados = new int[n];
+        int[] empatados = new int[n];
+        for (int i = 0; i < n; i++) {
+            ResultadoPartido partido = jugados[i];
+            int propios = partido.golesDe(equipoId);
+            int ajenos = partido.golesContra(equipoId);
+            int previo = i - 1;
+            fechas[i] = partido.fecha();
+            golesAFavor[i] = (previo >= 0 ? golesAFavor[previo] : 0) + propios;
+            golesEnContra[i] = (previo >= 0 ? golesEnContra[previo] : 0) + ajenos;
+            ganados[i] = (previo >= 0 ? ganados[previo] : 0) + (propios > ajenos ? 1 : 0);
+            empatados[i] = (previo >= 0 ? empatados[previo] : 0) + (propios == ajenos ? 1 : 0);
+            puntos[i] = 3 * ganados[i] + empatados[i];
+        }
+        return new Serie(fechas, puntos, golesAFavor, golesEnContra, ganados, empatados);
+    }
+
+    private record Estado(Map<Long, String> equipos, Map<Long, Serie> series) {
+    }
+
+    /** Sumas acumuladas por partido jugado, en orden de fecha. */
+    private record Serie(long[] fechas, int[] puntos, int[] golesAFavor, int[] golesEnContra,
+                         int[] ganados, int[] empatados) {
+
+        /** Cantidad de partidos con fecha menor o igual a {@code epochDay}. */
+        int jugadosHasta(long epochDay) {
+            int index = Arrays.binarySearch(fechas, epochDay);
+            if (index < 0) {
+                return -index - 1;
+            }
+            // Con varios partidos el mismo día la búsqueda puede caer en cualquiera de ellos
+            while (index + 1 < fechas.length && fechas[index + 1] == epochDay) {
+                index++;
+            }
+            return index + 1;
+        }
+    }
+
+    private record Totales(long equipoId, String nombre, Serie serie, int jugados) {
+
+        int puntos() {
+            return jugados > 0 ? serie.puntos()[jugados - 1] : 0;
+        }
+
+        int golesAFavor() {
+            return jugados > 0 ? serie.golesAFavor()[jugados - 1] : 0;
+        }
+
+        int golesEnContra() {
+            return jugados > 0 ? serie.golesEnContra()[jugados - 1] : 0;
+        }
+
+        int diferencia() {
+            return golesAFavor() - golesEnContra();
+        }
+
+        int ganados() {
+            return jugados > 0 ? serie.ganados()[jugados - 1] : 0;
+        }
+
+        int empatados() {
+            return jugados > 0 ? serie.empatados()[jugados - 1] : 0;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.simfut.backend.index;
+
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Equipo no eliminado, con lo mínimo para mostrarlo en tablas y rankings.
+ */
+record EquipoActivo(long id, String nombre) {
+
+    private static final String SELECT = "select id, nombre from equipos where eliminado = false";
+
+    private static final RowMapper<EquipoActivo> MAPPER =
+            (rs, rowNum) -> new EquipoActivo(rs.getLong("id"), rs.getString("nombre"));
+
+    static List<EquipoActivo> cargarTodos(NamedParameterJdbcTemplate jdbc) {
+        return jdbc.query(SELECT, MAPPER);
+    }
+
+    static List<EquipoActivo> cargar(NamedParameterJdbcTemplate jdbc, Collection<Long> ids) {
+        return jdbc.query(SELECT + " and id in (:ids)", Map.of("ids", ids), MAPPER);
+    }
+}
@@ -0,0 +1,232 @@
+package com.simfut.backend.index;
+
+import com.simfut.backend.auth.Role;
+import com.simfut.backend.controller.dto.EquipoFuerzaResponse;
+import com.simfut.backend.model.Cambio;
+import com.simfut.backend.service.AuthorizationService;
+import com.simfut.backend.service.CambioService;
+import com.simfut.backend.service.ResourceNotFoundException;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fuerza de cada equipo calculada a partir de su plantel: ataque y defensa son promedios de las
+ * valoraciones de sus jugadores ponderados por posición, divididos por 50 para que un plantel
+ * promedio valga 1.0 como en el motor de simulación. Sin jugadores valorados el factor es 1.0.
+ *
+ * Por equipo se guardan sumas enteras (los pesos van en décimos), así que alta, baja, edición o
+ * traspaso de un jugador resta su aporte anterior y suma el vigente sin deriva numérica. Cada
+ * equipo afectado publica un valor inmutable y las lecturas son una búsqueda en un mapa.
+ */
+@Component
+public class FuerzaEquipoIndex extends ChangeFeedIndex {
+
+    public enum Posicion {
+        ARQ(1, 10),
+        DEF(3, 10),
+        MED(7, 7),
+        DEL(10, 3),
+        OTRA(5, 5);
+
+        private final int pesoAtaque;
+        private final int pesoDefensa;
+
+        Posicion(int pesoAtaque, int pesoDefensa) {
+            this.pesoAtaque = pesoAtaque;
+            this.pesoDefensa = pesoDefensa;
+        }
+
+        /** Acepta las abreviaturas del frontend y los nombres comunes de cada puesto. */
+        static Posicion desde(String posicion) {
+            String normalizada = posicion != null ? TextNormalizer.normalize(posicion) : "";
+            if (normalizada.startsWith("arq") || normalizada.startsWith("por") || normalizada.equals("gk")) {
+                return ARQ;
+            }
+            if (normalizada.startsWith("def") || normalizada.startsWith("lat") || normalizada.startsWith("zag")) {
+                return DEF;
+            }
+            if (normalizada.startsWith("med") || normalizada.startsWith("vol")) {
+                return MED;
+            }
+            if (normalizada.startsWith("del") || normalizada.startsWith("ext") || normalizada.startsWith("pun")) {
+                return DEL;
+            }
+            return OTRA;
+        }
+    }
+
+    /** Fuerza publicada de un equipo activo. */
+    public record FuerzaEquipo(long equipoId, String nombre, double ataque, double defensa,
+                               int jugadores, int valorados, Map<Posicion, Integer> profundidad) {
+    }
+
+    private static final String SELECT = "select id, posicion, ataque, defensa, equipo_id from jugadores";
+    private static final double VALORACION_PROMEDIO = 50.0;
+    /** Mismo mínimo que aceptan los pedidos de simulación. */
+    private static final double FACTOR_MINIMO = 0.1;
+
+    private static final RowMapper<Aporte> MAPPER = (rs, rowNum) -> new Aporte(
+            rs.getLong("id"),
+            rs.getObject("equipo_id", Long.class),
+            Posicion.desde(rs.getString("posicion")),
+            rs.getObject("ataque", Integer.class),
+            rs.getObject("defensa", Integer.class));
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final AuthorizationService authorizationService;
+    private final Map<Long, Aporte> aportes = new HashMap<>();
+    private final Map<Long, Suma> sumas = new HashMap<>();
+    private final Map<Long, String> nombres = new HashMap<>();
+    private final Map<Long, FuerzaEquipo> fuerzas = new ConcurrentHashMap<>();
+
+    public FuerzaEquipoIndex(NamedParameterJdbcTemplate jdbc,
+                             CambioService cambioService,
+                             AuthorizationService authorizationService) {
+        super(cambioService, Set.of(Cambio.Entidad.EQUIPO, Cambio.Entidad.JUGADOR));
+        this.jdbc = jdbc;
+        this.authorizationService = authorizationService;
+    }
+
+    public EquipoFuerzaResponse consultar(long equipoId) {
+        authorizationService.requireAnyRole(Role.USER, Role.ADMIN);
+        FuerzaEquipo fuerza = fuerza(equipoId);
+        if (fuerza == null) {
+            throw new ResourceNotFoundException("Equipo no encontrado con id " + equipoId);
+        }
+        Map<String, Integer> profundidad = new LinkedHashMap<>();
+        fuerza.profundidad().forEach((posicion, cantidad) -> profundidad.put(posicion.name(), cantidad));
+        return new EquipoFuerzaResponse(fuerza.equipoId(), fuerza.nombre(), fuerza.ataque(), fuerza.defensa(),
+                fuerza.jugadores(), fuerza.valorados(), profundidad);
+    }
+
+    /** Fuerza vigente del equipo, o null si no existe o fue eliminado. Sin control de acceso. */
+    public FuerzaEquipo fuerza(long equipoId) {
+        actualizar();
+        return fuerzas.get(equipoId);
+    }
+
+    @Override
+    protected void reconstruir() {
+        aportes.clear();
+        sumas.clear();
+        nombres.clear();
+        fuerzas.clear();
+        jdbc.query(SELECT, MAPPER).forEach(aporte -> sumar(aporte, 1));
+        EquipoActivo.cargarTodos(jdbc).forEach(equipo -> nombres.put(equipo.id(), equipo.nombre()));
+        nombres.keySet().forEach(this::publicar);
+    }
+
+    @Override
+    protected void aplicar(Map<Cambio.Entidad, Set<Long>> modificados) {
+        Set<Long> jugadorIds = modificados.getOrDefault(Cambio.Entidad.JUGADOR, Set.of());
+        Set<Long> equipoIds = modificados.getOrDefault(Cambio.Entidad.EQUIPO, Set.of());
+        Set<Long> afectados = new HashSet<>(equipoIds);
+        if (!jugadorIds.isEmpty()) {
+            Map<Long, Aporte> vigentes = new HashMap<>();
+            jdbc.query(SELECT + " where id in (:ids)", Map.of("ids", jugadorIds), MAPPER)
+                    .forEach(aporte -> vigentes.put(aporte.jugadorId(), aporte));
+            for (Long id : jugadorIds) {
+                Aporte anterior = aportes.get(id);
+                if (anterior != null) {
+                    sumar(anterior, -1);
+                    afectados.add(anterior.equipoId());
+                }
+                Aporte vigente = vigentes.get(id);
+                if (vigente != null) {
+                    sumar(vigente, 1);
+                    afectados.add(vigente.equipoId());
+                }
+            }
+        }
+        if (!equipoIds.isEmpty()) {
+            nombres.keySet().removeAll(equipoIds);
+            EquipoActivo.cargar(jdbc, equipoIds).forEach(equipo -> nombres.put(equipo.id(), equipo.nombre()));
+        }
+        afectados.remove(null);
+        afectados.forEach(this::publicar);
+    }
+
+    private void sumar(Aporte aporte, int signo) {
+        if (signo > 0) {
+            aportes.put(aporte.jugadorId(), aporte);
+        } else {
+            aportes.remove(aporte.jugadorId());
+        }
+        if (aporte.equipoId() == null) {
+            return;
+        }
+        Suma suma = sumas.computeIfAbsent(aporte.equipoId(), id -> new Suma());
+        suma.sumar(aporte, signo);
+        if (suma.jugadores == 0) {
+            sumas.remove(aporte.equipoId());
+        }
+    }
+
+    private void publicar(Long equipoId) {
+        String nombre = nombres.get(equipoId);
+        if (nombre == null) {
+            fuerzas.remove(equipoId);
+            return;
+        }
+        Suma suma = sumas.getOrDefault(equipoId, new Suma());
+        fuerzas.put(equipoId, suma.fuerza(equipoId, nombre));
+    }
+
+    private record Aporte(long jugadorId, Long equipoId, Posicion posicion, Integer ataque, Integer defensa) {
+    }
+
+    private static final class Suma {
+
+        private final int[] profundidad = new int[Posicion.values().length];
+        private int jugadores;
+        private int valorados;
+        private long ataque;
+        private long pesoAtaque;
+        private long defensa;
+        private long pesoDefensa;
+
+        void sumar(Aporte aporte, int signo) {
+            Posicion posicion = aporte.posicion();
+            profundidad[posicion.ordinal()] += signo;
+            jugadores += signo;
+            if (aporte.ataque() != null || aporte.defensa() != null) {
+                valorados += signo;
+            }
+            if (aporte.ataque() != null) {
+                ataque += (long) signo * posicion.pesoAtaque * aporte.ataque();
+                pesoAtaque += (long) signo * posicion.pesoAtaque;
+            }
+            if (aporte.defensa() != null) {
+                defensa += (long) signo * posicion.pesoDefensa * aporte.defensa();
+                pesoDefensa += (long) signo * posicion.pesoDefensa;
+            }
+        }
+
+        FuerzaEquipo fuerza(long equipoId, String nombre) {
+            Map<Posicion, Integer> porPosicion = new EnumMap<>(Posicion.class);
+            for (Posicion posicion : Posicion.values()) {
+                porPosicion.put(posicion, profundidad[posicion.ordinal()]);
+            }
+            return new FuerzaEquipo(equipoId, nombre, factor(ataque, pesoAtaque), factor(defensa, pesoDefensa),
+                    jugadores, valorados, Collections.unmodifiableMap(porPosicion));
+        }
+
+        private static double factor(long suma, long peso) {
+            if (peso == 0) {
+                return 1.0;
+            }
+            double factor = Math.round((double) suma / peso / VALORACION_PROMEDIO * 1000) / 1000.0;
+            return Math.max(FACTOR_MINIMO, factor);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.simfut.backend.index;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Refresco en segundo plano de los índices alimentados por el registro de cambios: así una
+ * consulta rara vez encuentra un atraso grande, y las ráfagas de escrituras (importaciones) se
+ * aplican fuera del hilo de un request.
+ *
+ * Corre en un hilo propio y no en el pool de {@code @Scheduled}: ponerse al día después de una
+ * importación grande lleva segundos, y en ese pool demoraría el volcado de goles y la
+ * sincronización de la réplica. Los índices se refrescan uno tras otro.
+ */
+@Component
+public class IndexRefresher {
+
+    private static final Logger log = LoggerFactory.getLogger(IndexRefresher.class);
+
+    private final List<ChangeFeedIndex> indices;
+    private final long intervaloMs;
+    private final ScheduledExecutorService executor;
+
+    public IndexRefresher(List<ChangeFeedIndex> indices,
+                          @Value("${simfut.indices.refresh-interval-ms:1000}") long intervaloMs) {
+        this.indices = indices;
+        this.intervaloMs = intervaloMs;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "indices-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /** Arranca cuando los índices ya se construyeron al inicializar los singletons. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void iniciar() {
+        executor.scheduleWithFixedDelay(this::refrescar, intervaloMs, intervaloMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void refrescar() {
+        for (ChangeFeedIndex indice : indices) {
+            // Una excepción cancelaría las ejecuciones siguientes del executor
+            try {
+                indice.actualizar();
+            } catch (RuntimeException ex) {
+                log.warn("No se pudo refrescar {}", indice.getClass().getSimpleName(), ex);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
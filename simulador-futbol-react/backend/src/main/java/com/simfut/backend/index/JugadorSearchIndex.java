@@ -0,0 +1,319 @@
+package com.simfut.backend.index;
+
+import com.simfut.backend.auth.Role;
+import com.simfut.backend.controller.dto.JugadorResponse;
+import com.simfut.backend.model.Cambio;
+import com.simfut.backend.service.AuthorizationService;
+import com.simfut.backend.service.CambioService;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Búsqueda de jugadores por nombre sin distinguir tildes ni mayúsculas. Un árbol ordenado de
+ * palabras resuelve prefijos ("mes" → "Messi", "lio mes" → "Lionel Messi"); si no alcanzan,
+ * un índice de trigramas aporta coincidencias aproximadas o a mitad de palabra.
+ *
+ * Cada jugador ocupa una ranura y las listas de ranuras son arreglos de int que solo crecen: una
+ * modificación anula la ranura vieja y agrega una nueva. Cuando las anuladas superan a las vivas
+ * el índice se compacta en memoria.
+ */
+@Component
+public class JugadorSearchIndex extends ChangeFeedIndex {
+
+    private static final String SELECT = "select id, nombre, posicion, numero_camiseta, ataque, defensa, equipo_id from jugadores";
+    private static final int LIMITE_MAXIMO = 100;
+    private static final int MINIMO_TRIGRAMAS = 3;
+    private static final double SIMILITUD_MINIMA = 0.5;
+    private static final int COMPACTAR_DESDE = 1024;
+
+    private static final Comparator<Candidato> RANKING = Comparator
+            .comparingInt(Candidato::puntaje).reversed()
+            .thenComparingInt(candidato -> candidato.documento().normalizado().length())
+            .thenComparing(candidato -> candidato.documento().normalizado())
+            .thenComparingLong(candidato -> candidato.documento().id());
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final AuthorizationService authorizationService;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<Documento> documentos = new ArrayList<>();
+    private final Map<Long, Integer> ranuras = new HashMap<>();
+    private final TreeMap<String, Ranuras> palabras = new TreeMap<>();
+    private final Map<String, Ranuras> trigramas = new HashMap<>();
+    private int anuladas;
+
+    public JugadorSearchIndex(NamedParameterJdbcTemplate jdbc,
+                              CambioService cambioService,
+                              AuthorizationService authorizationService) {
+        super(cambioService, Set.of(Cambio.Entidad.JUGADOR));
+        this.jdbc = jdbc;
+        this.authorizationService = authorizationService;
+    }
+
+    public List<JugadorResponse> buscar(String texto, String posicion, Long equipoId, int limite) {
+        authorizationService.requireAnyRole(Role.USER, Role.ADMIN);
+        // Se valida ya normalizado: si queda vacío, el prefijo "" coincidiría con todos los jugadores
+        String consulta = texto != null ? TextNormalizer.normalize(texto) : "";
+        if (consulta.isEmpty()) {
+            throw new IllegalArgumentException("Indique el texto a buscar");
+        }
+        if (limite < 1 || limite > LIMITE_MAXIMO) {
+            throw new IllegalArgumentException("El límite debe estar entre 1 y " + LIMITE_MAXIMO);
+        }
+        String posicionBuscada = posicion != null && !posicion.isBlank() ? TextNormalizer.normalize(posicion) : null;
+        actualizar();
+
+        lock.readLock().lock();
+        try {
+            PriorityQueue<Candidato> mejores = new PriorityQueue<>(limite + 1, RANKING.reversed());
+            int[] porPrefijo = porPrefijo(consulta.split(" "));
+            int encontrados = 0;
+            for (int ranura : porPrefijo) {
+                Documento documento = documentos.get(ranura);
+                if (documento != null && documento.cumple(posicionBuscada, equipoId)) {
+                    encontrados++;
+                    int puntaje = documento.normalizado().equals(consulta) ? 1000
+                            : documento.normalizado().startsWith(consulta) ? 900
+                            : 800;
+                    ofrecer(mejores, new Candidato(documento, puntaje), limite);
+                }
+            }
+            if (encontrados < limite && consulta.length() >= MINIMO_TRIGRAMAS) {
+                porSimilitud(consulta, porPrefijo, posicionBuscada, equipoId, mejores, limite);
+            }
+            List<Candidato> ordenados = new ArrayList<>(mejores);
+            ordenados.sort(RANKING);
+            return ordenados.stream().map(candidato -> candidato.documento().toResponse()).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    protected void reconstruir() {
+        lock.writeLock().lock();
+        try {
+            limpiar();
+            jdbc.query(SELECT, (RowCallbackHandler) rs -> indexar(documento(rs)));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    protected void aplicar(Map<Cambio.Entidad, Set<Long>> modificados) {
+        Set<Long> ids = modificados.get(Cambio.Entidad.JUGADOR);
+        List<Documento> vigentes = new ArrayList<>();
+        jdbc.query(SELECT + " where id in (:ids)", Map.of("ids", ids), (RowCallbackHandler) rs -> vigentes.add(documento(rs)));
+        lock.writeLock().lock();
+        try {
+            ids.forEach(this::anular);
+            vigentes.forEach(this::indexar);
+            if (anuladas > COMPACTAR_DESDE && anuladas > documentos.size() / 2) {
+                List<Documento> vivos = documentos.stream().filter(documento -> documento != null).toList();
+                limpiar();
+                vivos.forEach(this::indexar);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ranuras (ordenadas) cuyo nombre tiene una palabra con cada prefijo. Se intersecan las listas
+     * directamente, de la más corta a la más larga, así el costo depende de las coincidencias y
+     * no del total de jugadores.
+     */
+    private int[] porPrefijo(String[] tokens) {
+        int[][] porToken = new int[tokens.length][];
+        for (int i = 0; i < tokens.length; i++) {
+            porToken[i] = unir(palabras.subMap(tokens[i], true, tokens[i] + Character.MAX_VALUE, false).values());
+            if (porToken[i].length == 0) {
+                return porToken[i];
+            }
+        }
+        Arrays.sort(porToken, Comparator.comparingInt(lista -> lista.length));
+        int[] resultado = porToken[0];
+        for (int i = 1; i < porToken.length && resultado.length > 0; i++) {
+            resultado = intersecar(resultado, porToken[i]);
+        }
+        return resultado;
+    }
+
+    /** Unión ordenada y sin repetidos de las listas de las palabras que comparten un prefijo. */
+    private static int[] unir(Collection<Ranuras> listas) {
+        if (listas.size() == 1) {
+            Ranuras lista = listas.iterator().next();
+            return Arrays.copyOf(lista.valores, lista.size);
+        }
+        int total = 0;
+        for (Ranuras lista : listas) {
+            total += lista.size;
+        }
+        int[] unidas = new int[total];
+        int n = 0;
+        for (Ranuras lista : listas) {
+            System.arraycopy(lista.valores, 0, unidas, n, lista.size);
+            n += lista.size;
+        }
+        Arrays.sort(unidas);
+        int distintas = 0;
+        for (int i = 0; i < n; i++) {
+            if (i == 0 || unidas[i] != unidas[i - 1]) {
+                unidas[distintas++] = unidas[i];
+            }
+        }
+        return Arrays.copyOf(unidas, distintas);
+    }
+
+    private static int[] intersecar(int[] a, int[] b) {
+        int[] comunes = new int[Math.min(a.length, b.length)];
+        int n = 0;
+        for (int i = 0, j = 0; i < a.length && j < b.length; ) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                comunes[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(comunes, n);
+    }
+
+    /** Cuenta los trigramas compartidos solo para las ranuras que aparecen en alguna lista. */
+    private void porSimilitud(String consulta, int[] excluidas, String posicion, Long equipoId,
+                              PriorityQueue<Candidato> mejores, int limite) {
+        Set<String> buscados = trigramasDe(consulta);
+        Map<Integer, Integer> compartidos = new HashMap<>();
+        for (String trigrama : buscados) {
+            Ranuras lista = trigramas.get(trigrama);
+            if (lista == null) {
+                continue;
+            }
+            for (int i = 0; i < lista.size; i++) {
+                compartidos.merge(lista.valores[i], 1, Integer::sum);
+            }
+        }
+        compartidos.forEach((ranura, cantidad) -> {
+            Documento documento = documentos.get(ranura);
+            double similitud = (double) cantidad / buscados.size();
+            if (documento != null && similitud >= SIMILITUD_MINIMA && Arrays.binarySearch(excluidas, ranura) < 0
+                    && documento.cumple(posicion, equipoId)) {
+                ofrecer(mejores, new Candidato(documento, (int) Math.round(similitud * 500)), limite);
+            }
+        });
+    }
+
+    private static void ofrecer(PriorityQueue<Candidato> mejores, Candidato candidato, int limite) {
+        mejores.add(candidato);
+        if (mejores.size() > limite) {
+            mejores.poll();
+        }
+    }
+
+    private void indexar(Documento documento) {
+        int ranura = documentos.size();
+        documentos.add(documento);
+        ranuras.put(documento.id(), ranura);
+        for (String palabra : new LinkedHashSet<>(Arrays.asList(documento.normalizado().split(" ")))) {
+            palabras.computeIfAbsent(palabra, key -> new Ranuras()).agregar(ranura);
+        }
+        for (String trigrama : trigramasDe(documento.normalizado())) {
+            trigramas.computeIfAbsent(trigrama, key -> new Ranuras()).agregar(ranura);
+        }
+    }
+
+    private void anular(Long id) {
+        Integer ranura = ranuras.remove(id);
+        if (ranura != null) {
+            documentos.set(ranura, null);
+            anuladas++;
+        }
+    }
+
+    private void limpiar() {
+        documentos.clear();
+        ranuras.clear();
+        palabras.clear();
+        trigramas.clear();
+        anuladas = 0;
+    }
+
+    /** Trigramas con un espacio de relleno a cada lado, para favorecer los inicios de palabra. */
+    private static Set<String> trigramasDe(String normalizado) {
+        String relleno = " " + normalizado + " ";
+        Set<String> resultado = new LinkedHashSet<>();
+        for (int i = 0; i + 3 <= relleno.length(); i++) {
+            resultado.add(relleno.substring(i, i + 3));
+        }
+        return resultado;
+    }
+
+    private static Documento documento(ResultSet rs) throws SQLException {
+        String nombre = rs.getString("nombre");
+        String posicion = rs.getString("posicion");
+        return new Documento(
+                rs.getLong("id"),
+                nombre,
+                TextNormalizer.normalize(nombre != null ? nombre : ""),
+                posicion,
+                posicion != null ? TextNormalizer.normalize(posicion) : null,
+                rs.getObject("numero_camiseta", Integer.class),
+                rs.getObject("ataque", Integer.class),
+                rs.getObject("defensa", Integer.class),
+                rs.getObject("equipo_id", Long.class)
+        );
+    }
+
+    private record Documento(long id, String nombre, String normalizado, String posicion, String posicionNormalizada,
+                             Integer numeroCamiseta, Integer ataque, Integer defensa, Long equipoId) {
+
+        boolean cumple(String posicionBuscada, Long equipoBuscado) {
+            return (posicionBuscada == null || posicionBuscada.equals(posicionNormalizada))
+                    && (equipoBuscado == null || equipoBuscado.equals(equipoId));
+        }
+
+        JugadorResponse toResponse() {
+            return new JugadorResponse(id, nombre, posicion, numeroCamiseta, ataque, defensa, equipoId);
+        }
+    }
+
+    private record Candidato(Documento documento, int puntaje) {
+    }
+
+    /**
+     * Lista creciente de ranuras, ordenada porque las ranuras nuevas siempre son mayores; se
+     * recorre completa y las anuladas se descartan al leer.
+     */
+    private static final class Ranuras {
+
+        private int[] valores = new int[4];
+        private int size;
+
+        void agregar(int ranura) {
+            if (size == valores.length) {
+                valores = Arrays.copyOf(valores, size * 2);
+            }
+            valores[size++] = ranura;
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package com.simfut.backend.index;
+
+import com.simfut.backend.auth.Role;
+import com.simfut.backend.controller.dto.RankingFila;
+import com.simfut.backend.model.Cambio;
+import com.simfut.backend.service.AuthorizationService;
+import com.simfut.backend.service.CambioService;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Collectors;
+
+/**
+ * Rankings de equipos mantenidos en conjuntos ordenados por (valor, equipoId), uno por métrica.
+ * Cuando cambia un partido se ajustan los acumulados de sus dos equipos y cada uno se reubica
+ * con una baja y un alta en O(log n); consultar el top-K es recorrer los primeros K elementos.
+ * La racha también se ajusta sin recorrer el historial, salvo al cambiar el último partido que el
+ * equipo no ganó, donde se recuentan solo los partidos posteriores.
+ *
+ * Mientras se reubica un equipo, una consulta concurrente puede no verlo por un instante.
+ */
+@Component
+public class RankingIndex extends ChangeFeedIndex {
+
+    public enum Metrica {
+        PUNTOS,
+        DIFERENCIA,
+        GOLES,
+        VALLAS_INVICTAS,
+        RACHA;
+
+        public static Metrica desde(String valor) {
+            try {
+                return valueOf(valor.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException ex) {
+                throw new IllegalArgumentException("Métrica desconocida: " + valor + ". Valores válidos: "
+                        + Arrays.stream(values()).map(Metrica::parametro).collect(Collectors.joining(", ")));
+            }
+        }
+
+        public String parametro() {
+            return name().toLowerCase(Locale.ROOT).replace('_', '-');
+        }
+    }
+
+    private static final int K_MAXIMO = 100;
+    private static final Comparator<Entrada> ORDEN = Comparator.comparingLong(Entrada::valor).reversed()
+            .thenComparingLong(Entrada::equipoId);
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final AuthorizationService authorizationService;
+    private final Map<Metrica, ConcurrentSkipListSet<Entrada>> rankings = new EnumMap<>(Metrica.class);
+    private final Map<Long, String> nombres = new ConcurrentHashMap<>();
+    private final Map<Long, ResultadoPartido> partidos = new HashMap<>();
+    private final Map<Long, Acumulado> acumulados = new HashMap<>();
+
+    public RankingIndex(NamedParameterJdbcTemplate jdbc,
+                        CambioService cambioService,
+                        AuthorizationService authorizationService) {
+        super(cambioService, Set.of(Cambio.Entidad.EQUIPO, Cambio.Entidad.PARTIDO));
+        this.jdbc = jdbc;
+        this.authorizationService = authorizationService;
+        for (Metrica metrica : Metrica.values()) {
+            rankings.put(metrica, new ConcurrentSkipListSet<>(ORDEN));
+        }
+    }
+
+    public List<RankingFila> top(Metrica metrica, int k) {
+        authorizationService.requireAnyRole(Role.USER, Role.ADMIN);
+        if (k < 1 || k > K_MAXIMO) {
+            throw new IllegalArgumentException("k debe estar entre 1 y " + K_MAXIMO);
+        }
+        actualizar();
+        List<RankingFila> filas = new ArrayList<>(k);
+        Iterator<Entrada> entradas = rankings.get(metrica).iterator();
+        while (filas.size() < k && entradas.hasNext()) {
+            Entrada entrada = entradas.next();
+            String nombre = nombres.get(entrada.equipoId());
+            if (nombre != null) {
+                filas.add(new RankingFila(filas.size() + 1, entrada.equipoId(), nombre, entrada.valor()));
+            }
+        }
+        return filas;
+    }
+
+    @Override
+    protected void reconstruir() {
+        rankings.values().forEach(Set::clear);
+        nombres.clear();
+        partidos.clear();
+        acumulados.clear();
+        for (ResultadoPartido partido : ResultadoPartido.cargarTodos(jdbc)) {
+            if (partido.jugado()) {
+                sumar(partido, 1);
+            }
+        }
+        for (EquipoActivo equipo : EquipoActivo.cargarTodos(jdbc)) {
+            nombres.put(equipo.id(), equipo.nombre());
+            publicar(equipo.id(), acumulado(equipo.id()).valores());
+        }
+    }
+
+    @Override
+    protected void aplicar(Map<Cambio.Entidad, Set<Long>> modificados) {
+        Set<Long> partidoIds = modificados.getOrDefault(Cambio.Entidad.PARTIDO, Set.of());
+        Set<Long> equipoIds = modificados.getOrDefault(Cambio.Entidad.EQUIPO, Set.of());
+        Map<Long, ResultadoPartido> vigentes = new HashMap<>();
+        if (!partidoIds.isEmpty()) {
+            ResultadoPartido.cargar(jdbc, partidoIds).forEach(partido -> vigentes.put(partido.id(), partido));
+        }
+
+        Set<Long> afectados = new HashSet<>(equipoIds);
+        for (Long id : partidoIds) {
+            ResultadoPartido anterior = partidos.get(id);
+            if (anterior != null) {
+                afectados.add(anterior.localId());
+                afectados.add(anterior.visitanteId());
+            }
+            ResultadoPartido vigente = vigentes.get(id);
+            if (vigente != null && vigente.jugado()) {
+                afectados.add(vigente.localId());
+                afectados.add(vigente.visitanteId());
+            }
+        }
+        // Se retiran los equipos afectados con sus valores actuales antes de tocar los acumulados
+        for (Long equipoId : afectados) {
+            Acumulado acumulado = acumulados.get(equipoId);
+            retirar(equipoId, acumulado != null ? acumulado.valores() : Valores.CERO);
+        }
+        for (Long id : partidoIds) {
+            ResultadoPartido anterior = partidos.get(id);
+            if (anterior != null) {
+                sumar(anterior, -1);
+            }
+            ResultadoPartido vigente = vigentes.get(id);
+            if (vigente != null && vigente.jugado()) {
+                sumar(vigente, 1);
+            }
+        }
+        if (!equipoIds.isEmpty()) {
+            nombres.keySet().removeAll(equipoIds);
+            EquipoActivo.cargar(jdbc, equipoIds).forEach(equipo -> nombres.put(equipo.id(), equipo.nombre()));
+        }
+        for (Long equipoId : afectados) {
+            if (nombres.containsKey(equipoId)) {
+                publicar(equipoId, acumulado(equipoId).valores());
+            }
+        }
+    }
+
+    private void sumar(ResultadoPartido partido, int signo) {
+        if (signo > 0) {
+            partidos.put(partido.id(), partido);
+        } else {
+            partidos.remove(partido.id());
+        }
+        acumulado(partido.localId()).sumar(partido, signo);
+        acumulado(partido.visitanteId()).sumar(partido, signo);
+    }
+
+    private Acumulado acumulado(long equipoId) {
+        return acumulados.computeIfAbsent(equipoId, Acumulado::new);
+    }
+
+    private void publicar(long equipoId, Valores valores) {
+        for (Metrica metrica : Metrica.values()) {
+            rankings.get(metrica).add(new Entrada(valores.de(metrica), equipoId));
+        }
+    }
+
+    private void retirar(long equipoId, Valores valores) {
+        for (Metrica metrica : Metrica.values()) {
+            rankings.get(metrica).remove(new Entrada(valores.de(metrica), equipoId));
+        }
+    }
+
+    private record Entrada(long valor, long equipoId) {
+    }
+
+    private record Valores(int puntos, int golesAFavor, int golesEnContra, int vallasInvictas, int racha) {
+
+        static final Valores CERO = new Valores(0, 0, 0, 0, 0);
+
+        long de(Metrica metrica) {
+            return switch (metrica) {
+                case PUNTOS -> puntos;
+                case DIFERENCIA -> golesAFavor - golesEnContra;
+                case GOLES -> golesAFavor;
+                case VALLAS_INVICTAS -> vallasInvictas;
+                case RACHA -> racha;
+            };
+        }
+    }
+
+    /**
+     * Totales de un equipo. La racha (victorias consecutivas contando desde el último partido) se
+     * mantiene al sumar: una victoria posterior al último partido sin ganar la ajusta en uno, y
+     * solo cuando cambia ese último partido sin ganar se cuentan los partidos que le siguen, que
+     * son justamente los de la racha.
+     */
+    private static final class Acumulado {
+
+        private final long equipoId;
+        private final TreeSet<Clave> historial = new TreeSet<>();
+        private final TreeSet<Clave> sinVictoria = new TreeSet<>();
+        private int puntos;
+        private int golesAFavor;
+        private int golesEnContra;
+        private int vallasInvictas;
+        private int racha;
+
+        Acumulado(long equipoId) {
+            this.equipoId = equipoId;
+        }
+
+        void sumar(ResultadoPartido partido, int signo) {
+            int propios = partido.golesDe(equipoId);
+            int ajenos = partido.golesContra(equipoId);
+            boolean victoria = propios > ajenos;
+            puntos += signo * (victoria ? 3 : propios == ajenos ? 1 : 0);
+            golesAFavor += signo * propios;
+            golesEnContra += signo * ajenos;
+            vallasInvictas += signo * (ajenos == 0 ? 1 : 0);
+
+            Clave clave = new Clave(partido.fecha(), partido.id());
+            Clave ultimaSinVictoria = sinVictoria.isEmpty() ? null : sinVictoria.last();
+            boolean enRacha = ultimaSinVictoria == null || clave.compareTo(ultimaSinVictoria) > 0;
+            if (signo > 0) {
+                historial.add(clave);
+            } else {
+                historial.remove(clave);
+            }
+            if (victoria) {
+                if (enRacha) {
+                    racha += signo;
+                }
+                return;
+            }
+            if (signo > 0) {
+                sinVictoria.add(clave);
+            } else {
+                sinVictoria.remove(clave);
+            }
+            if (enRacha || clave.equals(ultimaSinVictoria)) {
+                Clave corte = sinVictoria.isEmpty() ? null : sinVictoria.last();
+                racha = corte != null ? historial.tailSet(corte, false).size() : historial.size();
+            }
+        }
+
+        Valores valores() {
+            return new Valores(puntos, golesAFavor, golesEnContra, vallasInvictas, racha);
+        }
+    }
+
+    private record Clave(long fecha, long partidoId) implements Comparable<Clave> {
+
+        @Override
+        public int compareTo(Clave otra) {
+            int porFecha = Long.compare(fecha, otra.fecha);
+            return porFecha != 0 ? porFecha : Long.compare(partidoId, otra.partidoId);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.simfut.backend.index;
+
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.Date;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fila de {@code partidos} reducida a lo que necesitan los índices, leída por JDBC directo.
+ */
+record ResultadoPartido(long id, Long fecha, Long localId, Long visitanteId, Integer golesLocal, Integer golesVisitante) {
+
+    private static final String SELECT = "select id, fecha, equipo_local_id, equipo_visitante_id, goles_local, goles_visitante"
+            + " from partidos";
+
+    private static final RowMapper<ResultadoPartido> MAPPER = (rs, rowNum) -> {
+        Date fecha = rs.getDate("fecha");
+        return new ResultadoPartido(
+                rs.getLong("id"),
+                fecha != null ? fecha.toLocalDate().toEpochDay() : null,
+                rs.getObject("equipo_local_id", Long.class),
+                rs.getObject("equipo_visitante_id", Long.class),
+                rs.getObject("goles_local", Integer.class),
+                rs.getObject("goles_visitante", Integer.class)
+        );
+    };
+
+    /**
+     * Con fecha, dos equipos distintos y ambos marcadores: el partido cuenta para tablas y rankings.
+     * Un equipo contra sí mismo se descarta, porque sumaría dos veces y como victoria y derrota.
+     */
+    boolean jugado() {
+        return fecha != null && localId != null && visitanteId != null && !localId.equals(visitanteId)
+                && golesLocal != null && golesVisitante != null;
+    }
+
+    /** Solo para partidos {@link #jugado()}: supone local y visitante distintos. */
+    int golesDe(long equipoId) {
+        return equipoId == localId ? golesLocal : golesVisitante;
+    }
+
+    int golesContra(long equipoId) {
+        return equipoId == localId ? golesVisitante : golesLocal;
+    }
+
+    static List<ResultadoPartido> cargarTodos(NamedParameterJdbcTemplate jdbc) {
+        return jdbc.query(SELECT, MAPPER);
+    }
+
+    static List<ResultadoPartido> cargar(NamedParameterJdbcTemplate jdbc, Collection<Long> ids) {
+        return jdbc.query(SELECT + " where id in (:ids)", Map.of("ids", ids), MAPPER);
+    }
+}
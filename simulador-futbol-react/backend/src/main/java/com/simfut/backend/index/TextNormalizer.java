@@ -0,0 +1,23 @@
+package com.simfut.backend.index;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Forma canónica de nombres para comparar y buscar: sin tildes ni diacríticos, en minúsculas y
+ * con los espacios colapsados.
+ */
+public final class TextNormalizer {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+
+    private TextNormalizer() {
+    }
+
+    public static String normalize(String text) {
+        String withoutMarks = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return SPACES.matcher(withoutMarks.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,7 +1,10 @@
 package com.simfut.backend.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -26,10 +29,19 @@ public class Equipo {
 
     private String ciudad;
 
+    /** SHA-256 del escudo normalizado; se asigna solo al subir la imagen. */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(length = 64)
+    private String escudo;
+
     @OneToMany(mappedBy = "equipo", cascade = CascadeType.ALL, orphanRemoval = true)
     @JsonIgnoreProperties("equipo")
     private List<Jugador> jugadores = new ArrayList<>();
 
+    @JsonIgnore
+    @Column(nullable = false)
+    private boolean eliminado = false;
+
     public Equipo() {
     }
 
@@ -62,6 +74,14 @@ public class Equipo {
         this.ciudad = ciudad;
     }
 
+    public String getEscudo() {
+        return escudo;
+    }
+
+    public void setEscudo(String escudo) {
+        this.escudo = escudo;
+    }
+
     public List<Jugador> getJugadores() {
         return jugadores;
     }
@@ -69,4 +89,12 @@ public class Equipo {
     public void setJugadores(List<Jugador> jugadores) {
         this.jugadores = jugadores;
     }
+
+    public boolean isEliminado() {
+        return eliminado;
+    }
+
+    public void setEliminado(boolean eliminado) {
+        this.eliminado = eliminado;
+    }
 }
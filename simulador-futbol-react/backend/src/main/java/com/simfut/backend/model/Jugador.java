@@ -8,6 +8,8 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 
@@ -27,6 +29,15 @@ public class Jugador {
     @NotNull
     private Integer numeroCamiseta;
 
+    /** Valoración de 1 a 99; 50 es un jugador promedio. Sin valor no aporta a la fuerza del equipo. */
+    @Min(1)
+    @Max(99)
+    private Integer ataque;
+
+    @Min(1)
+    @Max(99)
+    private Integer defensa;
+
     @ManyToOne
     @JoinColumn(name = "equipo_id")
     @JsonIgnoreProperties({"jugadores"})
@@ -74,6 +85,22 @@ public class Jugador {
         this.numeroCamiseta = numeroCamiseta;
     }
 
+    public Integer getAtaque() {
+        return ataque;
+    }
+
+    public void setAtaque(Integer ataque) {
+        this.ataque = ataque;
+    }
+
+    public Integer getDefensa() {
+        return defensa;
+    }
+
+    public void setDefensa(Integer defensa) {
+        this.defensa = defensa;
+    }
+
     public Equipo getEquipo() {
         return equipo;
     }
@@ -8,6 +8,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 
@@ -40,6 +41,9 @@ public class Partido {
     @Min(0)
     private Integer golesVisitante;
 
+    @Version
+    private Long version;
+
     public Partido() {
     }
 
@@ -98,4 +102,12 @@ public class Partido {
     public void setGolesVisitante(Integer golesVisitante) {
         this.golesVisitante = golesVisitante;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
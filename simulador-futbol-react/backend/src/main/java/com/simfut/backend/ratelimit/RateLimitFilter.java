@@ -0,0 +1,113 @@
+package com.simfut.backend.ratelimit;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimitProperties properties;
+    private final List<Limit> limits;
+
+    public RateLimitFilter(RateLimitProperties properties) {
+        this.properties = properties;
+        this.limits = properties.getRoutes().stream().map(Limit::new).toList();
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        Limit limit = properties.isEnabled() ? resolve(request) : null;
+        if (limit == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long now = System.nanoTime();
+        String key = resolveKey(request);
+        TokenBucket bucket = limit.buckets.get(key);
+        if (bucket == null) {
+            bucket = limit.buckets.computeIfAbsent(key, k -> new TokenBucket(now));
+        }
+        long waitNanos = bucket.tryAcquire(now, limit.emissionIntervalNanos, limit.burstToleranceNanos);
+        if (waitNanos == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().write("{\"timestamp\":\"" + LocalDateTime.now()
+                + "\",\"status\":429,\"error\":\"Demasiadas solicitudes, intente nuevamente más tarde\"}");
+    }
+
+    @Scheduled(fixedDelayString = "${rate-limit.idle-eviction-ms:600000}")
+    public void evictIdleBuckets() {
+        long threshold = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(properties.getIdleEvictionMs());
+        // Un bucket inactivo está lleno, así que descartarlo no cambia su comportamiento
+        for (Limit limit : limits) {
+            limit.buckets.values().removeIf(bucket -> bucket.isIdleSince(threshold));
+        }
+    }
+
+    private Limit resolve(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        String method = request.getMethod();
+        for (Limit limit : limits) {
+            if (uri.startsWith(limit.path) && (limit.method == null || limit.method.equalsIgnoreCase(method))) {
+                return limit;
+            }
+        }
+        return null;
+    }
+
+    private String resolveKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return authentication.getName();
+        }
+        return request.getRemoteAddr();
+    }
+
+    private static final class Limit {
+
+        private final String path;
+        private final String method;
+        private final long emissionIntervalNanos;
+        private final long burstToleranceNanos;
+        private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+        private Limit(RateLimitProperties.Route route) {
+            if (route.getPath() == null || route.getCapacity() < 1 || route.getRefillPerSecond() <= 0) {
+                throw new IllegalArgumentException("Regla de rate limit inválida: " + route.getPath());
+            }
+            this.path = route.getPath();
+            this.method = route.getMethod();
+            this.emissionIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / route.getRefillPerSecond());
+            this.burstToleranceNanos = emissionIntervalNanos * route.getCapacity();
+        }
+    }
+}
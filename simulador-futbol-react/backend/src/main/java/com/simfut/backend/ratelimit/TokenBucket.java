@@ -0,0 +1,38 @@
+package com.simfut.backend.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket expresado como GCRA: en lugar de contar tokens y recargarlos, se guarda el
+ * instante teórico en que el bucket vuelve a estar lleno. La recarga es implícita y cada
+ * adquisición es un único compareAndSet, sin locks.
+ */
+final class TokenBucket {
+
+    private final AtomicLong theoreticalArrival;
+
+    TokenBucket(long now) {
+        this.theoreticalArrival = new AtomicLong(now);
+    }
+
+    /**
+     * @return 0 si se concedió el permiso, o los nanosegundos que faltan para el siguiente
+     */
+    long tryAcquire(long now, long emissionIntervalNanos, long burstToleranceNanos) {
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long next = Math.max(tat, now) + emissionIntervalNanos;
+            long excess = next - now - burstToleranceNanos;
+            if (excess > 0) {
+                return excess;
+            }
+            if (theoreticalArrival.compareAndSet(tat, next)) {
+                return 0;
+            }
+        }
+    }
+
+    boolean isIdleSince(long instant) {
+        return theoreticalArrival.get() < instant;
+    }
+}
@@ -0,0 +1,49 @@
+package com.simfut.backend.repository;
+
+import com.simfut.backend.model.Cambio;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+@Transactional
+public interface CambioRepository extends JpaRepository<Cambio, Long> {
+
+    @Query("select coalesce(max(c.seq), 0) from Cambio c")
+    long findMaxSeq();
+
+    List<Cambio> findBySeqGreaterThanAndSeqLessThanEqualOrderBySeqAsc(Long desde, Long hasta, Pageable pageable);
+
+    @Modifying
+    @Query(value = "insert into cambios (entidad, entidad_id, operacion, fecha) "
+            + "select 'JUGADOR', j.id, :operacion, current_timestamp from jugadores j where j.equipo_id = :equipoId",
+            nativeQuery = true)
+    int insertJugadoresDeEquipo(Long equipoId, String operacion);
+
+    @Modifying
+    @Query(value = "insert into cambios (entidad, entidad_id, operacion, fecha) "
+            + "select 'PARTIDO', p.id, :operacion, current_timestamp from partidos p "
+            + "where p.equipo_local_id = :equipoId or p.equipo_visitante_id = :equipoId",
+            nativeQuery = true)
+    int insertPartidosDeEquipo(Long equipoId, String operacion);
+
+    @Modifying
+    @Transactional
+    @Query("delete from Cambio c where c.fecha < :limite and exists "
+            + "(select 1 from Cambio n where n.entidad = c.entidad and n.entidadId = c.entidadId and n.seq > c.seq)")
+    int deleteSuperseded(Instant limite);
+
+    @Query("select max(c.seq) from Cambio c where c.operacion = :operacion and c.fecha < :limite")
+    Long findMaxSeqByOperacionBefore(Cambio.Operacion operacion, Instant limite);
+
+    @Modifying
+    @Transactional
+    @Query("delete from Cambio c where c.operacion = :operacion and c.seq <= :seq")
+    int deleteByOperacionUpTo(Cambio.Operacion operacion, Long seq);
+}
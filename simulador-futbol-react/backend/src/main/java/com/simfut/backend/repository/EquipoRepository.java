@@ -2,8 +2,39 @@ package com.simfut.backend.repository;
 
 import com.simfut.backend.model.Equipo;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface EquipoRepository extends JpaRepository<Equipo, Long> {
+
+    @Query("select distinct e from Equipo e left join fetch e.jugadores where e.id in :ids and e.eliminado = false")
+    List<Equipo> findAllByIdIn(Collection<Long> ids);
+
+    List<Equipo> findAllByEliminadoFalse();
+
+    Optional<Equipo> findByIdAndEliminadoFalse(Long id);
+
+    boolean existsByIdAndEliminadoFalse(Long id);
+
+    long countByEliminadoFalse();
+
+    @Query("select e.id, e.nombre from Equipo e where e.eliminado = false")
+    List<Object[]> findActiveNames();
+
+    @Modifying
+    @Transactional
+    @Query("update Equipo e set e.eliminado = true where e.id = :id and e.eliminado = false")
+    int softDeleteById(Long id);
+
+    @Modifying
+    @Transactional
+    @Query("delete from Equipo e where e.id = :id")
+    int deleteRowById(Long id);
 }
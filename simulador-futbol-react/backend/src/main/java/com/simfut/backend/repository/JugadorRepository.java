@@ -1,9 +1,42 @@
 package com.simfut.backend.repository;
 
+import com.simfut.backend.model.Equipo;
 import com.simfut.backend.model.Jugador;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
 
 @Repository
 public interface JugadorRepository extends JpaRepository<Jugador, Long> {
+
+    @Query("select j from Jugador j left join fetch j.equipo where j.id in :ids")
+    List<Jugador> findAllByIdIn(Collection<Long> ids);
+
+    @Query("select j.posicion, count(j) from Jugador j group by j.posicion")
+    List<Object[]> countByPosicion();
+
+    @Modifying
+    @Transactional
+    @Query("delete from Jugador j where j.id = :id")
+    int deleteRowById(Long id);
+
+    @Modifying
+    @Transactional
+    @Query("delete from Jugador j where j.equipo.id = :equipoId")
+    int deleteByEquipoId(Long equipoId);
+
+    @Modifying
+    @Transactional
+    @Query("update Jugador j set j.equipo = :destino where j.equipo.id = :equipoId")
+    int reassignEquipo(Long equipoId, Equipo destino);
+
+    @Modifying
+    @Transactional
+    @Query("update Jugador j set j.equipo = null where j.equipo.id = :equipoId")
+    int releaseEquipo(Long equipoId);
 }
@@ -1,9 +1,83 @@
 package com.simfut.backend.repository;
 
+import com.simfut.backend.controller.dto.MarcadorResponse;
+import com.simfut.backend.controller.dto.PartidoResumen;
+import com.simfut.backend.model.Equipo;
 import com.simfut.backend.model.Partido;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface PartidoRepository extends JpaRepository<Partido, Long> {
+
+    @Query("select p from Partido p left join fetch p.equipoLocal left join fetch p.equipoVisitante where p.id in :ids")
+    List<Partido> findAllByIdIn(Collection<Long> ids);
+
+    @Query("select p.id, p.fecha, p.equipoLocal.id, p.equipoVisitante.id, p.golesLocal, p.golesVisitante from Partido p "
+            + "where (cast(:desde as date) is null or p.fecha >= :desde) and (cast(:hasta as date) is null or p.fecha <= :hasta) "
+            + "order by p.fecha, p.id")
+    List<Object[]> findCompactRows(LocalDate desde, LocalDate hasta);
+
+    long countByGolesLocalIsNotNullAndGolesVisitanteIsNotNull();
+
+    @Query("select coalesce(sum(p.golesLocal + p.golesVisitante), 0) from Partido p "
+            + "where p.golesLocal is not null and p.golesVisitante is not null")
+    long sumGolesJugados();
+
+    @Query("select new com.simfut.backend.controller.dto.PartidoResumen(p.id, p.fecha, l.nombre, v.nombre, p.golesLocal, p.golesVisitante) "
+            + "from Partido p join p.equipoLocal l join p.equipoVisitante v "
+            + "where p.golesLocal is not null and p.golesVisitante is not null order by p.fecha desc, p.id desc")
+    List<PartidoResumen> findUltimosJugados(Pageable pageable);
+
+    @Query("select new com.simfut.backend.controller.dto.PartidoResumen(p.id, p.fecha, l.nombre, v.nombre, p.golesLocal, p.golesVisitante) "
+            + "from Partido p join p.equipoLocal l join p.equipoVisitante v "
+            + "where (p.golesLocal is null or p.golesVisitante is null) and p.fecha >= :desde order by p.fecha, p.id")
+    List<PartidoResumen> findProximos(LocalDate desde, Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("delete from Partido p where p.id = :id")
+    int deleteRowById(Long id);
+
+    @Modifying
+    @Transactional
+    @Query("update Partido p set p.golesLocal = coalesce(p.golesLocal, 0) + :local, "
+            + "p.golesVisitante = coalesce(p.golesVisitante, 0) + :visitante, "
+            + "p.version = p.version + 1 where p.id = :id")
+    int incrementGoles(Long id, int local, int visitante);
+
+    @Query("select new com.simfut.backend.controller.dto.MarcadorResponse(p.id, p.golesLocal, p.golesVisitante, p.version) "
+            + "from Partido p where p.id = :id")
+    Optional<MarcadorResponse> findMarcadorById(Long id);
+
+    @Query("select count(p) > 0 from Partido p where p.equipoLocal.id = :equipoId or p.equipoVisitante.id = :equipoId")
+    boolean existsByEquipoId(Long equipoId);
+
+    @Query("select count(p) > 0 from Partido p where (p.equipoLocal.id = :a and p.equipoVisitante.id = :b) "
+            + "or (p.equipoLocal.id = :b and p.equipoVisitante.id = :a)")
+    boolean existsEnfrentamiento(Long a, Long b);
+
+    @Modifying
+    @Transactional
+    @Query("delete from Partido p where p.equipoLocal.id = :equipoId or p.equipoVisitante.id = :equipoId")
+    int deleteByEquipoId(Long equipoId);
+
+    @Modifying
+    @Transactional
+    @Query("update Partido p set p.equipoLocal = :destino, p.version = p.version + 1 where p.equipoLocal.id = :equipoId")
+    int reassignEquipoLocal(Long equipoId, Equipo destino);
+
+    @Modifying
+    @Transactional
+    @Query("update Partido p set p.equipoVisitante = :destino, p.version = p.version + 1 where p.equipoVisitante.id = :equipoId")
+    int reassignEquipoVisitante(Long equipoId, Equipo destino);
 }
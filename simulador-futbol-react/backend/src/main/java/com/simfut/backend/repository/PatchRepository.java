@@ -0,0 +1,54 @@
+package com.simfut.backend.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.EntityType;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Actualizaciones parciales en una sola sentencia {@code UPDATE ... WHERE id = ?}, sin cargar la entidad.
+ * Si la entidad tiene atributo {@code @Version} se incrementa en la misma sentencia.
+ */
+@Repository
+public class PatchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Transactional
+    public <T> int update(Class<T> entity, Long id, Map<String, Object> values) {
+        return update(entity, id, values, Map.of());
+    }
+
+    @Transactional
+    public <T> int update(Class<T> entity, Long id, Map<String, Object> values, Map<String, Object> conditions) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<T> update = cb.createCriteriaUpdate(entity);
+        Root<T> root = update.from(entity);
+        values.forEach((attribute, value) -> update.set(root.get(attribute), value));
+        EntityType<T> type = entityManager.getMetamodel().entity(entity);
+        if (type.hasVersionAttribute()) {
+            Path<Long> version = root.get(type.getVersion(Long.class));
+            update.set(version, cb.sum(version, 1L));
+        }
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(root.get("id"), id));
+        conditions.forEach((attribute, value) -> predicates.add(cb.equal(root.get(attribute), value)));
+        update.where(predicates.toArray(Predicate[]::new));
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    public <T> T reference(Class<T> entity, Long id) {
+        return id == null ? null : entityManager.getReference(entity, id);
+    }
+}
@@ -0,0 +1,95 @@
+package com.simfut.backend.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Consultas que seleccionan solo las columnas pedidas. Las columnas se indican como
+ * alias → ruta de atributo ("equipoLocal.nombre"); los alias con punto se devuelven anidados.
+ */
+@Repository
+public class ProjectionRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public List<Map<String, Object>> findAll(Class<?> entity, Map<String, String> columns) {
+        return findAll(entity, columns, null, null);
+    }
+
+    public List<Map<String, Object>> findAll(Class<?> entity,
+                                             Map<String, String> columns,
+                                             String filterPath,
+                                             Collection<?> filterValues) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<?> root = query.from(entity);
+        Map<String, Join<?, ?>> joins = new HashMap<>();
+
+        List<Selection<?>> selections = new ArrayList<>(columns.size());
+        List<String> aliases = new ArrayList<>(columns.keySet());
+        for (String alias : aliases) {
+            selections.add(resolve(root, joins, columns.get(alias)));
+        }
+        query.multiselect(selections);
+        if (filterPath != null) {
+            query.where(resolve(root, joins, filterPath).in(filterValues));
+        }
+        query.orderBy(cb.asc(root.get("id")));
+
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Tuple tuple : entityManager.createQuery(query).getResultList()) {
+            rows.add(toRow(aliases, tuple));
+        }
+        return rows;
+    }
+
+    private Path<?> resolve(Root<?> root, Map<String, Join<?, ?>> joins, String path) {
+        int dot = path.indexOf('.');
+        if (dot < 0) {
+            return root.get(path);
+        }
+        String association = path.substring(0, dot);
+        From<?, ?> join = joins.computeIfAbsent(association, name -> root.join(name, JoinType.LEFT));
+        return join.get(path.substring(dot + 1));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> toRow(List<String> aliases, Tuple tuple) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (int i = 0; i < aliases.size(); i++) {
+            String alias = aliases.get(i);
+            Object value = tuple.get(i);
+            int dot = alias.indexOf('.');
+            if (dot < 0) {
+                row.put(alias, value);
+                continue;
+            }
+            String parent = alias.substring(0, dot);
+            Map<String, Object> nested = (Map<String, Object>) row.computeIfAbsent(parent, key -> new LinkedHashMap<>());
+            nested.put(alias.substring(dot + 1), value);
+        }
+        // Una asociación ausente (left join sin fila) se representa como null y no como un objeto vacío
+        row.replaceAll((key, value) -> value instanceof Map<?, ?> nested
+                && nested.values().stream().allMatch(Objects::isNull) ? null : value);
+        return row;
+    }
+}
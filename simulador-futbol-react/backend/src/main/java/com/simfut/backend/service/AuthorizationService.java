@@ -19,17 +19,23 @@ public class AuthorizationService {
         if (authentication == null || !authentication.isAuthenticated()) {
             throw new AccessDeniedException("No autenticado");
         }
+        if (!hasAnyRole(roles)) {
+            throw new AccessDeniedException("No tiene permisos para realizar esta operación");
+        }
+    }
+
+    public boolean hasAnyRole(Role... roles) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return false;
+        }
 
         Set<String> authorities = authentication.getAuthorities().stream()
                 .map(GrantedAuthority::getAuthority)
                 .collect(Collectors.toSet());
 
-        boolean allowed = Arrays.stream(roles)
+        return Arrays.stream(roles)
                 .map(role -> "ROLE_" + role.name())
                 .anyMatch(authorities::contains);
-
-        if (!allowed) {
-            throw new AccessDeniedException("No tiene permisos para realizar esta operación");
-        }
     }
 }
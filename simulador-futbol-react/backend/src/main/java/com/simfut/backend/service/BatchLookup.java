@@ -0,0 +1,53 @@
+package com.simfut.backend.service;
+
+import com.simfut.backend.controller.dto.MultiGetResponse;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+final class BatchLookup {
+
+    static final int MAX_IDS = 1000;
+    private static final int CHUNK_SIZE = 500;
+
+    private BatchLookup() {
+    }
+
+    static <E, R> MultiGetResponse<R> findByIds(Collection<Long> ids,
+                                                Function<List<Long>, List<E>> query,
+                                                Function<E, Long> idOf,
+                                                Function<E, R> mapper) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("Debe indicar al menos un id");
+        }
+        List<Long> requested = new ArrayList<>(new LinkedHashSet<>(ids));
+        if (requested.size() > MAX_IDS) {
+            throw new IllegalArgumentException("No se pueden solicitar más de " + MAX_IDS + " ids a la vez");
+        }
+
+        Map<Long, E> found = new HashMap<>(requested.size() * 2);
+        for (int from = 0; from < requested.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = requested.subList(from, Math.min(from + CHUNK_SIZE, requested.size()));
+            for (E entity : query.apply(chunk)) {
+                found.put(idOf.apply(entity), entity);
+            }
+        }
+
+        List<R> items = new ArrayList<>(found.size());
+        List<Long> missing = new ArrayList<>();
+        for (Long id : requested) {
+            E entity = found.get(id);
+            if (entity == null) {
+                missing.add(id);
+            } else {
+                items.add(mapper.apply(entity));
+            }
+        }
+        return new MultiGetResponse<>(items, missing);
+    }
+}
@@ -0,0 +1,194 @@
+package com.simfut.backend.service;
+
+import com.simfut.backend.auth.Role;
+import com.simfut.backend.controller.dto.CambiosResponse;
+import com.simfut.backend.datasource.ReadYourWritesContext;
+import com.simfut.backend.model.Cambio;
+import com.simfut.backend.repository.CambioRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Registro ordenado de cambios escrito en la misma transacción que la operación que lo origina.
+ * Como las secuencias se asignan al insertar y no al confirmar, la lectura se limita al tramo
+ * por debajo de la transacción abierta más antigua para no saltarse cambios que confirmen tarde.
+ */
+@Service
+public class CambioService {
+
+    private static final int LIMITE_MAXIMO = 1000;
+    private static final long ESPERA_MAXIMA_SEGUNDOS = 25;
+
+    private final CambioRepository cambioRepository;
+    private final AuthorizationService authorizationService;
+    private final long retencionMs;
+    private final long retencionEliminacionesMs;
+    private final AtomicLong ultimoAsignado = new AtomicLong();
+    private final Map<Transaccion, Long> enCurso = new ConcurrentHashMap<>();
+    private final AtomicReference<CompletableFuture<Void>> senal = new AtomicReference<>(new CompletableFuture<>());
+    private volatile long horizonteResync;
+
+    public CambioService(CambioRepository cambioRepository,
+                         AuthorizationService authorizationService,
+                         @Value("${simfut.cambios.retention-ms:3600000}") long retencionMs,
+                         @Value("${simfut.cambios.tombstone-retention-ms:604800000}") long retencionEliminacionesMs) {
+        this.cambioRepository = cambioRepository;
+        this.authorizationService = authorizationService;
+        this.retencionMs = retencionMs;
+        this.retencionEliminacionesMs = retencionEliminacionesMs;
+    }
+
+    @PostConstruct
+    void init() {
+        ultimoAsignado.set(cambioRepository.findMaxSeq());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrar(Cambio.Entidad entidad, Long entidadId, Cambio.Operacion operacion) {
+        Transaccion transaccion = registrarTransaccion();
+        Cambio cambio = cambioRepository.save(new Cambio(entidad, entidadId, operacion, Instant.now()));
+        transaccion.asignado(cambio.getSeq());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrarJugadoresDeEquipo(Long equipoId, Cambio.Operacion operacion) {
+        Transaccion transaccion = registrarTransaccion();
+        cambioRepository.insertJugadoresDeEquipo(equipoId, operacion.name());
+        transaccion.asignado(cambioRepository.findMaxSeq());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrarPartidosDeEquipo(Long equipoId, Cambio.Operacion operacion) {
+        Transaccion transaccion = registrarTransaccion();
+        cambioRepository.insertPartidosDeEquipo(equipoId, operacion.name());
+        transaccion.asignado(cambioRepository.findMaxSeq());
+    }
+
+    public CompletableFuture<CambiosResponse> consultar(long desde, int limite, long esperaSegundos) {
+        authorizationService.requireAnyRole(Role.USER, Role.ADMIN);
+        if (limite < 1 || limite > LIMITE_MAXIMO) {
+            throw new IllegalArgumentException("El límite debe estar entre 1 y " + LIMITE_MAXIMO);
+        }
+        if (esperaSegundos < 0 || esperaSegundos > ESPERA_MAXIMA_SEGUNDOS) {
+            throw new IllegalArgumentException("La espera debe estar entre 0 y " + ESPERA_MAXIMA_SEGUNDOS + " segundos");
+        }
+        return esperar(desde, limite, System.nanoTime() + TimeUnit.SECONDS.toNanos(esperaSegundos));
+    }
+
+    /**
+     * Cambios confirmados posteriores a {@code desde}, sin control de acceso; para consumidores internos.
+     */
+    public List<Cambio> pendientes(long desde, int limite) {
+        long hasta = confirmadoHasta();
+        return desde >= hasta
+                ? List.of()
+                : cambioRepository.findBySeqGreaterThanAndSeqLessThanEqualOrderBySeqAsc(desde, hasta, PageRequest.of(0, limite));
+    }
+
+    /**
+     * Mayor secuencia por debajo de la cual no quedan transacciones abiertas.
+     */
+    public long confirmadoHasta() {
+        long hasta = cambioRepository.findMaxSeq();
+        for (Long piso : enCurso.values()) {
+            hasta = Math.min(hasta, piso);
+        }
+        return hasta;
+    }
+
+    /**
+     * Se completa al terminar la próxima transacción que registró cambios, para que los índices
+     * en memoria detecten escrituras sin consultar la base.
+     */
+    public CompletableFuture<Void> proximoCambio() {
+        return senal.get().copy();
+    }
+
+    public boolean requiereResync(long desde) {
+        return desde < horizonteResync;
+    }
+
+    @Scheduled(fixedDelayString = "${simfut.cambios.compaction-interval-ms:600000}")
+    public void compactar() {
+        Instant ahora = Instant.now();
+        cambioRepository.deleteSuperseded(ahora.minusMillis(retencionMs));
+        Long ultimaEliminacion = cambioRepository.findMaxSeqByOperacionBefore(
+                Cambio.Operacion.ELIMINAR, ahora.minusMillis(retencionEliminacionesMs));
+        if (ultimaEliminacion != null) {
+            // Quien lea desde antes de una eliminación descartada ya no puede reconstruir el estado
+            horizonteResync = Math.max(horizonteResync, ultimaEliminacion);
+            cambioRepository.deleteByOperacionUpTo(Cambio.Operacion.ELIMINAR, ultimaEliminacion);
+        }
+    }
+
+    private CompletableFuture<CambiosResponse> esperar(long desde, int limite, long plazo) {
+        CompletableFuture<Void> proxima = senal.get();
+        CambiosResponse respuesta = leer(desde, limite);
+        long restante = plazo - System.nanoTime();
+        if (!respuesta.getCambios().isEmpty() || respuesta.isResyncRequerido() || restante <= 0) {
+            return CompletableFuture.completedFuture(respuesta);
+        }
+        CompletableFuture<Void> despertar = new CompletableFuture<Void>()
+                .completeOnTimeout(null, restante, TimeUnit.NANOSECONDS);
+        proxima.thenRun(() -> despertar.complete(null));
+        return despertar.thenComposeAsync(ignored -> esperar(desde, limite, plazo));
+    }
+
+    private CambiosResponse leer(long desde, int limite) {
+        // El registro no entra en el snapshot: tras un reinicio las secuencias vuelven a empezar y
+        // un cursor anterior queda por encima de todo lo asignado, así que debe resincronizar
+        boolean resync = requiereResync(desde)
+                || desde > Math.max(ultimoAsignado.get(), cambioRepository.findMaxSeq());
+        List<Cambio> cambios = pendientes(desde, limite);
+        long siguiente = cambios.isEmpty() ? desde : cambios.get(cambios.size() - 1).getSeq();
+        return new CambiosResponse(cambios, siguiente, resync);
+    }
+
+    private Transaccion registrarTransaccion() {
+        Transaccion actual = (Transaccion) TransactionSynchronizationManager.getResource(this);
+        if (actual != null) {
+            return actual;
+        }
+        Transaccion transaccion = new Transaccion();
+        // Se registra antes de insertar: toda secuencia de esta transacción será mayor que el piso
+        enCurso.put(transaccion, ultimoAsignado.get());
+        TransactionSynchronizationManager.bindResource(this, transaccion);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(CambioService.this);
+                enCurso.remove(transaccion);
+                if (status == STATUS_COMMITTED) {
+                    ReadYourWritesContext.recordWrite(transaccion.ultimoSeq);
+                }
+                senal.getAndSet(new CompletableFuture<>()).complete(null);
+            }
+        });
+        return transaccion;
+    }
+
+    private final class Transaccion {
+        private long ultimoSeq;
+
+        private void asignado(long seq) {
+            ultimoSeq = Math.max(ultimoSeq, seq);
+            ultimoAsignado.accumulateAndGet(seq, Math::max);
+        }
+    }
+}
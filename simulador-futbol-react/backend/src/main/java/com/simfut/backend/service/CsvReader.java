@@ -0,0 +1,134 @@
+package com.simfut.backend.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lector CSV incremental (RFC 4180): campos entre comillas con comillas dobladas y saltos de
+ * línea embebidos. Lee por bloques del {@link Reader} y solo retiene el registro en curso. El
+ * separador (coma o punto y coma) se toma del primero que aparece en la cabecera.
+ */
+final class CsvReader {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int MAX_FIELD_LENGTH = 65_536;
+    private static final int NONE = -2;
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private int pushback = NONE;
+    private char separator;
+    private long line;
+    private long recordLine;
+    private boolean started;
+
+    CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /** Línea física donde comenzó el último registro leído. */
+    long recordLine() {
+        return recordLine;
+    }
+
+    /** Devuelve el siguiente registro o {@code null} al final; las líneas vacías se omiten. */
+    List<String> next() throws IOException {
+        int c = read();
+        if (!started) {
+            started = true;
+            if (c == '\uFEFF') {
+                c = read();
+            }
+        }
+        while (c == '\r' || c == '\n') {
+            c = endOfLine(c);
+        }
+        if (c == -1) {
+            return null;
+        }
+        recordLine = line + 1;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean wasQuoted = false;
+        while (true) {
+            if (field.length() > MAX_FIELD_LENGTH) {
+                throw new IllegalArgumentException("Campo demasiado largo en la línea " + recordLine);
+            }
+            if (quoted) {
+                if (c == -1) {
+                    throw new IllegalArgumentException("Comillas sin cerrar en el registro de la línea " + recordLine);
+                }
+                if (c == '"') {
+                    int following = read();
+                    if (following != '"') {
+                        quoted = false;
+                        c = following;
+                        continue;
+                    }
+                } else if (c == '\n') {
+                    line++;
+                }
+                field.append((char) c);
+                c = read();
+                continue;
+            }
+            if (c == '"' && field.length() == 0 && !wasQuoted) {
+                quoted = true;
+                wasQuoted = true;
+                c = read();
+                continue;
+            }
+            if (separator == 0 && (c == ',' || c == ';')) {
+                separator = (char) c;
+            }
+            if (c == separator) {
+                fields.add(field.toString());
+                field.setLength(0);
+                wasQuoted = false;
+                c = read();
+                continue;
+            }
+            if (c == '\r' || c == '\n' || c == -1) {
+                fields.add(field.toString());
+                if (c != -1) {
+                    pushback = endOfLine(c);
+                }
+                return fields;
+            }
+            field.append((char) c);
+            c = read();
+        }
+    }
+
+    /** Consume un fin de línea (LF, CR o CRLF) y devuelve el carácter siguiente. */
+    private int endOfLine(int c) throws IOException {
+        line++;
+        int following = read();
+        if (c == '\r' && following == '\n') {
+            following = read();
+        }
+        return following;
+    }
+
+    private int read() throws IOException {
+        if (pushback != NONE) {
+            int c = pushback;
+            pushback = NONE;
+            return c;
+        }
+        if (position == limit) {
+            limit = reader.read(buffer, 0, BUFFER_SIZE);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        return buffer[position++];
+    }
+}
@@ -0,0 +1,239 @@
+package com.simfut.backend.service;
+
+import com.simfut.backend.auth.Role;
+import com.simfut.backend.controller.dto.ClasificacionFila;
+import com.simfut.backend.controller.dto.DashboardResponse;
+import com.simfut.backend.datasource.ReadYourWritesContext;
+import com.simfut.backend.index.ClasificacionIndex;
+import com.simfut.backend.index.RankingIndex;
+import com.simfut.backend.repository.EquipoRepository;
+import com.simfut.backend.repository.JugadorRepository;
+import com.simfut.backend.repository.PartidoRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Tablero de inicio: las consultas independientes (conteos, tabla, rankings, partidos recientes y
+ * próximos) se lanzan a la vez en un pool acotado, así la respuesta tarda lo que la más lenta y
+ * no la suma de todas. Cada sección tiene el mismo plazo contado desde el lanzamiento; la que no
+ * termina a tiempo se cancela interrumpiendo su hilo y se informa como incompleta, sin demorar al
+ * resto. Interrumpir el hilo no detiene una consulta de H2, así que las lecturas de la base llevan
+ * además un timeout JDBC con lo que queda del plazo. Los resultados se copian a la respuesta solo
+ * desde el hilo de la request.
+ */
+@Service
+public class DashboardService {
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardService.class);
+    private static final String SIN_POSICION = "SIN_POSICION";
+    // Subtareas que lanza cada request; el pool tiene al menos esta cantidad de hilos por request
+    // simultánea, para que las secciones de una misma request no esperen en cola a sus hermanas
+    private static final int SECCIONES = 7;
+    private static final long NANOS_POR_SEGUNDO = TimeUnit.SECONDS.toNanos(1);
+
+    private final EquipoRepository equipoRepository;
+    private final JugadorRepository jugadorRepository;
+    private final PartidoRepository partidoRepository;
+    private final ClasificacionIndex clasificacionIndex;
+    private final RankingIndex rankingIndex;
+    private final AuthorizationService authorizationService;
+    private final PlatformTransactionManager transactionManager;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutNanos;
+    private final int filas;
+    private final long retryAfterSeconds;
+
+    public DashboardService(EquipoRepository equipoRepository,
+                            JugadorRepository jugadorRepository,
+                            PartidoRepository partidoRepository,
+                            ClasificacionIndex clasificacionIndex,
+                            RankingIndex rankingIndex,
+                            AuthorizationService authorizationService,
+                            TransactionTemplate transactionTemplate,
+                            @Value("${simfut.dashboard.concurrent-requests:2}") int concurrentRequests,
+                            @Value("${simfut.dashboard.queue-capacity:256}") int queueCapacity,
+                            @Value("${simfut.dashboard.timeout-ms:500}") long timeoutMs,
+                            @Value("${simfut.dashboard.filas:5}") int filas,
+                            @Value("${simfut.dashboard.retry-after-seconds:1}") long retryAfterSeconds) {
+        this.equipoRepository = equipoRepository;
+        this.jugadorRepository = jugadorRepository;
+        this.partidoRepository = partidoRepository;
+        this.clasificacionIndex = clasificacionIndex;
+        this.rankingIndex = rankingIndex;
+        this.authorizationService = authorizationService;
+        this.transactionManager = transactionTemplate.getTransactionManager();
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        this.filas = Math.max(1, filas);
+        this.retryAfterSeconds = retryAfterSeconds;
+        int threads = SECCIONES * Math.max(1, concurrentRequests);
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "dashboard-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    public DashboardResponse resumen() {
+        authorizationService.requireAnyRole(Role.USER, Role.ADMIN);
+        long inicio = System.nanoTime();
+        long limite = inicio + timeoutNanos;
+        DashboardResponse response = new DashboardResponse();
+        PageRequest primeras = PageRequest.of(0, filas);
+        List<Subtarea<?>> subtareas = new ArrayList<>();
+        try {
+            subtareas.add(consulta("equipos", limite, equipoRepository::countByEliminadoFalse, response::setEquipos));
+            subtareas.add(consulta("jugadores", limite, this::jugadores, response::setJugadores));
+            subtareas.add(consulta("partidos", limite, this::partidos, response::setPartidos));
+            subtareas.add(lanzar("clasificacion", () -> {
+                List<ClasificacionFila> tabla = clasificacionIndex.tabla(null, null);
+                return List.copyOf(tabla.subList(0, Math.min(filas, tabla.size())));
+            }, response::setClasificacion));
+            // Ambos rankings en la misma subtarea, para que salgan de la misma versión del índice
+            subtareas.add(lanzar("rankings", () -> List.of(
+                    rankingIndex.top(RankingIndex.Metrica.GOLES, filas),
+                    rankingIndex.top(RankingIndex.Metrica.RACHA, filas)), rankings -> {
+                response.setGoleadores(rankings.get(0));
+                response.setRachas(rankings.get(1));
+            }));
+            subtareas.add(consulta("ultimosResultados", limite, () -> partidoRepository.findUltimosJugados(primeras),
+                    response::setUltimosResultados));
+            subtareas.add(consulta("proximosPartidos", limite, () -> partidoRepository.findProximos(LocalDate.now(), primeras),
+                    response::setProximosPartidos));
+        } catch (RejectedExecutionException ex) {
+            subtareas.forEach(subtarea -> subtarea.future().cancel(true));
+            throw new ServiceOverloadedException("Demasiadas solicitudes del tablero, intente nuevamente", retryAfterSeconds);
+        }
+
+        List<String> incompletas = new ArrayList<>();
+        for (Subtarea<?> subtarea : subtareas) {
+            if (!subtarea.esperar(limite)) {
+                incompletas.add(subtarea.nombre());
+            }
+        }
+        response.setIncompletas(incompletas);
+        response.setDuracionMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio));
+        return response;
+    }
+
+    private DashboardResponse.Jugadores jugadores() {
+        Map<String, Long> porPosicion = new TreeMap<>();
+        long total = 0;
+        for (Object[] fila : jugadorRepository.countByPosicion()) {
+            String posicion = fila[0] != null ? (String) fila[0] : SIN_POSICION;
+            long cantidad = ((Number) fila[1]).longValue();
+            porPosicion.merge(posicion, cantidad, Long::sum);
+            total += cantidad;
+        }
+        return new DashboardResponse.Jugadores(total, porPosicion);
+    }
+
+    private DashboardResponse.Partidos partidos() {
+        long jugados = partidoRepository.countByGolesLocalIsNotNullAndGolesVisitanteIsNotNull();
+        long pendientes = partidoRepository.count() - jugados;
+        long goles = partidoRepository.sumGolesJugados();
+        double promedio = jugados > 0 ? Math.round(100.0 * goles / jugados) / 100.0 : 0;
+        return new DashboardResponse.Partidos(jugados, pendientes, goles, promedio);
+    }
+
+    /** Subtarea que lee de la base en su propia transacción de solo lectura. */
+    private <T> Subtarea<T> consulta(String nombre, long limite, Supplier<T> lecturaBase, Consumer<? super T> destino) {
+        return lanzar(nombre, () -> lectura(limite).execute(status -> lecturaBase.get()), destino);
+    }
+
+    /**
+     * Transacción cuyo timeout es lo que le queda al plazo cuando la subtarea por fin corre;
+     * Hibernate lo aplica como timeout de cada sentencia. JDBC lo cuenta en segundos, así que se
+     * redondea hacia arriba: la consulta puede pasarse del plazo, pero no quedar corriendo.
+     */
+    private TransactionTemplate lectura(long limite) {
+        long restante = limite - System.nanoTime();
+        if (restante <= 0) {
+            throw new QueryTimeoutException("El plazo del tablero venció antes de consultar");
+        }
+        TransactionTemplate lectura = new TransactionTemplate(transactionManager);
+        lectura.setReadOnly(true);
+        lectura.setTimeout((int) ((restante + NANOS_POR_SEGUNDO - 1) / NANOS_POR_SEGUNDO));
+        return lectura;
+    }
+
+    /**
+     * Lanza la subtarea con la identidad y la última escritura de la request, para que los
+     * controles de acceso y la lectura de la réplica se comporten como en el hilo original.
+     */
+    private <T> Subtarea<T> lanzar(String nombre, Supplier<T> tarea, Consumer<? super T> destino) {
+        SecurityContext seguridad = SecurityContextHolder.getContext();
+        long ultimaEscritura = ReadYourWritesContext.lastWrittenSeq();
+        Future<T> future = executor.submit(() -> {
+            SecurityContextHolder.setContext(seguridad);
+            ReadYourWritesContext.recordWrite(ultimaEscritura);
+            try {
+                return tarea.get();
+            } finally {
+                SecurityContextHolder.clearContext();
+                ReadYourWritesContext.clear();
+            }
+        });
+        return new Subtarea<>(nombre, future, destino);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private record Subtarea<T>(String nombre, Future<T> future, Consumer<? super T> destino) {
+
+        /** Espera hasta {@code limite} (nanoTime); si no termina a tiempo la cancela. */
+        boolean esperar(long limite) {
+            try {
+                destino.accept(future.get(Math.max(0, limite - System.nanoTime()), TimeUnit.NANOSECONDS));
+                return true;
+            } catch (TimeoutException ex) {
+                future.cancel(true);
+                log.warn("La sección {} del tablero no respondió a tiempo", nombre);
+                return false;
+            } catch (ExecutionException ex) {
+                log.warn("La sección {} del tablero falló", nombre, ex.getCause());
+                return false;
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.simfut.backend.service;
+
+import com.simfut.backend.index.TextNormalizer;
+import com.simfut.backend.repository.EquipoRepository;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Índice nombre → id de los equipos activos, cargado con una sola consulta al iniciar una
+ * importación. Los nombres se comparan sin mayúsculas, tildes ni espacios repetidos.
+ */
+final class EquipoNombreIndex {
+
+    private static final Long AMBIGUO = -1L;
+
+    private final Map<String, Long> porNombre = new HashMap<>();
+    private final Set<Long> ids = new HashSet<>();
+
+    private EquipoNombreIndex() {
+    }
+
+    static EquipoNombreIndex cargar(EquipoRepository equipoRepository) {
+        EquipoNombreIndex index = new EquipoNombreIndex();
+        List<Object[]> filas = equipoRepository.findActiveNames();
+        for (Object[] fila : filas) {
+            Long id = (Long) fila[0];
+            index.ids.add(id);
+            if (fila[1] != null) {
+                index.porNombre.merge(TextNormalizer.normalize((String) fila[1]), id, (actual, nuevo) -> AMBIGUO);
+            }
+        }
+        return index;
+    }
+
+    Long resolver(String nombre) {
+        Long id = porNombre.get(TextNormalizer.normalize(nombre));
+        if (id == null) {
+            throw new IllegalArgumentException("Equipo desconocido: " + nombre);
+        }
+        if (AMBIGUO.equals(id)) {
+            throw new IllegalArgumentException("Hay más de un equipo llamado " + nombre + ", indique su id");
+        }
+        return id;
+    }
+
+    Long verificar(Long id) {
+        if (!ids.contains(id)) {
+            throw new IllegalArgumentException("Equipo no encontrado: " + id);
+        }
+        return id;
+    }
+}
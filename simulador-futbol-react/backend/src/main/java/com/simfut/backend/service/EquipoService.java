@@ -1,50 +1,268 @@
 package com.simfut.backend.service;
 
+import com.simfut.backend.audit.AuditLog;
 import com.simfut.backend.auth.Role;
+import com.simfut.backend.controller.dto.EquipoEliminacionRequest;
+import com.simfut.backend.controller.dto.EquipoPatchRequest;
+import com.simfut.backend.controller.dto.MultiGetResponse;
+import com.simfut.backend.model.Cambio;
 import com.simfut.backend.model.Equipo;
+import com.simfut.backend.model.Jugador;
 import com.simfut.backend.repository.EquipoRepository;
+import com.simfut.backend.repository.JugadorRepository;
+import com.simfut.backend.repository.PartidoRepository;
+import com.simfut.backend.repository.PatchRepository;
+import com.simfut.backend.repository.ProjectionRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 
 @Service
 public class EquipoService {
 
+    private static final Map<String, String> CAMPOS = new LinkedHashMap<>();
+    private static final Map<String, String> CAMPOS_JUGADOR = new LinkedHashMap<>();
+
+    static {
+        CAMPOS.put("id", "id");
+        CAMPOS.put("nombre", "nombre");
+        CAMPOS.put("ciudad", "ciudad");
+        CAMPOS.put("escudo", "escudo");
+        CAMPOS_JUGADOR.put("equipoId", "equipo.id");
+        CAMPOS_JUGADOR.put("id", "id");
+        CAMPOS_JUGADOR.put("nombre", "nombre");
+        CAMPOS_JUGADOR.put("posicion", "posicion");
+        CAMPOS_JUGADOR.put("numeroCamiseta", "numeroCamiseta");
+        CAMPOS_JUGADOR.put("ataque", "ataque");
+        CAMPOS_JUGADOR.put("defensa", "defensa");
+    }
+
     private final EquipoRepository equipoRepository;
+    private final JugadorRepository jugadorRepository;
+    private final PartidoRepository partidoRepository;
+    private final ProjectionRepository projectionRepository;
+    private final PatchRepository patchRepository;
+    private final CambioService cambioService;
+    private final AuditLog auditLog;
     private final AuthorizationService authorizationService;
 
-    public EquipoService(EquipoRepository equipoRepository, AuthorizationService authorizationService) {
+    public EquipoService(EquipoRepository equipoRepository,
+                         JugadorRepository jugadorRepository,
+                         PartidoRepository partidoRepository,
+                         ProjectionRepository projectionRepository,
+                         PatchRepository patchRepository,
+                         CambioService cambioService,
+                         AuditLog auditLog,
+                         AuthorizationService authorizationService) {
         this.equipoRepository = equipoRepository;
+        this.jugadorRepository = jugadorRepository;
+        this.partidoRepository = partidoRepository;
+        this.projectionRepository = projectionRepository;
+        this.patchRepository = patchRepository;
+        this.cambioService = cambioService;
+        this.auditLog = auditLog;
         this.authorizationService = authorizationService;
     }
 
+    @Transactional(readOnly = true)
     public List<Equipo> findAll() {
         authorizationService.requireAnyRole(Role.USER, Role.ADMIN);
-        return equipoRepository.findAll();
+        return equipoRepository.findAllByEliminadoFalse();
     }
 
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> findAll(String fields, String embed) {
+        authorizationService.requireAnyRole(Role.USER, Role.ADMIN);
+        Set<String> embeds = FieldSelection.parse(embed);
+        boolean withJugadores = embeds.remove("jugadores");
+        Map<String, String> columns = FieldSelection.columns(fields, embeds, CAMPOS, Map.of());
+        boolean idAdded = withJugadores && columns.putIfAbsent("id", "id") == null;
+
+        List<Map<String, Object>> rows = projectionRepository.findAll(Equipo.class, columns, "eliminado", List.of(false));
+        if (!withJugadores || rows.isEmpty()) {
+            return rows;
+        }
+
+        Map<Object, List<Map<String, Object>>> plantel = new LinkedHashMap<>();
+        List<Object> ids = rows.stream().map(row -> row.get("id")).toList();
+        for (Map<String, Object> jugador : projectionRepository.findAll(Jugador.class, CAMPOS_JUGADOR, "equipo.id", ids)) {
+            plantel.computeIfAbsent(jugador.remove("equipoId"), key -> new ArrayList<>()).add(jugador);
+        }
+        for (Map<String, Object> row : rows) {
+            row.put("jugadores", plantel.getOrDefault(row.get("id"), List.of()));
+            if (idAdded) {
+                row.remove("id");
+            }
+        }
+        return rows;
+    }
+
+    @Transactional(readOnly = true)
     public Equipo findById(Long id) {
         authorizationService.requireAnyRole(Role.USER, Role.ADMIN);
-        return equipoRepository.findById(id)
+        return equipoRepository.findByIdAndEliminadoFalse(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Equipo no encontrado"));
     }
 
+    @Transactional(readOnly = true)
+    public MultiGetResponse<Equipo> findAllById(Collection<Long> ids) {
+        authorizationService.requireAnyRole(Role.USER, Role.ADMIN);
+        return BatchLookup.findByIds(ids, equipoRepository::findAllByIdIn, Equipo::getId, Function.identity());
+    }
+
+    @Transactional
     public Equipo create(Equipo equipo) {
         authorizationService.requireAnyRole(Role.ADMIN);
-        return equipoRepository.save(equipo);
+        Equipo saved = equipoRepository.save(equipo);
+        cambioService.registrar(Cambio.Entidad.EQUIPO, saved.getId(), Cambio.Operacion.CREAR);
+        auditLog.registrar(Cambio.Entidad.EQUIPO, Cambio.Operacion.CREAR, saved.getId(), 0, huella(saved));
+        return saved;
     }
 
+    @Transactional
     public Equipo update(Long id, Equipo equipo) {
         authorizationService.requireAnyRole(Role.ADMIN);
         Equipo existing = findById(id);
+        long anterior = huella(existing);
         existing.setNombre(equipo.getNombre());
         existing.setCiudad(equipo.getCiudad());
-        return equipoRepository.save(existing);
+        Equipo saved = equipoRepository.save(existing);
+        cambioService.registrar(Cambio.Entidad.EQUIPO, id, Cambio.Operacion.ACTUALIZAR);
+        auditLog.registrar(Cambio.Entidad.EQUIPO, Cambio.Operacion.ACTUALIZAR, id, anterior, huella(saved));
+        return saved;
     }
 
-    public void delete(Long id) {
+    @Transactional
+    public void patch(Long id, EquipoPatchRequest request) {
         authorizationService.requireAnyRole(Role.ADMIN);
-        Equipo existing = findById(id);
-        equipoRepository.delete(existing);
+        Map<String, Object> values = new LinkedHashMap<>();
+        if (request.getNombre() != null) {
+            if (request.getNombre().isBlank()) {
+                throw new IllegalArgumentException("El nombre no puede estar vacío");
+            }
+            values.put("nombre", request.getNombre());
+        }
+        if (request.getCiudad() != null) {
+            values.put("ciudad", request.getCiudad());
+        }
+        boolean found = values.isEmpty()
+                ? equipoRepository.existsByIdAndEliminadoFalse(id)
+                : patchRepository.update(Equipo.class, id, values, Map.of("eliminado", false)) > 0;
+        if (!found) {
+            throw new ResourceNotFoundException("Equipo no encontrado");
+        }
+        if (!values.isEmpty()) {
+            cambioService.registrar(Cambio.Entidad.EQUIPO, id, Cambio.Operacion.ACTUALIZAR);
+            // El UPDATE parcial no lee la fila: la huella cubre solo los campos aplicados
+            auditLog.registrar(Cambio.Entidad.EQUIPO, Cambio.Operacion.ACTUALIZAR, id, 0,
+                    AuditLog.huella(request.getNombre(), request.getCiudad()));
+        }
+    }
+
+    /** Asigna el escudo ya almacenado (o lo quita con null); los archivos anteriores no se borran. */
+    @Transactional
+    public Equipo asignarEscudo(Long id, String escudo) {
+        authorizationService.requireAnyRole(Role.ADMIN);
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("escudo", escudo);
+        if (patchRepository.update(Equipo.class, id, values, Map.of("eliminado", false)) == 0) {
+            throw new ResourceNotFoundException("Equipo no encontrado");
+        }
+        cambioService.registrar(Cambio.Entidad.EQUIPO, id, Cambio.Operacion.ACTUALIZAR);
+        auditLog.registrar(Cambio.Entidad.EQUIPO, Cambio.Operacion.ACTUALIZAR, id, 0, AuditLog.huella(escudo));
+        return findById(id);
+    }
+
+    @Transactional
+    public void delete(Long id, EquipoEliminacionRequest opciones) {
+        authorizationService.requireAnyRole(Role.ADMIN);
+        if (opciones.getModo() == EquipoEliminacionRequest.Modo.LOGICO) {
+            if (opciones.getJugadores() != null || opciones.getPartidos() != null || opciones.getDestinoId() != null) {
+                throw new IllegalArgumentException("El borrado lógico conserva jugadores y partidos; no admite opciones para ellos");
+            }
+            if (equipoRepository.softDeleteById(id) == 0) {
+                throw new ResourceNotFoundException("Equipo no encontrado");
+            }
+            cambioService.registrar(Cambio.Entidad.EQUIPO, id, Cambio.Operacion.ELIMINAR);
+            auditLog.registrar(Cambio.Entidad.EQUIPO, Cambio.Operacion.ELIMINAR, id, 0, 0);
+            return;
+        }
+
+        EquipoEliminacionRequest.Dependientes jugadores = opciones.getJugadores() != null
+                ? opciones.getJugadores()
+                : EquipoEliminacionRequest.Dependientes.ELIMINAR;
+        EquipoEliminacionRequest.Dependientes partidos = opciones.getPartidos();
+        if (partidos == null && partidoRepository.existsByEquipoId(id)) {
+            throw new IllegalArgumentException(
+                    "El equipo tiene partidos: indique partidos=ELIMINAR, LIBERAR o REASIGNAR, o use modo=LOGICO");
+        }
+        Equipo destino = resolveDestino(id, opciones.getDestinoId(), jugadores, partidos);
+        cambioService.registrarJugadoresDeEquipo(id, operacionDependientes(jugadores));
+        switch (jugadores) {
+            case ELIMINAR -> jugadorRepository.deleteByEquipoId(id);
+            case LIBERAR -> jugadorRepository.releaseEquipo(id);
+            case REASIGNAR -> jugadorRepository.reassignEquipo(id, destino);
+        }
+        if (partidos != null) {
+            cambioService.registrarPartidosDeEquipo(id, operacionDependientes(partidos));
+            switch (partidos) {
+                case ELIMINAR -> partidoRepository.deleteByEquipoId(id);
+                case LIBERAR -> {
+                    partidoRepository.reassignEquipoLocal(id, null);
+                    partidoRepository.reassignEquipoVisitante(id, null);
+                }
+                case REASIGNAR -> {
+                    partidoRepository.reassignEquipoLocal(id, destino);
+                    partidoRepository.reassignEquipoVisitante(id, destino);
+                }
+            }
+        }
+        // Si el equipo no existe se lanza la excepción y el rollback deshace los cambios en dependientes
+        if (equipoRepository.deleteRowById(id) == 0) {
+            throw new ResourceNotFoundException("Equipo no encontrado");
+        }
+        cambioService.registrar(Cambio.Entidad.EQUIPO, id, Cambio.Operacion.ELIMINAR);
+        auditLog.registrar(Cambio.Entidad.EQUIPO, Cambio.Operacion.ELIMINAR, id, 0, 0);
+        if (destino != null) {
+            cambioService.registrar(Cambio.Entidad.EQUIPO, destino.getId(), Cambio.Operacion.ACTUALIZAR);
+        }
+    }
+
+    private static long huella(Equipo equipo) {
+        return AuditLog.huella(equipo.getId(), equipo.getNombre(), equipo.getCiudad());
+    }
+
+    private Cambio.Operacion operacionDependientes(EquipoEliminacionRequest.Dependientes dependientes) {
+        return dependientes == EquipoEliminacionRequest.Dependientes.ELIMINAR
+                ? Cambio.Operacion.ELIMINAR
+                : Cambio.Operacion.ACTUALIZAR;
+    }
+
+    private Equipo resolveDestino(Long id,
+                                  Long destinoId,
+                                  EquipoEliminacionRequest.Dependientes jugadores,
+                                  EquipoEliminacionRequest.Dependientes partidos) {
+        boolean reasignaPartidos = partidos == EquipoEliminacionRequest.Dependientes.REASIGNAR;
+        if (jugadores != EquipoEliminacionRequest.Dependientes.REASIGNAR && !reasignaPartidos) {
+            return null;
+        }
+        if (destinoId == null || destinoId.equals(id)) {
+            throw new IllegalArgumentException("Debe indicar un equipo destino distinto para reasignar");
+        }
+        if (!equipoRepository.existsByIdAndEliminadoFalse(destinoId)) {
+            throw new ResourceNotFoundException("Equipo destino no encontrado");
+        }
+        // Reasignar un partido entre ambos equipos lo dejaría con el destino como local y visitante
+        if (reasignaPartidos && partidoRepository.existsEnfrentamiento(id, destinoId)) {
+            throw new IllegalArgumentException("El equipo jugó contra el destino; esos partidos no se pueden reasignar");
+        }
+        return patchRepository.reference(Equipo.class, destinoId);
     }
 }
@@ -0,0 +1,230 @@
+package com.simfut.backend.service;
+
+import com.simfut.backend.auth.Role;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+
+/**
+ * Escudos de equipo guardados en disco por contenido. Al subirlos se decodifican, se reducen al
+ * lado máximo y se vuelven a codificar como PNG (lo que descarta metadatos y formatos ajenos);
+ * el nombre es el SHA-256 de ese PNG. Las variantes chicas se generan una sola vez en la subida,
+ * así servir un escudo es solo copiar un archivo que nunca cambia.
+ *
+ * Los archivos no se borran al reemplazar el escudo: otro equipo puede tener la misma imagen y
+ * los clientes pueden tener la URL anterior en caché.
+ */
+@Service
+public class EscudoService {
+
+    /** {@code <hash>.png} o {@code <hash>-<lado>.png}; cualquier otro nombre no existe. */
+    private static final Pattern ARCHIVO = Pattern.compile("([0-9a-f]{64})(?:-([0-9]{1,4}))?\\.png");
+
+    private final AuthorizationService authorizationService;
+    private final Path directorio;
+    private final int maxBytes;
+    private final int maxPixeles;
+    private final int ladoMaximo;
+    private final int[] variantes;
+
+    public EscudoService(AuthorizationService authorizationService,
+                         @Value("${simfut.escudos.directory:data/escudos}") String directorio,
+                         @Value("${simfut.escudos.max-bytes:2097152}") int maxBytes,
+                         @Value("${simfut.escudos.max-pixeles:4194304}") int maxPixeles,
+                         @Value("${simfut.escudos.lado-maximo:512}") int ladoMaximo,
+                         @Value("${simfut.escudos.variantes:32,64,128}") int[] variantes) {
+        this.authorizationService = authorizationService;
+        this.directorio = Path.of(directorio);
+        this.maxBytes = maxBytes;
+        this.maxPixeles = maxPixeles;
+        this.ladoMaximo = ladoMaximo;
+        this.variantes = Arrays.stream(variantes).filter(lado -> lado > 0 && lado < ladoMaximo).sorted().distinct().toArray();
+    }
+
+    /** Archivo servible de un escudo. */
+    public record Escudo(Path path, long tamano, String etag) {
+    }
+
+    /**
+     * Valida, normaliza y guarda la imagen con sus variantes; devuelve el hash que la identifica.
+     * Si el mismo contenido ya estaba guardado no se vuelve a escribir.
+     */
+    public String guardar(InputStream entrada) {
+        authorizationService.requireAnyRole(Role.ADMIN);
+        BufferedImage imagen;
+        try {
+            imagen = decodificar(leer(entrada));
+        } catch (IOException ex) {
+            throw new UncheckedIOException("No se pudo leer el escudo", ex);
+        }
+        BufferedImage original = escalar(imagen, ladoMaximo);
+        byte[] png = png(original);
+        String hash = sha256(png);
+        Path carpeta = carpeta(hash);
+        try {
+            Files.createDirectories(carpeta);
+            // Primero las variantes: si el original existe, sus variantes también
+            for (int lado : variantes) {
+                Path variante = carpeta.resolve(hash + "-" + lado + ".png");
+                if (!Files.exists(variante)) {
+                    escribir(variante, png(escalar(original, lado)));
+                }
+            }
+            Path path = carpeta.resolve(hash + ".png");
+            if (!Files.exists(path)) {
+                escribir(path, png);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("No se pudo guardar el escudo", ex);
+        }
+        return hash;
+    }
+
+    /** Resuelve un nombre público ({@code <hash>.png} o {@code <hash>-<lado>.png}) a su archivo. */
+    public Escudo buscar(String archivo) {
+        Matcher matcher = ARCHIVO.matcher(archivo);
+        if (!matcher.matches()) {
+            throw new ResourceNotFoundException("Escudo no encontrado");
+        }
+        Path path = carpeta(matcher.group(1)).resolve(archivo);
+        try {
+            return new Escudo(path, Files.size(path), archivo.substring(0, archivo.length() - ".png".length()));
+        } catch (IOException ex) {
+            throw new ResourceNotFoundException("Escudo no encontrado");
+        }
+    }
+
+    private byte[] leer(InputStream entrada) throws IOException {
+        byte[] bytes = entrada.readNBytes(maxBytes + 1);
+        if (bytes.length > maxBytes) {
+            throw new IllegalArgumentException("El escudo supera el máximo de " + maxBytes + " bytes");
+        }
+        if (bytes.length == 0) {
+            throw new IllegalArgumentException("El escudo está vacío");
+        }
+        return bytes;
+    }
+
+    /** Lee las dimensiones del encabezado antes de decodificar, para no reservar una imagen gigante. */
+    private BufferedImage decodificar(byte[] bytes) throws IOException {
+        try (ImageInputStream stream = new MemoryCacheImageInputStream(new ByteArrayInputStream(bytes))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(stream);
+            if (!readers.hasNext()) {
+                throw new IllegalArgumentException("El escudo debe ser una imagen PNG, JPEG, GIF o BMP");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(stream, true, true);
+                long pixeles = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixeles > maxPixeles) {
+                    throw new IllegalArgumentException("El escudo supera el máximo de " + maxPixeles + " píxeles");
+                }
+                return reader.read(0);
+            } catch (IOException ex) {
+                throw new IllegalArgumentException("La imagen del escudo está dañada");
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Encaja la imagen en un cuadrado de {@code lado} conservando la proporción, sin agrandarla.
+     * Reduce a la mitad por pasos con interpolación bilineal, que da un resultado parecido al
+     * bicúbico a una fracción del costo.
+     */
+    private static BufferedImage escalar(BufferedImage imagen, int lado) {
+        int ancho = imagen.getWidth();
+        int alto = imagen.getHeight();
+        double escala = Math.min(1.0, (double) lado / Math.max(ancho, alto));
+        int anchoFinal = Math.max(1, (int) Math.round(ancho * escala));
+        int altoFinal = Math.max(1, (int) Math.round(alto * escala));
+        BufferedImage actual = imagen;
+        while (ancho / 2 >= anchoFinal && alto / 2 >= altoFinal) {
+            ancho /= 2;
+            alto /= 2;
+            actual = dibujar(actual, ancho, alto);
+        }
+        if (actual != imagen && ancho == anchoFinal && alto == altoFinal) {
+            return actual;
+        }
+        return dibujar(actual, anchoFinal, altoFinal);
+    }
+
+    private static BufferedImage dibujar(BufferedImage origen, int ancho, int alto) {
+        BufferedImage destino = new BufferedImage(ancho, alto, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = destino.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(origen, 0, 0, ancho, alto, null);
+        } finally {
+            graphics.dispose();
+        }
+        return destino;
+    }
+
+    private static byte[] png(BufferedImage imagen) {
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+        try {
+            ImageIO.write(imagen, "png", salida);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("No se pudo codificar el escudo", ex);
+        }
+        return salida.toByteArray();
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /** Reparte los archivos en subcarpetas por los dos primeros dígitos del hash. */
+    private Path carpeta(String hash) {
+        return directorio.resolve(hash.substring(0, 2));
+    }
+
+    /** Escribe en un temporal y lo mueve, para que nunca se sirva un archivo a medio escribir. */
+    private static void escribir(Path destino, byte[] bytes) throws IOException {
+        Path temporal = Files.createTempFile(destino.getParent(), ".escudo", ".tmp");
+        try {
+            Files.write(temporal, bytes);
+            try {
+                Files.move(temporal, destino, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(temporal, destino);
+            }
+        } catch (FileAlreadyExistsException ex) {
+            // Otra subida del mismo contenido ganó la carrera; el archivo es idéntico
+        } finally {
+            Files.deleteIfExists(temporal);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.simfut.backend.service;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Traduce los parámetros {@code fields} y {@code embed} a las columnas que debe proyectar la consulta.
+ */
+final class FieldSelection {
+
+    private FieldSelection() {
+    }
+
+    static Map<String, String> columns(String fields,
+                                       Set<String> embeds,
+                                       Map<String, String> fieldPaths,
+                                       Map<String, List<String>> embeddable) {
+        Map<String, String> columns = new LinkedHashMap<>();
+        Set<String> requested = fields == null ? fieldPaths.keySet() : parse(fields);
+        for (String field : requested) {
+            String path = fieldPaths.get(field);
+            if (path == null) {
+                throw new IllegalArgumentException("Campo no soportado: " + field);
+            }
+            columns.put(field, path);
+        }
+        for (String embed : embeds) {
+            List<String> attributes = embeddable.get(embed);
+            if (attributes == null) {
+                throw new IllegalArgumentException("Relación no soportada en embed: " + embed);
+            }
+            for (String attribute : attributes) {
+                columns.put(embed + "." + attribute, embed + "." + attribute);
+            }
+        }
+        if (columns.isEmpty()) {
+            throw new IllegalArgumentException("Debe solicitar al menos un campo");
+        }
+        return columns;
+    }
+
+    static Set<String> parse(String csv) {
+        if (csv == null || csv.isBlank()) {
+            return new LinkedHashSet<>();
+        }
+        return Arrays.stream(csv.split(","))
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+}
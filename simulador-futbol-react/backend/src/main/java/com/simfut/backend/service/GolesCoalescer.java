@@ -0,0 +1,96 @@
+package com.simfut.backend.service;
+
+import com.simfut.backend.controller.dto.GolRequest;
+import com.simfut.backend.controller.dto.MarcadorResponse;
+import com.simfut.backend.datasource.ReadYourWritesContext;
+import com.simfut.backend.model.Cambio;
+import com.simfut.backend.repository.PartidoRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Acumula los goles que llegan para un mismo partido dentro de una ventana corta y los
+ * aplica con un único {@code UPDATE} atómico. Cada solicitud recibe el marcador resultante y la
+ * secuencia del cambio, que la request no puede ver por sí misma porque el commit ocurre en el
+ * hilo del flush.
+ */
+@Component
+public class GolesCoalescer {
+
+    private final PartidoRepository partidoRepository;
+    private final CambioService cambioService;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<Long, Pendiente> pendientes = new ConcurrentHashMap<>();
+
+    public GolesCoalescer(PartidoRepository partidoRepository,
+                          CambioService cambioService,
+                          TransactionTemplate transactionTemplate) {
+        this.partidoRepository = partidoRepository;
+        this.cambioService = cambioService;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /** Marcador tras aplicar el lote y secuencia del registro de cambios en que quedó. */
+    public record Resultado(MarcadorResponse marcador, long seq) {
+    }
+
+    public CompletableFuture<Resultado> registrar(Long partidoId, GolRequest.Lado lado, int cantidad) {
+        CompletableFuture<Resultado> future = new CompletableFuture<>();
+        // El estado pendiente solo se modifica dentro de compute, que es atómico respecto de remove en flush
+        pendientes.compute(partidoId, (id, pendiente) -> {
+            Pendiente actual = pendiente != null ? pendiente : new Pendiente();
+            if (lado == GolRequest.Lado.LOCAL) {
+                actual.local += cantidad;
+            } else {
+                actual.visitante += cantidad;
+            }
+            actual.futures.add(future);
+            return actual;
+        });
+        return future;
+    }
+
+    @Scheduled(fixedDelayString = "${simfut.partidos.goles.coalesce-window-ms:20}")
+    public void flush() {
+        for (Long partidoId : pendientes.keySet()) {
+            Pendiente pendiente = pendientes.remove(partidoId);
+            if (pendiente != null) {
+                aplicar(partidoId, pendiente);
+            }
+        }
+    }
+
+    private void aplicar(Long partidoId, Pendiente pendiente) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (partidoRepository.incrementGoles(partidoId, pendiente.local, pendiente.visitante) == 0) {
+                    throw new ResourceNotFoundException("Partido no encontrado");
+                }
+                cambioService.registrar(Cambio.Entidad.PARTIDO, partidoId, Cambio.Operacion.ACTUALIZAR);
+            });
+            // CambioService deja la secuencia confirmada en el contexto de este hilo
+            long seq = ReadYourWritesContext.lastWrittenSeq();
+            MarcadorResponse marcador = partidoRepository.findMarcadorById(partidoId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Partido no encontrado"));
+            Resultado resultado = new Resultado(marcador, seq);
+            pendiente.futures.forEach(future -> future.complete(resultado));
+        } catch (RuntimeException ex) {
+            pendiente.futures.forEach(future -> future.completeExceptionally(ex));
+        } finally {
+            ReadYourWritesContext.clear();
+        }
+    }
+
+    private static final class Pendiente {
+        private int local;
+        private int visitante;
+        private final List<CompletableFuture<Resultado>> futures = new ArrayList<>();
+    }
+}
@@ -0,0 +1,306 @@
+package com.simfut.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.simfut.backend.auth.Role;
+import com.simfut.backend.controller.dto.ImportacionEvento;
+import com.simfut.backend.controller.dto.JugadorRequest;
+import com.simfut.backend.index.TextNormalizer;
+import com.simfut.backend.model.Equipo;
+import com.simfut.backend.model.Partido;
+import com.simfut.backend.repository.EquipoRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Importación de planteles y fixtures desde CSV. El archivo se lee registro a registro desde el
+ * stream de la petición, cada fila válida se acumula en un lote que se guarda en su propia
+ * transacción, y el avance y los errores por fila se devuelven como NDJSON a medida que ocurren.
+ */
+@Service
+public class ImportacionService {
+
+    private final EquipoRepository equipoRepository;
+    private final JugadorService jugadorService;
+    private final PartidoService partidoService;
+    private final AuthorizationService authorizationService;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final int maxErrores;
+
+    public ImportacionService(EquipoRepository equipoRepository,
+                              JugadorService jugadorService,
+                              PartidoService partidoService,
+                              AuthorizationService authorizationService,
+                              Validator validator,
+                              ObjectMapper objectMapper,
+                              @Value("${simfut.importacion.batch-size:500}") int batchSize,
+                              @Value("${simfut.importacion.max-errores:1000}") int maxErrores) {
+        this.equipoRepository = equipoRepository;
+        this.jugadorService = jugadorService;
+        this.partidoService = partidoService;
+        this.authorizationService = authorizationService;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxErrores = Math.max(0, maxErrores);
+    }
+
+    /**
+     * Columnas: nombre, posicion, numeroCamiseta (o numero/dorsal), ataque y defensa opcionales
+     * y el equipo por nombre ({@code equipo}) o por id ({@code equipoId}).
+     */
+    public StreamingResponseBody importarJugadores(InputStreamSource archivo) {
+        authorizationService.requireAnyRole(Role.ADMIN);
+        return out -> importar(archivo, out, Set.of("nombre"), this::toJugador, jugadorService::createAll);
+    }
+
+    /**
+     * Columnas: fecha (AAAA-MM-DD), local y visitante por nombre (o equipoLocalId y
+     * equipoVisitanteId), golesLocal y golesVisitante.
+     */
+    public StreamingResponseBody importarPartidos(InputStreamSource archivo) {
+        authorizationService.requireAnyRole(Role.ADMIN);
+        return out -> importar(archivo, out, Set.of("fecha"), this::toPartido, partidoService::createAll);
+    }
+
+    private <T> void importar(InputStreamSource archivo, OutputStream out, Set<String> requeridas,
+                              Conversor<T> conversor, Consumer<List<T>> guardar) throws IOException {
+        long start = System.nanoTime();
+        Progreso progreso = new Progreso(out);
+        List<T> lote = new ArrayList<>(batchSize);
+        long primeraLinea = 0;
+        long ultimaLinea = 0;
+        try (Reader reader = new InputStreamReader(archivo.getInputStream(), StandardCharsets.UTF_8)) {
+            CsvReader csv = new CsvReader(reader);
+            List<String> cabecera = csv.next();
+            if (cabecera == null) {
+                progreso.resumen(start, "El archivo está vacío");
+                return;
+            }
+            Map<String, Integer> columnas = new HashMap<>();
+            for (int i = 0; i < cabecera.size(); i++) {
+                columnas.putIfAbsent(normalizarColumna(cabecera.get(i)), i);
+            }
+            for (String requerida : requeridas) {
+                if (!columnas.containsKey(requerida)) {
+                    progreso.resumen(start, "Falta la columna requerida: " + requerida);
+                    return;
+                }
+            }
+
+            EquipoNombreIndex equipos = EquipoNombreIndex.cargar(equipoRepository);
+            List<String> valores;
+            while ((valores = csv.next()) != null) {
+                progreso.filas++;
+                ultimaLinea = csv.recordLine();
+                try {
+                    if (valores.size() > cabecera.size()) {
+                        throw new IllegalArgumentException("La fila tiene " + valores.size()
+                                + " columnas y la cabecera " + cabecera.size());
+                    }
+                    T elemento = conversor.convertir(new Fila(columnas, valores), equipos);
+                    if (lote.isEmpty()) {
+                        primeraLinea = ultimaLinea;
+                    }
+                    lote.add(elemento);
+                } catch (IllegalArgumentException ex) {
+                    if (!progreso.error(ultimaLinea, ex.getMessage())) {
+                        guardarLote(lote, guardar, primeraLinea, ultimaLinea, progreso);
+                        progreso.resumen(start, "Importación detenida tras " + maxErrores + " errores");
+                        return;
+                    }
+                }
+                if (lote.size() == batchSize && !guardarLote(lote, guardar, primeraLinea, ultimaLinea, progreso)) {
+                    progreso.resumen(start, "Importación detenida tras " + maxErrores + " errores");
+                    return;
+                }
+            }
+            guardarLote(lote, guardar, primeraLinea, ultimaLinea, progreso);
+            progreso.resumen(start, null);
+        } catch (IllegalArgumentException ex) {
+            // Error de sintaxis CSV: no es posible ubicar con certeza el registro siguiente, se
+            // guardan las filas ya leídas y se detiene la importación
+            guardarLote(lote, guardar, primeraLinea, ultimaLinea, progreso);
+            progreso.resumen(start, ex.getMessage());
+        }
+    }
+
+    /** @return false si con las filas del lote fallido se superó el máximo de errores */
+    private <T> boolean guardarLote(List<T> lote, Consumer<List<T>> guardar, long primeraLinea, long ultimaLinea,
+                                    Progreso progreso) throws IOException {
+        if (lote.isEmpty()) {
+            return true;
+        }
+        try {
+            guardar.accept(lote);
+            progreso.importadas += lote.size();
+        } catch (RuntimeException ex) {
+            progreso.errores += lote.size();
+            progreso.emitir(ImportacionEvento.error(primeraLinea, "No se pudo guardar el lote de las líneas "
+                    + primeraLinea + " a " + ultimaLinea + ": " + ex.getMessage()));
+        }
+        lote.clear();
+        progreso.emitir(ImportacionEvento.progreso(progreso.filas, progreso.importadas, progreso.errores));
+        progreso.out.flush();
+        return progreso.errores <= maxErrores;
+    }
+
+    private JugadorRequest toJugador(Fila fila, EquipoNombreIndex equipos) {
+        JugadorRequest request = new JugadorRequest();
+        request.setNombre(fila.texto("nombre"));
+        request.setPosicion(fila.texto("posicion"));
+        request.setNumeroCamiseta(fila.entero("numerocamiseta", "numero", "dorsal"));
+        request.setAtaque(fila.entero("ataque"));
+        request.setDefensa(fila.entero("defensa"));
+        request.setEquipoId(equipoId(fila, equipos, "equipoid", "equipo"));
+        validar(request);
+        return request;
+    }
+
+    private Partido toPartido(Fila fila, EquipoNombreIndex equipos) {
+        Partido partido = new Partido(
+                fila.fecha("fecha"),
+                equipo(equipoId(fila, equipos, "equipolocalid", "local", "equipolocal")),
+                equipo(equipoId(fila, equipos, "equipovisitanteid", "visitante", "equipovisitante")),
+                fila.entero("goleslocal"),
+                fila.entero("golesvisitante")
+        );
+        validar(partido);
+        return partido;
+    }
+
+    private Long equipoId(Fila fila, EquipoNombreIndex equipos, String columnaId, String... columnasNombre) {
+        Long id = fila.id(columnaId);
+        if (id != null) {
+            return equipos.verificar(id);
+        }
+        String nombre = fila.texto(columnasNombre);
+        return nombre != null ? equipos.resolver(nombre) : null;
+    }
+
+    private Equipo equipo(Long id) {
+        if (id == null) {
+            return null;
+        }
+        Equipo equipo = new Equipo();
+        equipo.setId(id);
+        return equipo;
+    }
+
+    private void validar(Object valor) {
+        Set<ConstraintViolation<Object>> violations = validator.validate(valor);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+    }
+
+    private static String normalizarColumna(String nombre) {
+        return TextNormalizer.normalize(nombre).replaceAll("[\\s_-]", "");
+    }
+
+    @FunctionalInterface
+    private interface Conversor<T> {
+        T convertir(Fila fila, EquipoNombreIndex equipos);
+    }
+
+    private static final class Fila {
+
+        private final Map<String, Integer> columnas;
+        private final List<String> valores;
+
+        Fila(Map<String, Integer> columnas, List<String> valores) {
+            this.columnas = columnas;
+            this.valores = valores;
+        }
+
+        String texto(String... nombres) {
+            for (String nombre : nombres) {
+                Integer index = columnas.get(nombre);
+                if (index != null && index < valores.size() && !valores.get(index).isBlank()) {
+                    return valores.get(index).trim();
+                }
+            }
+            return null;
+        }
+
+        Integer entero(String... nombres) {
+            String valor = texto(nombres);
+            try {
+                return valor != null ? Integer.valueOf(valor) : null;
+            } catch (NumberFormatException ex) {
+                throw new IllegalArgumentException(nombres[0] + ": número inválido '" + valor + "'");
+            }
+        }
+
+        Long id(String nombre) {
+            String valor = texto(nombre);
+            try {
+                return valor != null ? Long.valueOf(valor) : null;
+            } catch (NumberFormatException ex) {
+                throw new IllegalArgumentException(nombre + ": id inválido '" + valor + "'");
+            }
+        }
+
+        LocalDate fecha(String nombre) {
+            String valor = texto(nombre);
+            try {
+                return valor != null ? LocalDate.parse(valor) : null;
+            } catch (DateTimeParseException ex) {
+                throw new IllegalArgumentException(nombre + ": fecha inválida '" + valor + "', se espera AAAA-MM-DD");
+            }
+        }
+    }
+
+    private final class Progreso {
+
+        private final OutputStream out;
+        private long filas;
+        private long importadas;
+        private long errores;
+
+        Progreso(OutputStream out) {
+            this.out = out;
+        }
+
+        /** Informa un error de fila; devuelve false cuando se superó el máximo permitido. */
+        boolean error(long linea, String mensaje) throws IOException {
+            errores++;
+            emitir(ImportacionEvento.error(linea, mensaje));
+            return errores <= maxErrores;
+        }
+
+        void resumen(long start, String mensaje) throws IOException {
+            long duracionMs = (System.nanoTime() - start) / 1_000_000;
+            emitir(ImportacionEvento.resumen(filas, importadas, errores, duracionMs, mensaje));
+            out.flush();
+        }
+
+        void emitir(ImportacionEvento evento) throws IOException {
+            out.write(objectMapper.writeValueAsBytes(evento));
+            out.write('\n');
+        }
+    }
+}
@@ -1,29 +1,74 @@
 package com.simfut.backend.service;
 
+import com.simfut.backend.audit.AuditLog;
 import com.simfut.backend.auth.Role;
+import com.simfut.backend.controller.dto.JugadorPatchRequest;
 import com.simfut.backend.controller.dto.JugadorRequest;
 import com.simfut.backend.controller.dto.JugadorResponse;
+import com.simfut.backend.controller.dto.MultiGetResponse;
+import com.simfut.backend.model.Cambio;
 import com.simfut.backend.model.Equipo;
 import com.simfut.backend.model.Jugador;
 import com.simfut.backend.repository.EquipoRepository;
 import com.simfut.backend.repository.JugadorRepository;
+import com.simfut.backend.repository.PatchRepository;
+import com.simfut.backend.repository.ProjectionRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class JugadorService {
 
+    private static final Map<String, String> CAMPOS = new LinkedHashMap<>();
+    private static final Map<String, List<String>> EMBEBIBLES = Map.of(
+            "equipo", List.of("id", "nombre", "ciudad")
+    );
+
+    static {
+        CAMPOS.put("id", "id");
+        CAMPOS.put("nombre", "nombre");
+        CAMPOS.put("posicion", "posicion");
+        CAMPOS.put("numeroCamiseta", "numeroCamiseta");
+        CAMPOS.put("ataque", "ataque");
+        CAMPOS.put("defensa", "defensa");
+        CAMPOS.put("equipoId", "equipo.id");
+    }
+
     private final JugadorRepository jugadorRepository;
     private final EquipoRepository equipoRepository;
+    private final ProjectionRepository projectionRepository;
+    private final PatchRepository patchRepository;
+    private final CambioService cambioService;
+    private final AuditLog auditLog;
     private final AuthorizationService authorizationService;
 
-    public JugadorService(JugadorRepository jugadorRepository, EquipoRepository equipoRepository, AuthorizationService authorizationService) {
+    public JugadorService(JugadorRepository jugadorRepository,
+                          EquipoRepository equipoRepository,
+                          ProjectionRepository projectionRepository,
+                          PatchRepository patchRepository,
+                          CambioService cambioService,
+                          AuditLog auditLog,
+                          AuthorizationService authorizationService) {
         this.jugadorRepository = jugadorRepository;
         this.equipoRepository = equipoRepository;
+        this.projectionRepository = projectionRepository;
+        this.patchRepository = patchRepository;
+        this.cambioService = cambioService;
+        this.auditLog = auditLog;
         this.authorizationService = authorizationService;
     }
 
+    @Transactional(readOnly = true)
     public List<JugadorResponse> findAll() {
         authorizationService.requireAnyRole(Role.USER, Role.ADMIN);
         return jugadorRepository.findAll()
@@ -32,36 +77,143 @@ public class JugadorService {
                 .toList();
     }
 
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> findAll(String fields, String embed) {
+        authorizationService.requireAnyRole(Role.USER, Role.ADMIN);
+        Map<String, String> columns = FieldSelection.columns(fields, FieldSelection.parse(embed), CAMPOS, EMBEBIBLES);
+        return projectionRepository.findAll(Jugador.class, columns);
+    }
+
+    @Transactional(readOnly = true)
     public JugadorResponse findById(Long id) {
         authorizationService.requireAnyRole(Role.USER, Role.ADMIN);
         Jugador jugador = findEntityById(id);
         return toResponse(jugador);
     }
 
+    @Transactional(readOnly = true)
+    public MultiGetResponse<JugadorResponse> findAllById(Collection<Long> ids) {
+        authorizationService.requireAnyRole(Role.USER, Role.ADMIN);
+        return BatchLookup.findByIds(ids, jugadorRepository::findAllByIdIn, Jugador::getId, this::toResponse);
+    }
+
+    @Transactional
     public JugadorResponse create(JugadorRequest request) {
         authorizationService.requireAnyRole(Role.ADMIN);
         Jugador jugador = new Jugador();
         applyRequest(jugador, request);
-        return toResponse(jugadorRepository.save(jugador));
+        Jugador saved = jugadorRepository.save(jugador);
+        cambioService.registrar(Cambio.Entidad.JUGADOR, saved.getId(), Cambio.Operacion.CREAR);
+        auditLog.registrar(Cambio.Entidad.JUGADOR, Cambio.Operacion.CREAR, saved.getId(), 0, huella(saved));
+        return toResponse(saved);
+    }
+
+    @Transactional
+    public List<JugadorResponse> createAll(List<JugadorRequest> requests) {
+        authorizationService.requireAnyRole(Role.ADMIN);
+        Set<Long> equipoIds = requests.stream()
+                .map(JugadorRequest::getEquipoId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(HashSet::new));
+        Map<Long, Equipo> equipos = equipoRepository.findAllById(equipoIds).stream()
+                .filter(equipo -> !equipo.isEliminado())
+                .collect(Collectors.toMap(Equipo::getId, Function.identity()));
+        if (equipos.size() != equipoIds.size()) {
+            throw new ResourceNotFoundException("Equipo asociado no encontrado");
+        }
+        List<Jugador> jugadores = requests.stream()
+                .map(request -> {
+                    Jugador jugador = new Jugador(request.getNombre(), request.getPosicion(), request.getNumeroCamiseta(),
+                            request.getEquipoId() != null ? equipos.get(request.getEquipoId()) : null);
+                    jugador.setAtaque(request.getAtaque());
+                    jugador.setDefensa(request.getDefensa());
+                    return jugador;
+                })
+                .toList();
+        List<Jugador> saved = jugadorRepository.saveAll(jugadores);
+        for (Jugador jugador : saved) {
+            cambioService.registrar(Cambio.Entidad.JUGADOR, jugador.getId(), Cambio.Operacion.CREAR);
+            auditLog.registrar(Cambio.Entidad.JUGADOR, Cambio.Operacion.CREAR, jugador.getId(), 0, huella(jugador));
+        }
+        return saved.stream().map(this::toResponse).toList();
     }
 
+    @Transactional
     public JugadorResponse update(Long id, JugadorRequest request) {
         authorizationService.requireAnyRole(Role.ADMIN);
         Jugador existing = findEntityById(id);
+        long anterior = huella(existing);
         applyRequest(existing, request);
-        return toResponse(jugadorRepository.save(existing));
+        Jugador saved = jugadorRepository.save(existing);
+        cambioService.registrar(Cambio.Entidad.JUGADOR, id, Cambio.Operacion.ACTUALIZAR);
+        auditLog.registrar(Cambio.Entidad.JUGADOR, Cambio.Operacion.ACTUALIZAR, id, anterior, huella(saved));
+        return toResponse(saved);
     }
 
+    @Transactional
+    public void patch(Long id, JugadorPatchRequest request) {
+        authorizationService.requireAnyRole(Role.ADMIN);
+        Map<String, Object> values = new LinkedHashMap<>();
+        if (request.getNombre() != null) {
+            if (request.getNombre().isBlank()) {
+                throw new IllegalArgumentException("El nombre no puede estar vacío");
+            }
+            values.put("nombre", request.getNombre());
+        }
+        if (request.getPosicion() != null) {
+            values.put("posicion", request.getPosicion());
+        }
+        if (request.getNumeroCamiseta() != null) {
+            values.put("numeroCamiseta", request.getNumeroCamiseta());
+        }
+        if (request.getAtaque() != null) {
+            values.put("ataque", request.getAtaque());
+        }
+        if (request.getDefensa() != null) {
+            values.put("defensa", request.getDefensa());
+        }
+        if (request.getEquipoId() != null) {
+            if (!equipoRepository.existsByIdAndEliminadoFalse(request.getEquipoId())) {
+                throw new ResourceNotFoundException("Equipo asociado no encontrado");
+            }
+            values.put("equipo", patchRepository.reference(Equipo.class, request.getEquipoId()));
+        }
+        boolean found = values.isEmpty()
+                ? jugadorRepository.existsById(id)
+                : patchRepository.update(Jugador.class, id, values) > 0;
+        if (!found) {
+            throw new ResourceNotFoundException("Jugador no encontrado");
+        }
+        if (!values.isEmpty()) {
+            cambioService.registrar(Cambio.Entidad.JUGADOR, id, Cambio.Operacion.ACTUALIZAR);
+            auditLog.registrar(Cambio.Entidad.JUGADOR, Cambio.Operacion.ACTUALIZAR, id, 0,
+                    AuditLog.huella(request.getNombre(), request.getPosicion(), request.getNumeroCamiseta(),
+                            request.getAtaque(), request.getDefensa(), request.getEquipoId()));
+        }
+    }
+
+    @Transactional
     public void delete(Long id) {
         authorizationService.requireAnyRole(Role.ADMIN);
-        Jugador existing = findEntityById(id);
-        jugadorRepository.delete(existing);
+        if (jugadorRepository.deleteRowById(id) == 0) {
+            throw new ResourceNotFoundException("Jugador no encontrado");
+        }
+        cambioService.registrar(Cambio.Entidad.JUGADOR, id, Cambio.Operacion.ELIMINAR);
+        auditLog.registrar(Cambio.Entidad.JUGADOR, Cambio.Operacion.ELIMINAR, id, 0, 0);
+    }
+
+    private static long huella(Jugador jugador) {
+        Long equipoId = jugador.getEquipo() != null ? jugador.getEquipo().getId() : null;
+        return AuditLog.huella(jugador.getId(), jugador.getNombre(), jugador.getPosicion(),
+                jugador.getNumeroCamiseta(), jugador.getAtaque(), jugador.getDefensa(), equipoId);
     }
 
     private void applyRequest(Jugador jugador, JugadorRequest request) {
         jugador.setNombre(request.getNombre());
         jugador.setPosicion(request.getPosicion());
         jugador.setNumeroCamiseta(request.getNumeroCamiseta());
+        jugador.setAtaque(request.getAtaque());
+        jugador.setDefensa(request.getDefensa());
         jugador.setEquipo(resolveEquipo(request.getEquipoId()));
     }
 
@@ -74,7 +226,7 @@ public class JugadorService {
         if (equipoId == null) {
             return null;
         }
-        return equipoRepository.findById(equipoId)
+        return equipoRepository.findByIdAndEliminadoFalse(equipoId)
                 .orElseThrow(() -> new ResourceNotFoundException("Equipo asociado no encontrado"));
     }
 
@@ -85,6 +237,8 @@ public class JugadorService {
                 jugador.getNombre(),
                 jugador.getPosicion(),
                 jugador.getNumeroCamiseta(),
+                jugador.getAtaque(),
+                jugador.getDefensa(),
                 equipoId
         );
     }
@@ -1,67 +1,314 @@
 package com.simfut.backend.service;
 
+import com.simfut.backend.audit.AuditLog;
 import com.simfut.backend.auth.Role;
+import com.simfut.backend.controller.dto.EquipoResumen;
+import com.simfut.backend.controller.dto.GolRequest;
+import com.simfut.backend.controller.dto.MarcadorResponse;
+import com.simfut.backend.controller.dto.MultiGetResponse;
+import com.simfut.backend.controller.dto.PartidoCompactoResponse;
+import com.simfut.backend.controller.dto.PartidoPatchRequest;
+import com.simfut.backend.model.Cambio;
 import com.simfut.backend.model.Equipo;
 import com.simfut.backend.model.Partido;
 import com.simfut.backend.repository.EquipoRepository;
 import com.simfut.backend.repository.PartidoRepository;
+import com.simfut.backend.repository.PatchRepository;
+import com.simfut.backend.repository.ProjectionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class PartidoService {
 
+    private static final Logger log = LoggerFactory.getLogger(PartidoService.class);
+    private static final Map<String, String> CAMPOS = new LinkedHashMap<>();
+    private static final Map<String, List<String>> EMBEBIBLES = Map.of(
+            "equipoLocal", List.of("id", "nombre", "ciudad"),
+            "equipoVisitante", List.of("id", "nombre", "ciudad")
+    );
+
+    static {
+        CAMPOS.put("id", "id");
+        CAMPOS.put("fecha", "fecha");
+        CAMPOS.put("equipoLocalId", "equipoLocal.id");
+        CAMPOS.put("equipoVisitanteId", "equipoVisitante.id");
+        CAMPOS.put("golesLocal", "golesLocal");
+        CAMPOS.put("golesVisitante", "golesVisitante");
+    }
+
     private final PartidoRepository partidoRepository;
     private final EquipoRepository equipoRepository;
+    private final ProjectionRepository projectionRepository;
+    private final PatchRepository patchRepository;
+    private final GolesCoalescer golesCoalescer;
+    private final CambioService cambioService;
+    private final AuditLog auditLog;
     private final AuthorizationService authorizationService;
 
-    public PartidoService(PartidoRepository partidoRepository, EquipoRepository equipoRepository, AuthorizationService authorizationService) {
+    public PartidoService(PartidoRepository partidoRepository,
+                          EquipoRepository equipoRepository,
+                          ProjectionRepository projectionRepository,
+                          PatchRepository patchRepository,
+                          GolesCoalescer golesCoalescer,
+                          CambioService cambioService,
+                          AuditLog auditLog,
+                          AuthorizationService authorizationService) {
         this.partidoRepository = partidoRepository;
         this.equipoRepository = equipoRepository;
+        this.projectionRepository = projectionRepository;
+        this.patchRepository = patchRepository;
+        this.golesCoalescer = golesCoalescer;
+        this.cambioService = cambioService;
+        this.auditLog = auditLog;
         this.authorizationService = authorizationService;
     }
 
+    @Transactional(readOnly = true)
     public List<Partido> findAll() {
         authorizationService.requireAnyRole(Role.USER, Role.ADMIN);
         return partidoRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> findAll(String fields, String embed) {
+        authorizationService.requireAnyRole(Role.USER, Role.ADMIN);
+        Map<String, String> columns = FieldSelection.columns(fields, FieldSelection.parse(embed), CAMPOS, EMBEBIBLES);
+        return projectionRepository.findAll(Partido.class, columns);
+    }
+
+    @Transactional(readOnly = true)
+    public PartidoCompactoResponse findAllCompact(LocalDate desde, LocalDate hasta) {
+        authorizationService.requireAnyRole(Role.USER, Role.ADMIN);
+        List<Object[]> rows = partidoRepository.findCompactRows(desde, hasta);
+
+        Map<Long, Integer> indices = new HashMap<>();
+        List<Long> equipoIds = new ArrayList<>();
+        List<Object[]> partidos = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            partidos.add(new Object[]{
+                    row[0],
+                    row[1],
+                    indexOf((Long) row[2], indices, equipoIds),
+                    indexOf((Long) row[3], indices, equipoIds),
+                    row[4],
+                    row[5]
+            });
+        }
+
+        Map<Long, Equipo> equipos = equipoRepository.findAllById(equipoIds).stream()
+                .collect(Collectors.toMap(Equipo::getId, Function.identity()));
+        List<EquipoResumen> diccionario = equipoIds.stream()
+                .map(id -> resumen(id, equipos.get(id)))
+                .toList();
+        return new PartidoCompactoResponse(diccionario, partidos);
+    }
+
+    @Transactional(readOnly = true)
     public Partido findById(Long id) {
         authorizationService.requireAnyRole(Role.USER, Role.ADMIN);
         return partidoRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Partido no encontrado"));
     }
 
+    @Transactional(readOnly = true)
+    public MultiGetResponse<Partido> findAllById(Collection<Long> ids) {
+        authorizationService.requireAnyRole(Role.USER, Role.ADMIN);
+        return BatchLookup.findByIds(ids, partidoRepository::findAllByIdIn, Partido::getId, Function.identity());
+    }
+
+    @Transactional
     public Partido create(Partido partido) {
         authorizationService.requireAnyRole(Role.ADMIN);
         partido.setEquipoLocal(resolveEquipo(partido.getEquipoLocal()));
         partido.setEquipoVisitante(resolveEquipo(partido.getEquipoVisitante()));
-        return partidoRepository.save(partido);
+        Partido saved = partidoRepository.save(partido);
+        cambioService.registrar(Cambio.Entidad.PARTIDO, saved.getId(), Cambio.Operacion.CREAR);
+        auditLog.registrar(Cambio.Entidad.PARTIDO, Cambio.Operacion.CREAR, saved.getId(), 0, huella(saved));
+        return saved;
     }
 
+    @Transactional
+    public List<Partido> createAll(List<Partido> partidos) {
+        authorizationService.requireAnyRole(Role.ADMIN);
+        Set<Long> equipoIds = partidos.stream()
+                .flatMap(partido -> Stream.of(partido.getEquipoLocal(), partido.getEquipoVisitante()))
+                .filter(Objects::nonNull)
+                .map(Equipo::getId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(HashSet::new));
+        Map<Long, Equipo> equipos = equipoRepository.findAllById(equipoIds).stream()
+                .filter(equipo -> !equipo.isEliminado())
+                .collect(Collectors.toMap(Equipo::getId, Function.identity()));
+        if (equipos.size() != equipoIds.size()) {
+            throw new ResourceNotFoundException("Equipo asociado no encontrado");
+        }
+        for (Partido partido : partidos) {
+            partido.setEquipoLocal(lookupEquipo(equipos, partido.getEquipoLocal()));
+            partido.setEquipoVisitante(lookupEquipo(equipos, partido.getEquipoVisitante()));
+        }
+        List<Partido> saved = partidoRepository.saveAll(partidos);
+        for (Partido partido : saved) {
+            cambioService.registrar(Cambio.Entidad.PARTIDO, partido.getId(), Cambio.Operacion.CREAR);
+            auditLog.registrar(Cambio.Entidad.PARTIDO, Cambio.Operacion.CREAR, partido.getId(), 0, huella(partido));
+        }
+        return saved;
+    }
+
+    @Transactional
     public Partido update(Long id, Partido partido) {
         authorizationService.requireAnyRole(Role.ADMIN);
+        requerirVersion(partido.getVersion());
         Partido existing = findById(id);
+        if (!partido.getVersion().equals(existing.getVersion())) {
+            throw new OptimisticLockingFailureException("El partido fue modificado por otra operación");
+        }
+        long anterior = huella(existing);
         existing.setFecha(partido.getFecha());
         existing.setEquipoLocal(resolveEquipo(partido.getEquipoLocal()));
         existing.setEquipoVisitante(resolveEquipo(partido.getEquipoVisitante()));
         existing.setGolesLocal(partido.getGolesLocal());
         existing.setGolesVisitante(partido.getGolesVisitante());
-        return partidoRepository.save(existing);
+        Partido saved = partidoRepository.save(existing);
+        cambioService.registrar(Cambio.Entidad.PARTIDO, id, Cambio.Operacion.ACTUALIZAR);
+        auditLog.registrar(Cambio.Entidad.PARTIDO, Cambio.Operacion.ACTUALIZAR, id, anterior, huella(saved));
+        return saved;
     }
 
+    @Transactional
+    public void patch(Long id, PartidoPatchRequest request) {
+        authorizationService.requireAnyRole(Role.ADMIN);
+        requerirVersion(request.getVersion());
+        Map<String, Object> values = new LinkedHashMap<>();
+        if (request.getFecha() != null) {
+            values.put("fecha", request.getFecha());
+        }
+        if (request.getEquipoLocalId() != null) {
+            values.put("equipoLocal", referenceEquipo(request.getEquipoLocalId()));
+        }
+        if (request.getEquipoVisitanteId() != null) {
+            values.put("equipoVisitante", referenceEquipo(request.getEquipoVisitanteId()));
+        }
+        if (request.getGolesLocal() != null) {
+            values.put("golesLocal", request.getGolesLocal());
+        }
+        if (request.getGolesVisitante() != null) {
+            values.put("golesVisitante", request.getGolesVisitante());
+        }
+        if (values.isEmpty()) {
+            if (!partidoRepository.existsById(id)) {
+                throw new ResourceNotFoundException("Partido no encontrado");
+            }
+            return;
+        }
+        if (patchRepository.update(Partido.class, id, values, Map.of("version", request.getVersion())) == 0) {
+            if (!partidoRepository.existsById(id)) {
+                throw new ResourceNotFoundException("Partido no encontrado");
+            }
+            throw new OptimisticLockingFailureException("El partido fue modificado por otra operación");
+        }
+        cambioService.registrar(Cambio.Entidad.PARTIDO, id, Cambio.Operacion.ACTUALIZAR);
+        auditLog.registrar(Cambio.Entidad.PARTIDO, Cambio.Operacion.ACTUALIZAR, id, 0,
+                AuditLog.huella(request.getFecha(), request.getEquipoLocalId(), request.getEquipoVisitanteId(),
+                        request.getGolesLocal(), request.getGolesVisitante()));
+    }
+
+    public CompletableFuture<GolesCoalescer.Resultado> registrarGoles(Long id, GolRequest request) {
+        authorizationService.requireAnyRole(Role.ADMIN);
+        String usuario = AuditLog.usuarioActual();
+        // Los goles se aplican en lote desde otro hilo: se audita al completarse, con el marcador resultante
+        return golesCoalescer.registrar(id, request.getLado(), request.getCantidad())
+                .thenApply(resultado -> {
+                    MarcadorResponse marcador = resultado.marcador();
+                    auditLog.append(usuario, Cambio.Entidad.PARTIDO, Cambio.Operacion.ACTUALIZAR, id, 0,
+                            AuditLog.huella(marcador.getGolesLocal(), marcador.getGolesVisitante(), marcador.getVersion()));
+                    return resultado;
+                });
+    }
+
+    @Transactional
     public void delete(Long id) {
         authorizationService.requireAnyRole(Role.ADMIN);
-        Partido existing = findById(id);
-        partidoRepository.delete(existing);
+        if (partidoRepository.deleteRowById(id) == 0) {
+            throw new ResourceNotFoundException("Partido no encontrado");
+        }
+        cambioService.registrar(Cambio.Entidad.PARTIDO, id, Cambio.Operacion.ELIMINAR);
+        auditLog.registrar(Cambio.Entidad.PARTIDO, Cambio.Operacion.ELIMINAR, id, 0, 0);
+    }
+
+    /**
+     * Un equipo borrado entre la consulta de partidos y la de equipos queda como marcador de
+     * posición, para no correr los índices del resto de las filas.
+     */
+    private static EquipoResumen resumen(Long id, Equipo equipo) {
+        if (equipo == null) {
+            log.warn("El equipo {} de la vista compacta de partidos ya no existe", id);
+            return new EquipoResumen(id, "Equipo eliminado", null);
+        }
+        return new EquipoResumen(equipo.getId(), equipo.getNombre(), equipo.getCiudad());
+    }
+
+    /** Sin versión una edición pisaría a ciegas la de otro cliente, así que es obligatoria. */
+    private static void requerirVersion(Long version) {
+        if (version == null) {
+            throw new PreconditionRequiredException("Indique la versión del partido que está modificando");
+        }
+    }
+
+    private static long huella(Partido partido) {
+        Long localId = partido.getEquipoLocal() != null ? partido.getEquipoLocal().getId() : null;
+        Long visitanteId = partido.getEquipoVisitante() != null ? partido.getEquipoVisitante().getId() : null;
+        return AuditLog.huella(partido.getId(), partido.getFecha(), localId, visitanteId,
+                partido.getGolesLocal(), partido.getGolesVisitante());
+    }
+
+    private Equipo referenceEquipo(Long equipoId) {
+        if (!equipoRepository.existsByIdAndEliminadoFalse(equipoId)) {
+            throw new ResourceNotFoundException("Equipo asociado no encontrado");
+        }
+        return patchRepository.reference(Equipo.class, equipoId);
     }
 
     private Equipo resolveEquipo(Equipo equipo) {
         if (equipo == null || equipo.getId() == null) {
             return null;
         }
-        return equipoRepository.findById(equipo.getId())
+        return equipoRepository.findByIdAndEliminadoFalse(equipo.getId())
                 .orElseThrow(() -> new ResourceNotFoundException("Equipo asociado no encontrado"));
     }
+
+    private Integer indexOf(Long equipoId, Map<Long, Integer> indices, List<Long> equipoIds) {
+        if (equipoId == null) {
+            return null;
+        }
+        return indices.computeIfAbsent(equipoId, id -> {
+            equipoIds.add(id);
+            return equipoIds.size() - 1;
+        });
+    }
+
+    private Equipo lookupEquipo(Map<Long, Equipo> equipos, Equipo equipo) {
+        if (equipo == null || equipo.getId() == null) {
+            return null;
+        }
+        return equipos.get(equipo.getId());
+    }
 }
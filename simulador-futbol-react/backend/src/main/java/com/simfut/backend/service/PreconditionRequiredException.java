@@ -0,0 +1,7 @@
+package com.simfut.backend.service;
+
+public class PreconditionRequiredException extends RuntimeException {
+    public PreconditionRequiredException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,27 @@
+package com.simfut.backend.simulacion;
+
+import java.util.Set;
+import java.util.random.RandomGenerator;
+
+/**
+ * Trabajo de simulación dividido en bloques independientes. Cada bloque recibe su propio
+ * generador derivado de la semilla y su índice, y los parciales se combinan con sumas, así que
+ * el resultado no depende del orden ni de cuántos hilos ejecutaron los bloques.
+ */
+interface Calculo<P> {
+
+    /** Parámetros normalizados, comparables por igualdad; junto con la semilla definen el resultado. */
+    Object parametros();
+
+    /** Nombres de los equipos simulados, tal como se muestran. */
+    Set<String> equipos();
+
+    int bloques();
+
+    P calcular(int bloque, RandomGenerator random);
+
+    /** Se invoca con el trabajo bloqueado, un parcial a la vez. */
+    void acumular(P parcial);
+
+    Object resultado();
+}
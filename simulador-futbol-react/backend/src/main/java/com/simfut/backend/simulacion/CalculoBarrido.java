@@ -0,0 +1,140 @@
+package com.simfut.backend.simulacion;
+
+import com.simfut.backend.controller.dto.SimulacionEstadisticas;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.random.RandomGenerator;
+
+/** Repite un mismo partido {@code muestras} veces por cada combinación de clima y minutos. */
+final class CalculoBarrido implements Calculo<CalculoBarrido.Conteo> {
+
+    private static final int MARCADORES = 10;
+
+    private final List<Enfrentamiento> combinaciones;
+    private final long muestras;
+    private final int muestrasPorBloque;
+    private final int bloquesPorCombinacion;
+    private final Conteo[] totales;
+
+    CalculoBarrido(List<Enfrentamiento> combinaciones, long muestras, int muestrasPorBloque) {
+        this.combinaciones = combinaciones;
+        this.muestras = muestras;
+        this.muestrasPorBloque = muestrasPorBloque;
+        this.bloquesPorCombinacion = (int) ((muestras + muestrasPorBloque - 1) / muestrasPorBloque);
+        this.totales = new Conteo[combinaciones.size()];
+        for (int i = 0; i < totales.length; i++) {
+            totales[i] = new Conteo(i);
+        }
+    }
+
+    @Override
+    public Object parametros() {
+        return List.of(combinaciones, muestras);
+    }
+
+    @Override
+    public Set<String> equipos() {
+        return Set.copyOf(List.of(combinaciones.get(0).local(), combinaciones.get(0).visitante()));
+    }
+
+    @Override
+    public int bloques() {
+        return combinaciones.size() * bloquesPorCombinacion;
+    }
+
+    @Override
+    public Conteo calcular(int bloque, RandomGenerator random) {
+        int combinacion = bloque / bloquesPorCombinacion;
+        long desde = (long) (bloque % bloquesPorCombinacion) * muestrasPorBloque;
+        long cantidad = Math.min(muestrasPorBloque, muestras - desde);
+        Enfrentamiento partido = combinaciones.get(combinacion);
+        double lambdaLocal = partido.lambdaLocal();
+        double lambdaVisitante = partido.lambdaVisitante();
+        Conteo conteo = new Conteo(combinacion);
+        for (long i = 0; i < cantidad; i++) {
+            conteo.registrar(MotorSimulacion.poisson(lambdaLocal, random), MotorSimulacion.poisson(lambdaVisitante, random));
+        }
+        return conteo;
+    }
+
+    @Override
+    public void acumular(Conteo parcial) {
+        totales[parcial.combinacion].sumar(parcial);
+    }
+
+    @Override
+    public Object resultado() {
+        List<SimulacionEstadisticas> filas = new ArrayList<>(combinaciones.size());
+        for (int i = 0; i < combinaciones.size(); i++) {
+            Enfrentamiento partido = combinaciones.get(i);
+            Conteo conteo = totales[i];
+            double n = conteo.muestras;
+            List<SimulacionEstadisticas.Marcador> marcadores = conteo.marcadores.entrySet().stream()
+                    .sorted(Map.Entry.<Long, Long>comparingByValue(Comparator.reverseOrder())
+                            .thenComparing(Map.Entry.comparingByKey()))
+                    .limit(MARCADORES)
+                    .map(entry -> new SimulacionEstadisticas.Marcador(
+                            (entry.getKey() >>> 32) + " - " + (entry.getKey() & 0xFFFFFFFFL),
+                            entry.getValue() / n))
+                    .toList();
+            filas.add(new SimulacionEstadisticas(
+                    partido.clima().id(),
+                    MotorSimulacion.minutosEfectivos(partido.minutos()),
+                    conteo.muestras,
+                    MotorSimulacion.redondear(partido.lambdaLocal()),
+                    MotorSimulacion.redondear(partido.lambdaVisitante()),
+                    conteo.victoriasLocal / n,
+                    conteo.empates / n,
+                    conteo.victoriasVisitante / n,
+                    conteo.golesLocal / n,
+                    conteo.golesVisitante / n,
+                    marcadores));
+        }
+        return filas;
+    }
+
+    static final class Conteo {
+
+        private final int combinacion;
+        private final Map<Long, Long> marcadores = new HashMap<>();
+        private long muestras;
+        private long victoriasLocal;
+        private long empates;
+        private long victoriasVisitante;
+        private long golesLocal;
+        private long golesVisitante;
+
+        Conteo(int combinacion) {
+            this.combinacion = combinacion;
+        }
+
+        void registrar(int local, int visitante) {
+            muestras++;
+            golesLocal += local;
+            golesVisitante += visitante;
+            if (local > visitante) {
+                victoriasLocal++;
+            } else if (local == visitante) {
+                empates++;
+            } else {
+                victoriasVisitante++;
+            }
+            marcadores.merge(((long) local << 32) | visitante, 1L, Long::sum);
+        }
+
+        void sumar(Conteo otro) {
+            muestras += otro.muestras;
+            victoriasLocal += otro.victoriasLocal;
+            empates += otro.empates;
+            victoriasVisitante += otro.victoriasVisitante;
+            golesLocal += otro.golesLocal;
+            golesVisitante += otro.golesVisitante;
+            otro.marcadores.forEach((marcador, cantidad) -> marcadores.merge(marcador, cantidad, Long::sum));
+        }
+    }
+}
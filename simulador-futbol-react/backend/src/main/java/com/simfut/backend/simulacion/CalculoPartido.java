@@ -0,0 +1,47 @@
+package com.simfut.backend.simulacion;
+
+import com.simfut.backend.controller.dto.SimulacionPartidoResultado;
+
+import java.util.List;
+import java.util.Set;
+import java.util.random.RandomGenerator;
+
+final class CalculoPartido implements Calculo<SimulacionPartidoResultado> {
+
+    private final Enfrentamiento partido;
+    private SimulacionPartidoResultado resultado;
+
+    CalculoPartido(Enfrentamiento partido) {
+        this.partido = partido;
+    }
+
+    @Override
+    public Object parametros() {
+        return partido;
+    }
+
+    @Override
+    public Set<String> equipos() {
+        return Set.copyOf(List.of(partido.local(), partido.visitante()));
+    }
+
+    @Override
+    public int bloques() {
+        return 1;
+    }
+
+    @Override
+    public SimulacionPartidoResultado calcular(int bloque, RandomGenerator random) {
+        return MotorSimulacion.simular(partido, random);
+    }
+
+    @Override
+    public void acumular(SimulacionPartidoResultado parcial) {
+        resultado = parcial;
+    }
+
+    @Override
+    public Object resultado() {
+        return resultado;
+    }
+}
@@ -0,0 +1,162 @@
+package com.simfut.backend.simulacion;
+
+import com.simfut.backend.controller.dto.SimulacionTemporadaFila;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.random.RandomGenerator;
+
+/**
+ * Juega {@code temporadas} veces un todos contra todos ida y vuelta y cuenta en qué posición
+ * terminó cada equipo. Los empates en la tabla se definen por diferencia de gol, goles a favor
+ * y por último el orden en que se enviaron los equipos.
+ */
+final class CalculoTemporada implements Calculo<CalculoTemporada.Tabla> {
+
+    private final List<EquipoSimulado> equipos;
+    private final int minutos;
+    private final Clima clima;
+    private final List<String> nombres;
+    private final double[][] lambdas;
+    private final long temporadas;
+    private final int temporadasPorBloque;
+    private final Tabla total;
+
+    CalculoTemporada(List<EquipoSimulado> equipos, int minutos, Clima clima, long temporadas, int partidosPorBloque) {
+        int n = equipos.size();
+        this.equipos = equipos;
+        this.minutos = minutos;
+        this.clima = clima;
+        this.nombres = equipos.stream().map(EquipoSimulado::nombre).toList();
+        this.lambdas = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                lambdas[i][j] = MotorSimulacion.golesEsperados(minutos, equipos.get(i).ataque(), equipos.get(j).defensa(), clima);
+            }
+        }
+        this.temporadas = temporadas;
+        this.temporadasPorBloque = Math.max(1, partidosPorBloque / partidosPorTemporada(n));
+        this.total = new Tabla(n);
+    }
+
+    static int partidosPorTemporada(int equipos) {
+        return equipos * (equipos - 1);
+    }
+
+    @Override
+    public Object parametros() {
+        return List.of(equipos, minutos, clima, temporadas);
+    }
+
+    @Override
+    public Set<String> equipos() {
+        return Set.copyOf(nombres);
+    }
+
+    @Override
+    public int bloques() {
+        return (int) ((temporadas + temporadasPorBloque - 1) / temporadasPorBloque);
+    }
+
+    @Override
+    public Tabla calcular(int bloque, RandomGenerator random) {
+        int n = nombres.size();
+        long cantidad = Math.min(temporadasPorBloque, temporadas - (long) bloque * temporadasPorBloque);
+        Tabla tabla = new Tabla(n);
+        int[] puntos = new int[n];
+        int[] diferencia = new int[n];
+        int[] golesAFavor = new int[n];
+        Integer[] orden = new Integer[n];
+        Comparator<Integer> porTabla = Comparator.<Integer>comparingInt(equipo -> puntos[equipo]).reversed()
+                .thenComparing(Comparator.<Integer>comparingInt(equipo -> diferencia[equipo]).reversed())
+                .thenComparing(Comparator.<Integer>comparingInt(equipo -> golesAFavor[equipo]).reversed())
+                .thenComparingInt(equipo -> equipo);
+        for (long temporada = 0; temporada < cantidad; temporada++) {
+            for (int i = 0; i < n; i++) {
+                puntos[i] = 0;
+                diferencia[i] = 0;
+                golesAFavor[i] = 0;
+                orden[i] = i;
+            }
+            for (int local = 0; local < n; local++) {
+                for (int visitante = 0; visitante < n; visitante++) {
+                    if (local == visitante) {
+                        continue;
+                    }
+                    int golesLocal = MotorSimulacion.poisson(lambdas[local][visitante], random);
+                    int golesVisitante = MotorSimulacion.poisson(lambdas[visitante][local], random);
+                    golesAFavor[local] += golesLocal;
+                    golesAFavor[visitante] += golesVisitante;
+                    diferencia[local] += golesLocal - golesVisitante;
+                    diferencia[visitante] += golesVisitante - golesLocal;
+                    if (golesLocal > golesVisitante) {
+                        puntos[local] += 3;
+                    } else if (golesLocal < golesVisitante) {
+                        puntos[visitante] += 3;
+                    } else {
+                        puntos[local]++;
+                        puntos[visitante]++;
+                    }
+                }
+            }
+            Arrays.sort(orden, porTabla);
+            for (int posicion = 0; posicion < n; posicion++) {
+                int equipo = orden[posicion];
+                tabla.posiciones[equipo][posicion]++;
+                tabla.puntos[equipo] += puntos[equipo];
+            }
+            tabla.temporadas++;
+        }
+        return tabla;
+    }
+
+    @Override
+    public void acumular(Tabla parcial) {
+        total.sumar(parcial);
+    }
+
+    @Override
+    public Object resultado() {
+        int n = nombres.size();
+        double jugadas = total.temporadas;
+        List<SimulacionTemporadaFila> filas = new ArrayList<>(n);
+        for (int equipo = 0; equipo < n; equipo++) {
+            double[] probabilidades = new double[n];
+            for (int posicion = 0; posicion < n; posicion++) {
+                probabilidades[posicion] = total.posiciones[equipo][posicion] / jugadas;
+            }
+            filas.add(new SimulacionTemporadaFila(nombres.get(equipo), total.puntos[equipo] / jugadas,
+                    probabilidades[0], probabilidades));
+        }
+        filas.sort(Comparator.comparingDouble(SimulacionTemporadaFila::getPuntosPromedio).reversed());
+        return filas;
+    }
+
+    record EquipoSimulado(String nombre, double ataque, double defensa) {
+    }
+
+    static final class Tabla {
+
+        private final long[] puntos;
+        private final long[][] posiciones;
+        private long temporadas;
+
+        Tabla(int equipos) {
+            this.puntos = new long[equipos];
+            this.posiciones = new long[equipos][equipos];
+        }
+
+        void sumar(Tabla otra) {
+            temporadas += otra.temporadas;
+            for (int i = 0; i < puntos.length; i++) {
+                puntos[i] += otra.puntos[i];
+                for (int j = 0; j < puntos.length; j++) {
+                    posiciones[i][j] += otra.posiciones[i][j];
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.simfut.backend.simulacion;
+
+import java.util.Set;
+
+/**
+ * Identidad de una simulación reproducible: tipo, semilla y los parámetros ya normalizados
+ * (valores por defecto aplicados, climas y minutos en orden canónico, cantidad de muestras).
+ * Dos pedidos con la misma clave producen exactamente el mismo resultado.
+ *
+ * @param equipos nombres normalizados de los equipos involucrados, para invalidar por equipo
+ */
+record ClaveSimulacion(SimulacionJob.Tipo tipo, long semilla, Object parametros, Set<String> equipos) {
+}
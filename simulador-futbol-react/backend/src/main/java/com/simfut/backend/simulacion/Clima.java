@@ -0,0 +1,40 @@
+package com.simfut.backend.simulacion;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/** Factores de clima del simulador, los mismos de {@code CLIMAS} en el frontend. */
+public enum Clima {
+    NORMAL(1.0),
+    LLUVIA(0.9),
+    VIENTO(0.95),
+    CALOR(0.92);
+
+    private final double factor;
+
+    Clima(double factor) {
+        this.factor = factor;
+    }
+
+    public double factor() {
+        return factor;
+    }
+
+    public String id() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    /** Sin valor se asume clima normal, como hace el frontend. */
+    public static Clima desde(String valor) {
+        if (valor == null || valor.isBlank()) {
+            return NORMAL;
+        }
+        try {
+            return valueOf(valor.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Clima desconocido: " + valor + ". Valores válidos: "
+                    + Arrays.stream(values()).map(Clima::id).collect(Collectors.joining(", ")));
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.simfut.backend.simulacion;
+
+import com.simfut.backend.auth.Role;
+import com.simfut.backend.controller.dto.ClasificacionFila;
+import com.simfut.backend.controller.dto.CopaProbabilidades;
+import com.simfut.backend.controller.dto.CopaRequest;
+import com.simfut.backend.index.ClasificacionIndex;
+import com.simfut.backend.index.FuerzaEquipoIndex;
+import com.simfut.backend.service.AuthorizationService;
+import com.simfut.backend.service.ResourceNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Probabilidades exactas de una copa a eliminación directa. Con la probabilidad de que cada
+ * equipo elimine a cada posible rival, la de llegar a la ronda r es la de haber llegado a la
+ * anterior por la suma, sobre los rivales de la otra mitad de su llave, de que el rival también
+ * haya llegado y sea eliminado. Un cuadro de n equipos cuesta O(n²) pares, sin Monte Carlo.
+ *
+ * Las probabilidades por par se guardan por fuerzas y condiciones del partido, de modo que se
+ * reutilizan entre cuadros y un cambio de fuerzas simplemente usa otra clave.
+ */
+@Service
+public class CopaService {
+
+    private static final int MAX_EQUIPOS = 256;
+    /** Partidos ficticios de rendimiento promedio que se suman a cada equipo al estimar su fuerza. */
+    private static final int PARTIDOS_PREVIOS = 5;
+
+    private final ClasificacionIndex clasificacionIndex;
+    private final FuerzaEquipoIndex fuerzaEquipoIndex;
+    private final AuthorizationService authorizationService;
+    private final LfuCache<Par, Double> pares;
+
+    public CopaService(ClasificacionIndex clasificacionIndex,
+                       FuerzaEquipoIndex fuerzaEquipoIndex,
+                       AuthorizationService authorizationService,
+                       @Value("${simfut.copas.max-pares:65536}") int maxPares) {
+        this.clasificacionIndex = clasificacionIndex;
+        this.fuerzaEquipoIndex = fuerzaEquipoIndex;
+        this.authorizationService = authorizationService;
+        this.pares = new LfuCache<>(maxPares);
+    }
+
+    public CopaProbabilidades probabilidades(CopaRequest request) {
+        authorizationService.requireAnyRole(Role.USER, Role.ADMIN);
+        List<Long> ids = request.getEquipos();
+        int n = ids.size();
+        if (n < 2 || n > MAX_EQUIPOS || Integer.bitCount(n) != 1) {
+            throw new IllegalArgumentException("El cuadro debe tener una potencia de dos de equipos, entre 2 y " + MAX_EQUIPOS);
+        }
+        if (new HashSet<>(ids).size() != n || ids.contains(null)) {
+            throw new IllegalArgumentException("Cada equipo debe aparecer una sola vez en el cuadro");
+        }
+        int minutos = request.getMinutos() != null ? request.getMinutos() : 90;
+        if (minutos < MotorSimulacion.MINUTOS_MINIMO || minutos > MotorSimulacion.MINUTOS_MAXIMO) {
+            throw new IllegalArgumentException("Los minutos deben estar entre " + MotorSimulacion.MINUTOS_MINIMO
+                    + " y " + MotorSimulacion.MINUTOS_MAXIMO);
+        }
+        Clima clima = Clima.desde(request.getClima());
+        boolean prorroga = request.getProrroga() == null || request.getProrroga();
+
+        List<Fuerza> fuerzas = fuerzas(ids);
+        double[][] avanza = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                avanza[i][j] = avanzar(fuerzas.get(i), fuerzas.get(j), minutos, clima, prorroga);
+                avanza[j][i] = 1 - avanza[i][j];
+            }
+        }
+
+        int rondas = Integer.numberOfTrailingZeros(n);
+        double[][] llega = new double[rondas + 1][n];
+        Arrays.fill(llega[0], 1.0);
+        for (int ronda = 1; ronda <= rondas; ronda++) {
+            int llave = 1 << ronda;
+            int mitad = llave >> 1;
+            for (int i = 0; i < n; i++) {
+                int inicio = i - i % llave;
+                int rivales = i - inicio < mitad ? inicio + mitad : inicio;
+                double elimina = 0;
+                for (int j = rivales; j < rivales + mitad; j++) {
+                    elimina += llega[ronda - 1][j] * avanza[i][j];
+                }
+                llega[ronda][i] = llega[ronda - 1][i] * elimina;
+            }
+        }
+
+        List<String> nombresRondas = new ArrayList<>(rondas + 1);
+        for (int ronda = 0; ronda < rondas; ronda++) {
+            nombresRondas.add(nombreRonda(n >> ronda));
+        }
+        nombresRondas.add("campeon");
+        List<CopaProbabilidades.Fila> filas = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            double[] porRonda = new double[rondas + 1];
+            for (int ronda = 0; ronda <= rondas; ronda++) {
+                porRonda[ronda] = llega[ronda][i];
+            }
+            Fuerza fuerza = fuerzas.get(i);
+            filas.add(new CopaProbabilidades.Fila(fuerza.equipoId(), fuerza.nombre(),
+                    MotorSimulacion.redondear(fuerza.ataque()), MotorSimulacion.redondear(fuerza.defensa()), porRonda));
+        }
+        return new CopaProbabilidades(nombresRondas, filas);
+    }
+
+    /**
+     * Fuerza del plantel si el equipo tiene jugadores valorados; si no, estimada con goles por
+     * partido relativos al promedio de la liga, suavizada con partidos previos de rendimiento
+     * promedio para que pocos partidos no den valores extremos.
+     */
+    private List<Fuerza> fuerzas(List<Long> ids) {
+        Map<Long, ClasificacionFila> tabla = new HashMap<>();
+        long goles = 0;
+        long jugados = 0;
+        for (ClasificacionFila fila : clasificacionIndex.tabla(null, null)) {
+            tabla.put(fila.getEquipoId(), fila);
+            goles += fila.getGolesAFavor();
+            jugados += fila.getJugados();
+        }
+        double promedio = jugados > 0 && goles > 0 ? (double) goles / jugados : MotorSimulacion.GOLES_BASE;
+        List<Fuerza> fuerzas = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            ClasificacionFila fila = tabla.get(id);
+            if (fila == null) {
+                throw new ResourceNotFoundException("Equipo no encontrado con id " + id);
+            }
+            FuerzaEquipoIndex.FuerzaEquipo plantel = fuerzaEquipoIndex.fuerza(id);
+            if (plantel != null && plantel.valorados() > 0) {
+                fuerzas.add(new Fuerza(id, fila.getEquipo(), plantel.ataque(), plantel.defensa()));
+                continue;
+            }
+            double partidos = fila.getJugados() + PARTIDOS_PREVIOS;
+            double aFavor = (fila.getGolesAFavor() + PARTIDOS_PREVIOS * promedio) / partidos;
+            double enContra = (fila.getGolesEnContra() + PARTIDOS_PREVIOS * promedio) / partidos;
+            fuerzas.add(new Fuerza(id, fila.getEquipo(), aFavor / promedio, promedio / enContra));
+        }
+        return fuerzas;
+    }
+
+    private double avanzar(Fuerza equipo, Fuerza rival, int minutos, Clima clima, boolean prorroga) {
+        // El par se guarda en un solo orden; el inverso es el complemento
+        boolean invertido = Double.compare(equipo.ataque(), rival.ataque()) > 0
+                || (equipo.ataque() == rival.ataque() && Double.compare(equipo.defensa(), rival.defensa()) > 0);
+        Fuerza primero = invertido ? rival : equipo;
+        Fuerza segundo = invertido ? equipo : rival;
+        Par par = new Par(primero.ataque(), primero.defensa(), segundo.ataque(), segundo.defensa(), minutos, clima, prorroga);
+        Double probabilidad;
+        synchronized (pares) {
+            probabilidad = pares.get(par);
+        }
+        if (probabilidad == null) {
+            probabilidad = ModeloEliminatoria.probabilidadAvanzar(par.ataque(), par.defensa(),
+                    par.ataqueRival(), par.defensaRival(), minutos, clima, prorroga);
+            synchronized (pares) {
+                pares.put(par, probabilidad);
+            }
+        }
+        return invertido ? 1 - probabilidad : probabilidad;
+    }
+
+    private static String nombreRonda(int equipos) {
+        return switch (equipos) {
+            case 2 -> "final";
+            case 4 -> "semifinal";
+            case 8 -> "cuartos";
+            case 16 -> "octavos";
+            case 32 -> "dieciseisavos";
+            default -> "ronda de " + equipos;
+        };
+    }
+
+    private record Fuerza(long equipoId, String nombre, double ataque, double defensa) {
+    }
+
+    private record Par(double ataque, double defensa, double ataqueRival, double defensaRival,
+                       int minutos, Clima clima, boolean prorroga) {
+    }
+}
@@ -0,0 +1,190 @@
+package com.simfut.backend.simulacion;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cálculo en curso de una simulación. Varios trabajos idénticos comparten la misma ejecución;
+ * solo se cancela cuando la abandonan todos.
+ */
+final class Ejecucion {
+
+    enum Estado {
+        EN_COLA,
+        EN_CURSO,
+        COMPLETADA,
+        CANCELADA,
+        FALLIDA
+    }
+
+    private final ClaveSimulacion clave;
+    private final SimulacionJob.Prioridad prioridad;
+    private final long secuencia;
+    private final long semilla;
+    private final Calculo<Object> calculo;
+    private final int bloques;
+    private final List<SimulacionJob> interesados = new ArrayList<>();
+    private Estado estado = Estado.EN_COLA;
+    private int completados;
+    private int porcentajeInformado;
+    private Instant iniciada;
+    private Instant finalizada;
+    private Object resultado;
+    private String error;
+
+    @SuppressWarnings("unchecked")
+    Ejecucion(ClaveSimulacion clave, SimulacionJob.Prioridad prioridad, long secuencia, long semilla, Calculo<?> calculo) {
+        this(clave, prioridad, secuencia, semilla, (Calculo<Object>) calculo, calculo.bloques());
+    }
+
+    private Ejecucion(ClaveSimulacion clave, SimulacionJob.Prioridad prioridad, long secuencia, long semilla,
+                      Calculo<Object> calculo, int bloques) {
+        this.clave = clave;
+        this.prioridad = prioridad;
+        this.secuencia = secuencia;
+        this.semilla = semilla;
+        this.calculo = calculo;
+        this.bloques = bloques;
+    }
+
+    /** Ejecución ya resuelta con un resultado de la caché. */
+    static Ejecucion completada(ClaveSimulacion clave, SimulacionJob.Prioridad prioridad, Object resultado) {
+        Ejecucion ejecucion = new Ejecucion(clave, prioridad, 0, clave.semilla(), null, 1);
+        ejecucion.estado = Estado.COMPLETADA;
+        ejecucion.completados = 1;
+        ejecucion.iniciada = Instant.now();
+        ejecucion.finalizada = ejecucion.iniciada;
+        ejecucion.resultado = resultado;
+        return ejecucion;
+    }
+
+    ClaveSimulacion clave() {
+        return clave;
+    }
+
+    SimulacionJob.Prioridad prioridad() {
+        return prioridad;
+    }
+
+    long secuencia() {
+        return secuencia;
+    }
+
+    long semilla() {
+        return semilla;
+    }
+
+    int bloques() {
+        return bloques;
+    }
+
+    Calculo<Object> calculo() {
+        return calculo;
+    }
+
+    /** Generador de un bloque: depende solo de la semilla y del índice. */
+    long semillaBloque(int bloque) {
+        long z = semilla + (bloque + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    synchronized Estado estado() {
+        return estado;
+    }
+
+    synchronized boolean terminada() {
+        return estado.ordinal() >= Estado.COMPLETADA.ordinal();
+    }
+
+    synchronized double progreso() {
+        return (double) completados / bloques;
+    }
+
+    synchronized Instant iniciada() {
+        return iniciada;
+    }
+
+    synchronized Instant finalizada() {
+        return finalizada;
+    }
+
+    synchronized Object resultado() {
+        return resultado;
+    }
+
+    synchronized String error() {
+        return error;
+    }
+
+    synchronized List<SimulacionJob> interesados() {
+        return List.copyOf(interesados);
+    }
+
+    /** Suma un trabajo a la ejecución; falla si ya fue cancelada o falló. */
+    synchronized boolean unir(SimulacionJob job) {
+        if (estado == Estado.CANCELADA || estado == Estado.FALLIDA) {
+            return false;
+        }
+        interesados.add(job);
+        return true;
+    }
+
+    /** Quita un trabajo; devuelve true si era el último y la ejecución quedó cancelada. */
+    synchronized boolean abandonar(SimulacionJob job) {
+        interesados.remove(job);
+        if (!interesados.isEmpty() || terminada()) {
+            return false;
+        }
+        finalizar(Estado.CANCELADA);
+        return true;
+    }
+
+    synchronized boolean iniciar() {
+        if (estado != Estado.EN_COLA) {
+            return estado == Estado.EN_CURSO;
+        }
+        estado = Estado.EN_CURSO;
+        iniciada = Instant.now();
+        return true;
+    }
+
+    /**
+     * Suma el parcial de un bloque. Devuelve true si con él terminó la ejecución o si el avance
+     * cambió al menos un punto porcentual, para no avisar a los suscriptores en cada bloque.
+     */
+    synchronized boolean completar(Object parcial) {
+        if (terminada()) {
+            return false;
+        }
+        calculo.acumular(parcial);
+        completados++;
+        if (completados == bloques) {
+            resultado = calculo.resultado();
+            finalizar(Estado.COMPLETADA);
+            return true;
+        }
+        int porcentaje = completados * 100 / bloques;
+        if (porcentaje > porcentajeInformado) {
+            porcentajeInformado = porcentaje;
+            return true;
+        }
+        return false;
+    }
+
+    synchronized boolean fallar(String mensaje) {
+        if (terminada()) {
+            return false;
+        }
+        error = mensaje;
+        finalizar(Estado.FALLIDA);
+        return true;
+    }
+
+    private void finalizar(Estado estadoFinal) {
+        estado = estadoFinal;
+        finalizada = Instant.now();
+    }
+}
@@ -0,0 +1,16 @@
+package com.simfut.backend.simulacion;
+
+/** Parámetros de un partido simulado, equivalentes al formulario de {@code simulateMatch}. */
+public record Enfrentamiento(String local, String visitante,
+                             double ataqueLocal, double defensaLocal,
+                             double ataqueVisitante, double defensaVisitante,
+                             int minutos, Clima clima) {
+
+    public double lambdaLocal() {
+        return MotorSimulacion.golesEsperados(minutos, ataqueLocal, defensaVisitante, clima);
+    }
+
+    public double lambdaVisitante() {
+        return MotorSimulacion.golesEsperados(minutos, ataqueVisitante, defensaLocal, clima);
+    }
+}
@@ -0,0 +1,98 @@
+package com.simfut.backend.simulacion;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+/**
+ * Caché acotada que al llenarse descarta la entrada menos usada y, entre las de igual uso, la
+ * más antigua. Todas las operaciones son O(1); no es segura para hilos.
+ */
+final class LfuCache<K, V> {
+
+    private final int capacidad;
+    private final Map<K, Nodo<V>> nodos = new HashMap<>();
+    private final Map<Integer, LinkedHashSet<K>> porFrecuencia = new HashMap<>();
+    private int frecuenciaMinima;
+
+    LfuCache(int capacidad) {
+        this.capacidad = capacidad;
+    }
+
+    V get(K clave) {
+        Nodo<V> nodo = nodos.get(clave);
+        if (nodo == null) {
+            return null;
+        }
+        usar(clave, nodo);
+        return nodo.valor;
+    }
+
+    /** Devuelve la clave descartada para hacer lugar, o null. */
+    K put(K clave, V valor) {
+        if (capacidad <= 0) {
+            return clave;
+        }
+        Nodo<V> nodo = nodos.get(clave);
+        if (nodo != null) {
+            nodo.valor = valor;
+            usar(clave, nodo);
+            return null;
+        }
+        K descartada = null;
+        if (nodos.size() >= capacidad) {
+            Iterator<K> menosUsadas = porFrecuencia.get(frecuenciaMinima).iterator();
+            descartada = menosUsadas.next();
+            menosUsadas.remove();
+            nodos.remove(descartada);
+        }
+        nodos.put(clave, new Nodo<>(valor));
+        porFrecuencia.computeIfAbsent(1, frecuencia -> new LinkedHashSet<>()).add(clave);
+        frecuenciaMinima = 1;
+        return descartada;
+    }
+
+    void remove(K clave) {
+        Nodo<V> nodo = nodos.remove(clave);
+        if (nodo != null) {
+            quitar(clave, nodo.frecuencia);
+        }
+    }
+
+    void clear() {
+        nodos.clear();
+        porFrecuencia.clear();
+    }
+
+    int size() {
+        return nodos.size();
+    }
+
+    private void usar(K clave, Nodo<V> nodo) {
+        quitar(clave, nodo.frecuencia);
+        if (nodo.frecuencia == frecuenciaMinima && !porFrecuencia.containsKey(frecuenciaMinima)) {
+            frecuenciaMinima++;
+        }
+        nodo.frecuencia++;
+        porFrecuencia.computeIfAbsent(nodo.frecuencia, frecuencia -> new LinkedHashSet<>()).add(clave);
+    }
+
+    private void quitar(K clave, int frecuencia) {
+        LinkedHashSet<K> claves = porFrecuencia.get(frecuencia);
+        claves.remove(clave);
+        if (claves.isEmpty()) {
+            porFrecuencia.remove(frecuencia);
+        }
+    }
+
+    private static final class Nodo<V> {
+
+        private V valor;
+        private int frecuencia = 1;
+
+        Nodo(V valor) {
+            this.valor = valor;
+        }
+    }
+}
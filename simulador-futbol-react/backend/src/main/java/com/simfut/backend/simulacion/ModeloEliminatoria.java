@@ -0,0 +1,105 @@
+package com.simfut.backend.simulacion;
+
+import java.util.Arrays;
+
+/**
+ * Probabilidad exacta de que un equipo elimine a otro en un partido único con el modelo de
+ * {@link MotorSimulacion}: tiempo reglamentario, prórroga de 30 minutos si se juega y penales
+ * con la misma probabilidad de conversión por tiro que usa el frontend.
+ */
+final class ModeloEliminatoria {
+
+    static final int MINUTOS_PRORROGA = 30;
+    static final double CONVERSION_PENAL = 0.75;
+    private static final int SERIE_PENALES = 5;
+    private static final double COLA = 1e-12;
+
+    private ModeloEliminatoria() {
+    }
+
+    static double probabilidadAvanzar(double ataque, double defensa, double ataqueRival, double defensaRival,
+                                      int minutos, Clima clima, boolean prorroga) {
+        double[] reglamentario = ganarEmpatar(
+                MotorSimulacion.golesEsperados(minutos, ataque, defensaRival, clima),
+                MotorSimulacion.golesEsperados(minutos, ataqueRival, defensa, clima));
+        double penales = penales(CONVERSION_PENAL, CONVERSION_PENAL);
+        double desempate = penales;
+        if (prorroga) {
+            double[] extra = ganarEmpatar(
+                    MotorSimulacion.golesEsperados(MINUTOS_PRORROGA, ataque, defensaRival, clima),
+                    MotorSimulacion.golesEsperados(MINUTOS_PRORROGA, ataqueRival, defensa, clima));
+            desempate = extra[0] + extra[1] * penales;
+        }
+        return reglamentario[0] + reglamentario[1] * desempate;
+    }
+
+    /** {P(gana), P(empata)} con goles de Poisson independientes. */
+    static double[] ganarEmpatar(double lambda, double lambdaRival) {
+        double[] propios = poisson(lambda);
+        double[] ajenos = poisson(lambdaRival);
+        double gana = 0;
+        double empata = 0;
+        double ajenosMenos = 0;
+        for (int goles = 0; goles < propios.length; goles++) {
+            double ajenosIgual = goles < ajenos.length ? ajenos[goles] : 0;
+            gana += propios[goles] * ajenosMenos;
+            empata += propios[goles] * ajenosIgual;
+            ajenosMenos += ajenosIgual;
+        }
+        return new double[]{gana, empata};
+    }
+
+    /**
+     * Tanda de penales: cinco tiros por lado y luego muerte súbita por pares. Con la misma
+     * conversión para ambos es 0.5, pero se calcula para admitir valores distintos.
+     */
+    static double penales(double conversion, double conversionRival) {
+        double[] propios = binomial(SERIE_PENALES, conversion);
+        double[] ajenos = binomial(SERIE_PENALES, conversionRival);
+        double gana = 0;
+        double empata = 0;
+        for (int i = 0; i <= SERIE_PENALES; i++) {
+            for (int j = 0; j <= SERIE_PENALES; j++) {
+                if (i > j) {
+                    gana += propios[i] * ajenos[j];
+                } else if (i == j) {
+                    empata += propios[i] * ajenos[j];
+                }
+            }
+        }
+        double ganaRonda = conversion * (1 - conversionRival);
+        double pierdeRonda = (1 - conversion) * conversionRival;
+        double muerteSubita = ganaRonda + pierdeRonda > 0 ? ganaRonda / (ganaRonda + pierdeRonda) : 0.5;
+        return gana + empata * muerteSubita;
+    }
+
+    /** Masa de Poisson hasta que la cola restante es despreciable. */
+    private static double[] poisson(double lambda) {
+        int maximo = (int) Math.ceil(lambda + 12 * Math.sqrt(lambda) + 12);
+        double[] masa = new double[maximo + 1];
+        masa[0] = Math.exp(-lambda);
+        double acumulada = masa[0];
+        int k = 1;
+        for (; k <= maximo && 1 - acumulada > COLA; k++) {
+            masa[k] = masa[k - 1] * lambda / k;
+            acumulada += masa[k];
+        }
+        return Arrays.copyOf(masa, k);
+    }
+
+    private static double[] binomial(int n, double p) {
+        double[] masa = new double[n + 1];
+        for (int k = 0; k <= n; k++) {
+            masa[k] = combinaciones(n, k) * Math.pow(p, k) * Math.pow(1 - p, n - k);
+        }
+        return masa;
+    }
+
+    private static double combinaciones(int n, int k) {
+        double resultado = 1;
+        for (int i = 1; i <= k; i++) {
+            resultado = resultado * (n - k + i) / i;
+        }
+        return resultado;
+    }
+}
@@ -0,0 +1,65 @@
+package com.simfut.backend.simulacion;
+
+import com.simfut.backend.controller.dto.SimulacionPartidoResultado;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Port del motor de {@code Engine.js}: goles de Poisson con media proporcional a ataque/defensa,
+ * minutos jugados y clima. Recibe el generador para que una semilla reproduzca la simulación.
+ */
+public final class MotorSimulacion {
+
+    public static final double GOLES_BASE = 1.3;
+    public static final int MINUTOS_MINIMO = 30;
+    public static final int MINUTOS_MAXIMO = 120;
+
+    private MotorSimulacion() {
+    }
+
+    public static int minutosEfectivos(int minutos) {
+        return Math.max(MINUTOS_MINIMO, Math.min(MINUTOS_MAXIMO, minutos));
+    }
+
+    public static double golesEsperados(int minutos, double ataque, double defensa, Clima clima) {
+        return GOLES_BASE * (ataque / defensa) * (minutosEfectivos(minutos) / 90.0) * clima.factor();
+    }
+
+    /** Método de Knuth; las medias del simulador son chicas, así que alcanza. */
+    public static int poisson(double lambda, RandomGenerator random) {
+        double limite = Math.exp(-lambda);
+        int k = 0;
+        double p = 1;
+        do {
+            k++;
+            p *= random.nextDouble();
+        } while (p > limite);
+        return k - 1;
+    }
+
+    public static SimulacionPartidoResultado simular(Enfrentamiento partido, RandomGenerator random) {
+        int minutos = minutosEfectivos(partido.minutos());
+        double lambdaLocal = partido.lambdaLocal();
+        double lambdaVisitante = partido.lambdaVisitante();
+        int golesLocal = poisson(lambdaLocal, random);
+        int golesVisitante = poisson(lambdaVisitante, random);
+
+        List<SimulacionPartidoResultado.Evento> eventos = new ArrayList<>(golesLocal + golesVisitante);
+        for (int i = 0; i < golesLocal; i++) {
+            eventos.add(new SimulacionPartidoResultado.Evento(random.nextInt(minutos) + 1, "⚽ Gol de " + partido.local()));
+        }
+        for (int i = 0; i < golesVisitante; i++) {
+            eventos.add(new SimulacionPartidoResultado.Evento(random.nextInt(minutos) + 1, "⚽ Gol de " + partido.visitante()));
+        }
+        eventos.sort(Comparator.comparingInt(SimulacionPartidoResultado.Evento::getMinuto));
+        return new SimulacionPartidoResultado(golesLocal, golesVisitante, partido.clima().id(),
+                redondear(lambdaLocal), redondear(lambdaVisitante), eventos, minutos);
+    }
+
+    static double redondear(double valor) {
+        return Math.round(valor * 100) / 100.0;
+    }
+}
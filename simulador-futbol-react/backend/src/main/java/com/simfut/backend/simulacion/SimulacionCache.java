@@ -0,0 +1,181 @@
+package com.simfut.backend.simulacion;
+
+import com.simfut.backend.index.ChangeFeedIndex;
+import com.simfut.backend.index.TextNormalizer;
+import com.simfut.backend.model.Cambio;
+import com.simfut.backend.service.CambioService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Resultados de simulaciones con semilla explícita, direccionados por {@link ClaveSimulacion}.
+ * Guarda los completados en una caché LFU acotada y las ejecuciones en curso por clave, de modo
+ * que pedidos idénticos simultáneos se suman a un único cálculo.
+ *
+ * Sigue el registro de cambios de equipos y jugadores: cuando cambia un equipo o su plantel se
+ * descartan las entradas que lo nombran, y las ejecuciones en curso que lo involucran ya no se
+ * guardan al terminar.
+ */
+@Component
+public class SimulacionCache extends ChangeFeedIndex {
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final Object lock = new Object();
+    private final LfuCache<ClaveSimulacion, Object> resultados;
+    private final Map<String, Set<ClaveSimulacion>> clavesPorEquipo = new HashMap<>();
+    private final Map<ClaveSimulacion, Ejecucion> enCurso = new HashMap<>();
+    private final Set<Ejecucion> invalidadas = new HashSet<>();
+    private final Map<Long, String> equipos = new HashMap<>();
+    private final Map<Long, Long> equipoDeJugador = new HashMap<>();
+
+    public SimulacionCache(NamedParameterJdbcTemplate jdbc,
+                           CambioService cambioService,
+                           @Value("${simfut.simulacion.cache.max-entradas:1024}") int maxEntradas) {
+        super(cambioService, Set.of(Cambio.Entidad.EQUIPO, Cambio.Entidad.JUGADOR));
+        this.jdbc = jdbc;
+        this.resultados = new LfuCache<>(maxEntradas);
+    }
+
+    /** Resultado guardado para la clave, o null. */
+    Object resultado(ClaveSimulacion clave) {
+        actualizar();
+        synchronized (lock) {
+            return resultados.get(clave);
+        }
+    }
+
+    /**
+     * Suma {@code job} a la ejecución en curso con la misma clave que {@code nueva}; si no hay
+     * ninguna registra y devuelve {@code nueva}, que el llamador debe encolar.
+     */
+    Ejecucion unirOCrear(SimulacionJob job, Ejecucion nueva) {
+        synchronized (lock) {
+            Ejecucion existente = enCurso.get(nueva.clave());
+            if (existente != null && existente.unir(job)) {
+                return existente;
+            }
+            nueva.unir(job);
+            enCurso.put(nueva.clave(), nueva);
+            return nueva;
+        }
+    }
+
+    /** Cierra una ejecución con clave; si terminó bien y no fue invalidada, guarda el resultado. */
+    void terminar(Ejecucion ejecucion) {
+        ClaveSimulacion clave = ejecucion.clave();
+        synchronized (lock) {
+            enCurso.remove(clave, ejecucion);
+            boolean vigente = !invalidadas.remove(ejecucion);
+            if (vigente && ejecucion.estado() == Ejecucion.Estado.COMPLETADA) {
+                ClaveSimulacion descartada = resultados.put(clave, ejecucion.resultado());
+                if (descartada != null) {
+                    desindexar(descartada);
+                }
+                if (descartada != clave) {
+                    clave.equipos().forEach(equipo -> clavesPorEquipo.computeIfAbsent(equipo, e -> new HashSet<>()).add(clave));
+                }
+            }
+        }
+    }
+
+    static String normalizar(String equipo) {
+        return TextNormalizer.normalize(equipo);
+    }
+
+    @Override
+    protected void reconstruir() {
+        Map<Long, String> nombres = new HashMap<>();
+        jdbc.query("select id, nombre from equipos", (RowCallbackHandler) rs ->
+                nombres.put(rs.getLong("id"), normalizar(rs.getString("nombre"))));
+        Map<Long, Long> planteles = new HashMap<>();
+        jdbc.query("select id, equipo_id from jugadores where equipo_id is not null", (RowCallbackHandler) rs ->
+                planteles.put(rs.getLong("id"), rs.getLong("equipo_id")));
+        synchronized (lock) {
+            // Sin saber qué cambió desde la última lectura, se descarta todo
+            resultados.clear();
+            clavesPorEquipo.clear();
+            invalidadas.addAll(enCurso.values());
+            equipos.clear();
+            equipos.putAll(nombres);
+            equipoDeJugador.clear();
+            equipoDeJugador.putAll(planteles);
+        }
+    }
+
+    @Override
+    protected void aplicar(Map<Cambio.Entidad, Set<Long>> modificados) {
+        Set<Long> equipoIds = modificados.getOrDefault(Cambio.Entidad.EQUIPO, Set.of());
+        Set<Long> jugadorIds = modificados.getOrDefault(Cambio.Entidad.JUGADOR, Set.of());
+        Map<Long, String> nombres = new HashMap<>();
+        if (!equipoIds.isEmpty()) {
+            jdbc.query("select id, nombre from equipos where id in (:ids)", Map.of("ids", equipoIds),
+                    (RowCallbackHandler) rs -> nombres.put(rs.getLong("id"), normalizar(rs.getString("nombre"))));
+        }
+        Map<Long, Long> planteles = new HashMap<>();
+        if (!jugadorIds.isEmpty()) {
+            jdbc.query("select id, equipo_id from jugadores where id in (:ids) and equipo_id is not null",
+                    Map.of("ids", jugadorIds),
+                    (RowCallbackHandler) rs -> planteles.put(rs.getLong("id"), rs.getLong("equipo_id")));
+        }
+        synchronized (lock) {
+            Set<Long> afectados = new HashSet<>(equipoIds);
+            for (Long jugadorId : jugadorIds) {
+                Long anterior = equipoDeJugador.remove(jugadorId);
+                Long actual = planteles.get(jugadorId);
+                if (anterior != null) {
+                    afectados.add(anterior);
+                }
+                if (actual != null) {
+                    afectados.add(actual);
+                    equipoDeJugador.put(jugadorId, actual);
+                }
+            }
+            Set<String> nombresAfectados = new HashSet<>();
+            for (Long equipoId : afectados) {
+                String anterior = equipos.get(equipoId);
+                if (anterior != null) {
+                    nombresAfectados.add(anterior);
+                }
+            }
+            for (Long equipoId : equipoIds) {
+                String actual = nombres.get(equipoId);
+                if (actual != null) {
+                    nombresAfectados.add(actual);
+                    equipos.put(equipoId, actual);
+                } else {
+                    equipos.remove(equipoId);
+                }
+            }
+            for (String nombre : nombresAfectados) {
+                Set<ClaveSimulacion> claves = clavesPorEquipo.remove(nombre);
+                if (claves != null) {
+                    for (ClaveSimulacion clave : claves) {
+                        resultados.remove(clave);
+                        desindexar(clave);
+                    }
+                }
+            }
+            for (Ejecucion ejecucion : enCurso.values()) {
+                if (ejecucion.clave().equipos().stream().anyMatch(nombresAfectados::contains)) {
+                    invalidadas.add(ejecucion);
+                }
+            }
+        }
+    }
+
+    private void desindexar(ClaveSimulacion clave) {
+        for (String equipo : clave.equipos()) {
+            Set<ClaveSimulacion> claves = clavesPorEquipo.get(equipo);
+            if (claves != null && claves.remove(clave) && claves.isEmpty()) {
+                clavesPorEquipo.remove(equipo);
+            }
+        }
+    }
+}
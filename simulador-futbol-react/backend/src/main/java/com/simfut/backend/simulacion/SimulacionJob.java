@@ -0,0 +1,111 @@
+package com.simfut.backend.simulacion;
+
+import com.simfut.backend.controller.dto.SimulacionResponse;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Simulación pedida por un usuario. El cálculo lo hace una {@link Ejecucion}, que puede ser
+ * compartida con otros pedidos idénticos o venir ya resuelta desde la caché.
+ */
+final class SimulacionJob {
+
+    enum Tipo {
+        PARTIDO(Prioridad.INTERACTIVA),
+        BARRIDO(Prioridad.LOTE),
+        TEMPORADA(Prioridad.LOTE);
+
+        private final Prioridad prioridad;
+
+        Tipo(Prioridad prioridad) {
+            this.prioridad = prioridad;
+        }
+
+        Prioridad prioridad() {
+            return prioridad;
+        }
+    }
+
+    /** El orden de declaración es el orden de atención. */
+    enum Prioridad {
+        INTERACTIVA,
+        LOTE
+    }
+
+    private final String id;
+    private final String usuario;
+    private final Tipo tipo;
+    private final Instant creada = Instant.now();
+    private final List<SseEmitter> suscriptores = new CopyOnWriteArrayList<>();
+    private Ejecucion ejecucion;
+    private boolean deCache;
+    private Instant cancelada;
+
+    SimulacionJob(String id, String usuario, Tipo tipo) {
+        this.id = id;
+        this.usuario = usuario;
+        this.tipo = tipo;
+    }
+
+    String id() {
+        return id;
+    }
+
+    String usuario() {
+        return usuario;
+    }
+
+    List<SseEmitter> suscriptores() {
+        return suscriptores;
+    }
+
+    synchronized Ejecucion ejecucion() {
+        return ejecucion;
+    }
+
+    synchronized void asignar(Ejecucion ejecucion, boolean deCache) {
+        this.ejecucion = ejecucion;
+        this.deCache = deCache;
+    }
+
+    synchronized boolean terminado() {
+        return cancelada != null || ejecucion.terminada();
+    }
+
+    synchronized Instant finalizada() {
+        return cancelada != null ? cancelada : ejecucion.finalizada();
+    }
+
+    synchronized boolean cancelar() {
+        if (terminado()) {
+            return false;
+        }
+        cancelada = Instant.now();
+        return true;
+    }
+
+    synchronized SimulacionResponse toResponse(Duration ttl) {
+        Ejecucion.Estado estado = cancelada != null ? Ejecucion.Estado.CANCELADA : ejecucion.estado();
+        Instant finalizada = finalizada();
+        return new SimulacionResponse(
+                id,
+                tipo.name().toLowerCase(Locale.ROOT),
+                tipo.prioridad().name().toLowerCase(Locale.ROOT),
+                estado.name().toLowerCase(Locale.ROOT).replace('_', '-'),
+                ejecucion.progreso(),
+                ejecucion.semilla(),
+                deCache ? Boolean.TRUE : null,
+                creada,
+                ejecucion.iniciada(),
+                finalizada,
+                finalizada != null ? finalizada.plus(ttl) : null,
+                estado == Ejecucion.Estado.COMPLETADA ? ejecucion.resultado() : null,
+                ejecucion.error()
+        );
+    }
+}
@@ -0,0 +1,422 @@
+package com.simfut.backend.simulacion;
+
+import com.simfut.backend.audit.AuditLog;
+import com.simfut.backend.auth.Role;
+import com.simfut.backend.controller.dto.SimulacionRequest;
+import com.simfut.backend.controller.dto.SimulacionResponse;
+import com.simfut.backend.index.FuerzaEquipoIndex.FuerzaEquipo;
+import com.simfut.backend.index.FuerzaEquipoIndex;
+import com.simfut.backend.service.AuthorizationService;
+import com.simfut.backend.service.ResourceNotFoundException;
+import com.simfut.backend.service.ServiceOverloadedException;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Cola de simulaciones asíncronas. Cada trabajo se divide en bloques de tamaño acotado que se
+ * encolan por (prioridad, orden de llegada, índice) y los ejecuta un ForkJoinPool cuyo
+ * paralelismo es la fracción de CPUs configurada, así las simulaciones nunca toman la máquina
+ * entera. Como la prioridad se evalúa en cada bloque, un partido interactivo espera a lo sumo
+ * que termine el bloque en curso de un barrido, no el barrido completo.
+ *
+ * Los pedidos con semilla explícita pasan por {@link SimulacionCache}: un resultado ya calculado
+ * se devuelve sin encolar nada y un pedido idéntico a uno en curso se suma a ese cálculo.
+ *
+ * Cancelar descarta los bloques pendientes; el que se esté ejecutando termina y se ignora. Los
+ * trabajos terminados se conservan durante el TTL configurado.
+ */
+@Service
+public class SimulacionService {
+
+    private static final Logger log = LoggerFactory.getLogger(SimulacionService.class);
+    private static final Comparator<Bloque> ORDEN = Comparator
+            .comparing((Bloque bloque) -> bloque.ejecucion().prioridad())
+            .thenComparingLong(bloque -> bloque.ejecucion().secuencia())
+            .thenComparingInt(Bloque::indice);
+    private static final int MAX_COMBINACIONES = 64;
+    private static final int MAX_EQUIPOS = 40;
+
+    private final AuthorizationService authorizationService;
+    private final SimulacionCache cache;
+    private final FuerzaEquipoIndex fuerzaEquipoIndex;
+    private final ForkJoinPool pool;
+    private final int paralelismo;
+    private final int partidosPorBloque;
+    private final long maxPartidos;
+    private final int maxActivas;
+    private final int maxActivasPorUsuario;
+    private final Duration ttl;
+    private final long retryAfterSeconds;
+    private final PriorityBlockingQueue<Bloque> pendientes = new PriorityBlockingQueue<>(64, ORDEN);
+    private final AtomicInteger trabajadores = new AtomicInteger();
+    private final AtomicLong secuencia = new AtomicLong();
+    private final Map<String, SimulacionJob> trabajos = new ConcurrentHashMap<>();
+
+    public SimulacionService(AuthorizationService authorizationService,
+                             SimulacionCache cache,
+                             FuerzaEquipoIndex fuerzaEquipoIndex,
+                             @Value("${simfut.simulacion.cpu-share:0.5}") double cpuShare,
+                             @Value("${simfut.simulacion.partidos-por-bloque:20000}") int partidosPorBloque,
+                             @Value("${simfut.simulacion.max-partidos:20000000}") long maxPartidos,
+                             @Value("${simfut.simulacion.max-activas:64}") int maxActivas,
+                             @Value("${simfut.simulacion.max-activas-por-usuario:4}") int maxActivasPorUsuario,
+                             @Value("${simfut.simulacion.ttl-ms:600000}") long ttlMs,
+                             @Value("${simfut.simulacion.retry-after-seconds:1}") long retryAfterSeconds) {
+        this.authorizationService = authorizationService;
+        this.cache = cache;
+        this.fuerzaEquipoIndex = fuerzaEquipoIndex;
+        this.paralelismo = Math.max(1, (int) Math.round(Runtime.getRuntime().availableProcessors() * cpuShare));
+        this.partidosPorBloque = Math.max(1, partidosPorBloque);
+        this.maxPartidos = maxPartidos;
+        this.maxActivas = maxActivas;
+        this.maxActivasPorUsuario = maxActivasPorUsuario;
+        this.ttl = Duration.ofMillis(ttlMs);
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.pool = new ForkJoinPool(paralelismo, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("simulacion-" + thread.getPoolIndex());
+            return thread;
+        }, null, true);
+    }
+
+    public SimulacionResponse enviar(SimulacionRequest request) {
+        authorizationService.requireAnyRole(Role.USER, Role.ADMIN);
+        SimulacionJob.Tipo tipo = tipo(request.getTipo());
+        Calculo<?> calculo = switch (tipo) {
+            case PARTIDO -> new CalculoPartido(enfrentamiento(request, request.getMinutos(), Clima.desde(request.getClima())));
+            case BARRIDO -> barrido(request);
+            case TEMPORADA -> temporada(request);
+        };
+        // Solo con semilla explícita el resultado es reproducible y vale la pena recordarlo
+        boolean reproducible = request.getSemilla() != null;
+        long semilla = reproducible ? request.getSemilla() : ThreadLocalRandom.current().nextLong();
+        ClaveSimulacion clave = new ClaveSimulacion(tipo, semilla, calculo.parametros(),
+                calculo.equipos().stream().map(SimulacionCache::normalizar).collect(Collectors.toUnmodifiableSet()));
+
+        String usuario = AuditLog.usuarioActual();
+        SimulacionJob job = new SimulacionJob(UUID.randomUUID().toString(), usuario, tipo);
+        Object enCache = reproducible ? cache.resultado(clave) : null;
+        if (enCache != null) {
+            job.asignar(Ejecucion.completada(clave, tipo.prioridad(), enCache), true);
+            trabajos.put(job.id(), job);
+            return job.toResponse(ttl);
+        }
+        Ejecucion nueva = new Ejecucion(reproducible ? clave : null, tipo.prioridad(), secuencia.incrementAndGet(),
+                semilla, calculo);
+        Ejecucion asignada;
+        synchronized (trabajos) {
+            int activas = 0;
+            int propias = 0;
+            for (SimulacionJob otro : trabajos.values()) {
+                if (!otro.terminado()) {
+                    activas++;
+                    propias += otro.usuario().equals(usuario) ? 1 : 0;
+                }
+            }
+            if (activas >= maxActivas || propias >= maxActivasPorUsuario) {
+                throw new ServiceOverloadedException("Demasiadas simulaciones en curso, intente nuevamente", retryAfterSeconds);
+            }
+            if (reproducible) {
+                asignada = cache.unirOCrear(job, nueva);
+            } else {
+                nueva.unir(job);
+                asignada = nueva;
+            }
+            job.asignar(asignada, false);
+            trabajos.put(job.id(), job);
+        }
+        if (asignada == nueva) {
+            for (int i = 0; i < nueva.bloques(); i++) {
+                pendientes.add(new Bloque(nueva, i));
+            }
+            despachar();
+        }
+        return job.toResponse(ttl);
+    }
+
+    public SimulacionResponse consultar(String id) {
+        return buscar(id).toResponse(ttl);
+    }
+
+    /** Cancela el pedido; el cálculo se detiene solo si ningún otro pedido idéntico lo espera. */
+    public SimulacionResponse cancelar(String id) {
+        SimulacionJob job = buscar(id);
+        if (job.cancelar()) {
+            Ejecucion ejecucion = job.ejecucion();
+            if (ejecucion.abandonar(job)) {
+                pendientes.removeIf(bloque -> bloque.ejecucion() == ejecucion);
+                terminar(ejecucion);
+            }
+            notificarFin(job);
+        }
+        return job.toResponse(ttl);
+    }
+
+    /** Envía un evento {@code progreso} por cada punto porcentual y un {@code fin} con el resultado. */
+    public SseEmitter suscribir(String id) {
+        SimulacionJob job = buscar(id);
+        SseEmitter emitter = new SseEmitter();
+        emitter.onCompletion(() -> job.suscriptores().remove(emitter));
+        emitter.onTimeout(() -> job.suscriptores().remove(emitter));
+        emitter.onError(ex -> job.suscriptores().remove(emitter));
+        job.suscriptores().add(emitter);
+        if (job.terminado()) {
+            if (job.suscriptores().remove(emitter)) {
+                enviarFin(job, emitter);
+            }
+        } else {
+            enviar(emitter, "progreso", job.toResponse(ttl));
+        }
+        return emitter;
+    }
+
+    @Scheduled(fixedDelayString = "${simfut.simulacion.purge-interval-ms:60000}")
+    public void purgar() {
+        Instant limite = Instant.now().minus(ttl);
+        trabajos.values().removeIf(job -> job.terminado() && job.finalizada().isBefore(limite));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private SimulacionJob buscar(String id) {
+        authorizationService.requireAnyRole(Role.USER, Role.ADMIN);
+        SimulacionJob job = trabajos.get(id);
+        // Las simulaciones ajenas se informan como inexistentes, salvo para un administrador
+        if (job == null || !(job.usuario().equals(AuditLog.usuarioActual()) || authorizationService.hasAnyRole(Role.ADMIN))) {
+            throw new ResourceNotFoundException("Simulación no encontrada con id " + id);
+        }
+        return job;
+    }
+
+    /** Mantiene hasta {@code paralelismo} tareas drenando la cola de bloques. */
+    private void despachar() {
+        int actuales;
+        while (!pendientes.isEmpty() && (actuales = trabajadores.get()) < paralelismo) {
+            if (trabajadores.compareAndSet(actuales, actuales + 1)) {
+                pool.execute(this::drenar);
+            }
+        }
+    }
+
+    private void drenar() {
+        try {
+            Bloque bloque;
+            while ((bloque = pendientes.poll()) != null) {
+                ejecutar(bloque);
+            }
+        } finally {
+            trabajadores.decrementAndGet();
+        }
+        // Un bloque encolado entre el último poll y el decremento no encontró trabajador libre
+        despachar();
+    }
+
+    private void ejecutar(Bloque bloque) {
+        Ejecucion ejecucion = bloque.ejecucion();
+        if (!ejecucion.iniciar()) {
+            return;
+        }
+        try {
+            Object parcial = ejecucion.calculo().calcular(bloque.indice(),
+                    new SplittableRandom(ejecucion.semillaBloque(bloque.indice())));
+            if (ejecucion.completar(parcial)) {
+                if (ejecucion.terminada()) {
+                    terminar(ejecucion);
+                    ejecucion.interesados().forEach(this::notificarFin);
+                } else {
+                    for (SimulacionJob job : ejecucion.interesados()) {
+                        if (!job.suscriptores().isEmpty()) {
+                            SimulacionResponse progreso = job.toResponse(ttl);
+                            job.suscriptores().forEach(emitter -> enviar(emitter, "progreso", progreso));
+                        }
+                    }
+                }
+            }
+        } catch (RuntimeException ex) {
+            log.error("Falló la simulación con semilla {}", ejecucion.semilla(), ex);
+            if (ejecucion.fallar(ex.getMessage())) {
+                pendientes.removeIf(otro -> otro.ejecucion() == ejecucion);
+                terminar(ejecucion);
+                ejecucion.interesados().forEach(this::notificarFin);
+            }
+        }
+    }
+
+    private void terminar(Ejecucion ejecucion) {
+        if (ejecucion.clave() != null) {
+            cache.terminar(ejecucion);
+        }
+    }
+
+    private void notificarFin(SimulacionJob job) {
+        for (SseEmitter emitter : job.suscriptores()) {
+            if (job.suscriptores().remove(emitter)) {
+                enviarFin(job, emitter);
+            }
+        }
+    }
+
+    private void enviarFin(SimulacionJob job, SseEmitter emitter) {
+        if (enviar(emitter, "fin", job.toResponse(ttl))) {
+            emitter.complete();
+        }
+    }
+
+    private boolean enviar(SseEmitter emitter, String evento, SimulacionResponse datos) {
+        try {
+            emitter.send(SseEmitter.event().name(evento).data(datos));
+            return true;
+        } catch (IOException | IllegalStateException ex) {
+            // El cliente se desconectó; el trabajo sigue y puede consultarse por id
+            emitter.completeWithError(ex);
+            return false;
+        }
+    }
+
+    private Calculo<?> barrido(SimulacionRequest request) {
+        List<Clima> climas = request.getClimas() == null || request.getClimas().isEmpty()
+                ? List.of(Clima.desde(request.getClima()))
+                : request.getClimas().stream().map(Clima::desde).distinct().sorted().toList();
+        List<Integer> duraciones = request.getDuraciones() == null || request.getDuraciones().isEmpty()
+                ? List.of(minutos(request.getMinutos()))
+                : request.getDuraciones().stream().map(this::minutos).distinct().sorted().toList();
+        if (climas.size() * duraciones.size() > MAX_COMBINACIONES) {
+            throw new IllegalArgumentException("El barrido admite hasta " + MAX_COMBINACIONES + " combinaciones de clima y minutos");
+        }
+        List<Enfrentamiento> combinaciones = new ArrayList<>();
+        for (Clima clima : climas) {
+            for (Integer duracion : duraciones) {
+                combinaciones.add(enfrentamiento(request, duracion, clima));
+            }
+        }
+        long muestras = muestras(request, 10_000, combinaciones.size());
+        return new CalculoBarrido(combinaciones, muestras, partidosPorBloque);
+    }
+
+    private Calculo<?> temporada(SimulacionRequest request) {
+        List<SimulacionRequest.EquipoSimulado> equipos = request.getEquipos();
+        if (equipos == null || equipos.size() < 2 || equipos.size() > MAX_EQUIPOS) {
+            throw new IllegalArgumentException("La temporada requiere entre 2 y " + MAX_EQUIPOS + " equipos");
+        }
+        Set<String> nombres = new HashSet<>();
+        List<CalculoTemporada.EquipoSimulado> participantes = new ArrayList<>(equipos.size());
+        for (SimulacionRequest.EquipoSimulado equipo : equipos) {
+            FuerzaEquipo plantel = equipo != null ? plantel(equipo.getEquipoId()) : null;
+            String nombre = equipo != null
+                    ? nombreOPorDefecto(equipo.getNombre(), plantel != null ? plantel.nombre() : null)
+                    : null;
+            if (nombre == null || nombre.isBlank()) {
+                throw new IllegalArgumentException("Cada equipo debe tener nombre o equipoId");
+            }
+            if (!nombres.add(nombre.toLowerCase(Locale.ROOT))) {
+                throw new IllegalArgumentException("Equipo repetido: " + nombre);
+            }
+            participantes.add(new CalculoTemporada.EquipoSimulado(nombre,
+                    valor(equipo.getAtaque(), plantel, FuerzaEquipo::ataque),
+                    valor(equipo.getDefensa(), plantel, FuerzaEquipo::defensa)));
+        }
+        long temporadas = muestras(request, 1_000, CalculoTemporada.partidosPorTemporada(equipos.size()));
+        return new CalculoTemporada(participantes, minutos(request.getMinutos()), Clima.desde(request.getClima()),
+                temporadas, partidosPorBloque);
+    }
+
+    private long muestras(SimulacionRequest request, int porDefecto, long partidosPorMuestra) {
+        long muestras = request.getMuestras() != null ? request.getMuestras() : porDefecto;
+        if (muestras < 1 || muestras * partidosPorMuestra > maxPartidos) {
+            throw new IllegalArgumentException("La simulación no puede superar " + maxPartidos + " partidos en total");
+        }
+        return muestras;
+    }
+
+    private Enfrentamiento enfrentamiento(SimulacionRequest request, Integer minutos, Clima clima) {
+        FuerzaEquipo local = plantel(request.getLocalId());
+        FuerzaEquipo visitante = plantel(request.getVisitanteId());
+        return new Enfrentamiento(
+                nombreOPorDefecto(request.getLocal(), local != null ? local.nombre() : "Local"),
+                nombreOPorDefecto(request.getVisitante(), visitante != null ? visitante.nombre() : "Visitante"),
+                valor(request.getAtaqueLocal(), local, FuerzaEquipo::ataque),
+                valor(request.getDefensaLocal(), local, FuerzaEquipo::defensa),
+                valor(request.getAtaqueVisitante(), visitante, FuerzaEquipo::ataque),
+                valor(request.getDefensaVisitante(), visitante, FuerzaEquipo::defensa),
+                minutos(minutos),
+                clima
+        );
+    }
+
+    /** Fuerza del plantel del equipo indicado, o null si el pedido no referencia un equipo. */
+    private FuerzaEquipo plantel(Long equipoId) {
+        if (equipoId == null) {
+            return null;
+        }
+        FuerzaEquipo fuerza = fuerzaEquipoIndex.fuerza(equipoId);
+        if (fuerza == null) {
+            throw new ResourceNotFoundException("Equipo no encontrado con id " + equipoId);
+        }
+        return fuerza;
+    }
+
+    private int minutos(Integer minutos) {
+        if (minutos == null) {
+            return 90;
+        }
+        if (minutos < MotorSimulacion.MINUTOS_MINIMO || minutos > MotorSimulacion.MINUTOS_MAXIMO) {
+            throw new IllegalArgumentException("Los minutos deben estar entre " + MotorSimulacion.MINUTOS_MINIMO
+                    + " y " + MotorSimulacion.MINUTOS_MAXIMO);
+        }
+        return minutos;
+    }
+
+    private static SimulacionJob.Tipo tipo(String valor) {
+        try {
+            return SimulacionJob.Tipo.valueOf(valor.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException ex) {
+            throw new IllegalArgumentException("Tipo de simulación desconocido: " + valor
+                    + ". Valores válidos: partido, barrido, temporada");
+        }
+    }
+
+    private static String nombreOPorDefecto(String nombre, String porDefecto) {
+        return nombre != null && !nombre.isBlank() ? nombre.trim() : porDefecto;
+    }
+
+    /** El valor explícito manda; si no, el del plantel, y sin equipo un rival promedio. */
+    private static double valor(Double explicito, FuerzaEquipo plantel, ToDoubleFunction<FuerzaEquipo> campo) {
+        if (explicito != null) {
+            return explicito;
+        }
+        return plantel != null ? campo.applyAsDouble(plantel) : 1.0;
+    }
+
+    private record Bloque(Ejecucion ejecucion, int indice) {
+    }
+}
@@ -0,0 +1,31 @@
+package com.simfut.backend.snapshot;
+
+import java.sql.Types;
+
+/**
+ * Codificación de cada columna en el snapshot. Lo que no tiene una representación binaria
+ * propia se guarda como texto y la base de datos lo convierte al insertar.
+ */
+enum ColumnType {
+    LONG,
+    INT,
+    BOOLEAN,
+    DOUBLE,
+    STRING,
+    DATE,
+    TIMESTAMP,
+    TIMESTAMP_TZ;
+
+    static ColumnType fromSqlType(int sqlType) {
+        return switch (sqlType) {
+            case Types.BIGINT -> LONG;
+            case Types.INTEGER, Types.SMALLINT, Types.TINYINT -> INT;
+            case Types.BOOLEAN, Types.BIT -> BOOLEAN;
+            case Types.DOUBLE, Types.FLOAT, Types.REAL -> DOUBLE;
+            case Types.DATE -> DATE;
+            case Types.TIMESTAMP -> TIMESTAMP;
+            case Types.TIMESTAMP_WITH_TIMEZONE -> TIMESTAMP_TZ;
+            default -> STRING;
+        };
+    }
+}
@@ -0,0 +1,345 @@
+package com.simfut.backend.snapshot;
+
+import com.simfut.backend.auth.Role;
+import com.simfut.backend.controller.dto.SnapshotResponse;
+import com.simfut.backend.service.AuthorizationService;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32C;
+import javax.sql.DataSource;
+
+/**
+ * Snapshot binario de las tablas principales. Formato: cabecera fija (magic, versión,
+ * cantidad de tablas, largo y CRC32C del cuerpo) seguida, por tabla, de nombre, columnas
+ * con su tipo y filas con un bitmap de nulos. Al arrancar se restaura con inserts JDBC por
+ * lotes, antes de que el servidor acepte tráfico.
+ */
+@Service
+@DependsOn("entityManagerFactory")
+public class SnapshotService {
+
+    static final long MAGIC = 0x53494D465554534EL;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 32;
+
+    private static final List<String> TABLES = List.of("users", "equipos", "jugadores", "partidos");
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+    private static final int BATCH_SIZE = 1000;
+
+    private final DataSource dataSource;
+    private final AuthorizationService authorizationService;
+    private final Path path;
+    private final boolean restoreOnStartup;
+
+    public SnapshotService(DataSource dataSource,
+                           AuthorizationService authorizationService,
+                           @Value("${simfut.snapshot.path:data/simfut.snapshot}") String path,
+                           @Value("${simfut.snapshot.restore-on-startup:true}") boolean restoreOnStartup) {
+        this.dataSource = dataSource;
+        this.authorizationService = authorizationService;
+        this.path = Path.of(path);
+        this.restoreOnStartup = restoreOnStartup;
+    }
+
+    @PostConstruct
+    void restoreIfPresent() {
+        if (restoreOnStartup && Files.isRegularFile(path)) {
+            restore();
+        }
+    }
+
+    public synchronized SnapshotResponse create() {
+        authorizationService.requireAnyRole(Role.ADMIN);
+        long start = System.nanoTime();
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        Map<String, Long> rows = new LinkedHashMap<>();
+        long checksum;
+        long size;
+        try {
+            if (path.toAbsolutePath().getParent() != null) {
+                Files.createDirectories(path.toAbsolutePath().getParent());
+            }
+            try (Connection connection = dataSource.getConnection();
+                 FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                         StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                // Una sola transacción para que las cuatro tablas sean coherentes entre sí
+                connection.setAutoCommit(false);
+                connection.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+                channel.position(HEADER_SIZE);
+                SnapshotWriter writer = new SnapshotWriter(channel);
+                for (String table : TABLES) {
+                    rows.put(table, writeTable(connection, table, writer));
+                }
+                writer.flush();
+                connection.commit();
+
+                checksum = writer.checksum();
+                size = HEADER_SIZE + writer.written();
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                        .putLong(MAGIC)
+                        .putInt(VERSION)
+                        .putInt(TABLES.size())
+                        .putLong(writer.written())
+                        .putLong(checksum)
+                        .flip();
+                channel.write(header, 0);
+                channel.force(true);
+            }
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | SQLException ex) {
+            throw new IllegalStateException("No se pudo escribir el snapshot", ex);
+        }
+        long durationMs = (System.nanoTime() - start) / 1_000_000;
+        return new SnapshotResponse(path.toString(), size, Long.toHexString(checksum), rows, durationMs);
+    }
+
+    Map<String, Long> restore() {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Snapshot con tamaño inválido: " + size);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (buffer.getLong() != MAGIC) {
+                throw new IllegalStateException("El archivo " + path + " no es un snapshot de simfut");
+            }
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new IllegalStateException("Versión de snapshot no soportada: " + version);
+            }
+            int tables = buffer.getInt();
+            long bodyLength = buffer.getLong();
+            long checksum = buffer.getLong();
+            if (bodyLength != size - HEADER_SIZE) {
+                throw new IllegalStateException("Snapshot truncado");
+            }
+            CRC32C crc = new CRC32C();
+            crc.update(buffer.slice(HEADER_SIZE, (int) bodyLength));
+            if (crc.getValue() != checksum) {
+                throw new IllegalStateException("El checksum del snapshot no coincide");
+            }
+            return restoreTables(buffer, tables);
+        } catch (IOException | SQLException ex) {
+            throw new IllegalStateException("No se pudo restaurar el snapshot", ex);
+        }
+    }
+
+    private Map<String, Long> restoreTables(ByteBuffer buffer, int tables) throws SQLException {
+        Map<String, Long> rows = new LinkedHashMap<>();
+        try (Connection connection = dataSource.getConnection()) {
+            if (!isEmpty(connection)) {
+                return rows;
+            }
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                // El snapshot ya es coherente: no hace falta verificar claves foráneas fila a fila
+                statement.execute("set referential_integrity false");
+                try {
+                    for (int i = 0; i < tables; i++) {
+                        String table = getString(buffer);
+                        rows.put(table, restoreTable(connection, table, buffer));
+                    }
+                    connection.commit();
+                } catch (SQLException | RuntimeException ex) {
+                    // Se confirma por lotes, así que ante un error se vacían las tablas para no dejar una carga parcial
+                    connection.rollback();
+                    for (String table : TABLES) {
+                        statement.execute("delete from " + table);
+                    }
+                    connection.commit();
+                    throw ex;
+                } finally {
+                    statement.execute("set referential_integrity true");
+                }
+            }
+        }
+        return rows;
+    }
+
+    private long writeTable(Connection connection, String table, SnapshotWriter writer) throws SQLException, IOException {
+        try (Statement statement = connection.createStatement()) {
+            statement.setFetchSize(BATCH_SIZE);
+            try (ResultSet rows = statement.executeQuery("select * from " + table + " order by id")) {
+                ResultSetMetaData metaData = rows.getMetaData();
+                int columns = metaData.getColumnCount();
+                ColumnType[] types = new ColumnType[columns];
+                writer.putString(table);
+                writer.putInt(columns);
+                for (int i = 0; i < columns; i++) {
+                    types[i] = ColumnType.fromSqlType(metaData.getColumnType(i + 1));
+                    writer.putString(metaData.getColumnName(i + 1));
+                    writer.putByte(types[i].ordinal());
+                }
+
+                byte[] nulls = new byte[(columns + 7) / 8];
+                Object[] values = new Object[columns];
+                long count = 0;
+                while (rows.next()) {
+                    Arrays.fill(nulls, (byte) 0);
+                    for (int i = 0; i < columns; i++) {
+                        values[i] = read(rows, i + 1, types[i]);
+                        if (values[i] == null) {
+                            nulls[i >>> 3] |= (byte) (1 << (i & 7));
+                        }
+                    }
+                    writer.putByte(1);
+                    for (byte mask : nulls) {
+                        writer.putByte(mask);
+                    }
+                    for (int i = 0; i < columns; i++) {
+                        if (values[i] != null) {
+                            write(writer, types[i], values[i]);
+                        }
+                    }
+                    count++;
+                }
+                writer.putByte(0);
+                return count;
+            }
+        }
+    }
+
+    private long restoreTable(Connection connection, String table, ByteBuffer buffer) throws SQLException {
+        if (!TABLES.contains(table)) {
+            throw new IllegalStateException("Tabla desconocida en el snapshot: " + table);
+        }
+        int columns = buffer.getInt();
+        String[] names = new String[columns];
+        ColumnType[] types = new ColumnType[columns];
+        for (int i = 0; i < columns; i++) {
+            names[i] = getString(buffer);
+            if (!IDENTIFIER.matcher(names[i]).matches()) {
+                throw new IllegalStateException("Columna inválida en el snapshot: " + names[i]);
+            }
+            types[i] = ColumnType.values()[buffer.get()];
+        }
+
+        String sql = "insert into " + table + " (" + String.join(", ", names) + ") values ("
+                + String.join(", ", Collections.nCopies(columns, "?")) + ")";
+        byte[] nulls = new byte[(columns + 7) / 8];
+        long count = 0;
+        try (PreparedStatement insert = connection.prepareStatement(sql)) {
+            while (buffer.get() == 1) {
+                buffer.get(nulls);
+                for (int i = 0; i < columns; i++) {
+                    if ((nulls[i >>> 3] & (1 << (i & 7))) != 0) {
+                        insert.setObject(i + 1, null);
+                    } else {
+                        bind(insert, i + 1, types[i], buffer);
+                    }
+                }
+                insert.addBatch();
+                if (++count % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+        }
+
+        try (Statement statement = connection.createStatement();
+             ResultSet max = statement.executeQuery("select coalesce(max(id), 0) + 1 from " + table)) {
+            max.next();
+            statement.execute("alter table " + table + " alter column id restart with " + max.getLong(1));
+        }
+        return count;
+    }
+
+    private boolean isEmpty(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String table : TABLES) {
+                try (ResultSet exists = statement.executeQuery("select exists (select 1 from " + table + ")")) {
+                    exists.next();
+                    if (exists.getBoolean(1)) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    private static Object read(ResultSet rows, int column, ColumnType type) throws SQLException {
+        Object value = switch (type) {
+            case LONG -> rows.getLong(column);
+            case INT -> rows.getInt(column);
+            case BOOLEAN -> rows.getBoolean(column);
+            case DOUBLE -> rows.getDouble(column);
+            case STRING -> rows.getString(column);
+            case DATE -> rows.getObject(column, LocalDate.class);
+            case TIMESTAMP -> rows.getObject(column, LocalDateTime.class);
+            case TIMESTAMP_TZ -> rows.getObject(column, OffsetDateTime.class);
+        };
+        return rows.wasNull() ? null : value;
+    }
+
+    private static void write(SnapshotWriter writer, ColumnType type, Object value) throws IOException {
+        switch (type) {
+            case LONG -> writer.putLong((Long) value);
+            case INT -> writer.putInt((Integer) value);
+            case BOOLEAN -> writer.putByte((Boolean) value ? 1 : 0);
+            case DOUBLE -> writer.putDouble((Double) value);
+            case STRING -> writer.putString((String) value);
+            case DATE -> writer.putLong(((LocalDate) value).toEpochDay());
+            case TIMESTAMP -> {
+                LocalDateTime timestamp = (LocalDateTime) value;
+                writer.putLong(timestamp.toEpochSecond(ZoneOffset.UTC));
+                writer.putInt(timestamp.getNano());
+            }
+            case TIMESTAMP_TZ -> {
+                Instant instant = ((OffsetDateTime) value).toInstant();
+                writer.putLong(instant.getEpochSecond());
+                writer.putInt(instant.getNano());
+            }
+        }
+    }
+
+    private static void bind(PreparedStatement insert, int column, ColumnType type, ByteBuffer buffer) throws SQLException {
+        switch (type) {
+            case LONG -> insert.setLong(column, buffer.getLong());
+            case INT -> insert.setInt(column, buffer.getInt());
+            case BOOLEAN -> insert.setBoolean(column, buffer.get() != 0);
+            case DOUBLE -> insert.setDouble(column, buffer.getDouble());
+            case STRING -> insert.setString(column, getString(buffer));
+            case DATE -> insert.setObject(column, LocalDate.ofEpochDay(buffer.getLong()));
+            case TIMESTAMP -> insert.setObject(column, LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC));
+            case TIMESTAMP_TZ -> insert.setObject(column,
+                    OffsetDateTime.ofInstant(Instant.ofEpochSecond(buffer.getLong(), buffer.getInt()), ZoneOffset.UTC));
+        }
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,88 @@
+package com.simfut.backend.snapshot;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32C;
+
+/**
+ * Escritura secuencial del cuerpo del snapshot a través de un buffer directo, calculando el
+ * CRC32C de cada bloque justo antes de volcarlo al canal.
+ */
+final class SnapshotWriter {
+
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final CRC32C crc = new CRC32C();
+    private long written;
+
+    SnapshotWriter(FileChannel channel) {
+        this.channel = channel;
+    }
+
+    void putByte(int value) throws IOException {
+        ensure(Byte.BYTES);
+        buffer.put((byte) value);
+    }
+
+    void putInt(int value) throws IOException {
+        ensure(Integer.BYTES);
+        buffer.putInt(value);
+    }
+
+    void putLong(long value) throws IOException {
+        ensure(Long.BYTES);
+        buffer.putLong(value);
+    }
+
+    void putDouble(double value) throws IOException {
+        ensure(Double.BYTES);
+        buffer.putDouble(value);
+    }
+
+    void putBytes(byte[] bytes) throws IOException {
+        putInt(bytes.length);
+        if (bytes.length > BUFFER_SIZE) {
+            flush();
+            write(ByteBuffer.wrap(bytes));
+            return;
+        }
+        ensure(bytes.length);
+        buffer.put(bytes);
+    }
+
+    void putString(String value) throws IOException {
+        putBytes(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    void flush() throws IOException {
+        buffer.flip();
+        write(buffer);
+        buffer.clear();
+    }
+
+    long checksum() {
+        return crc.getValue();
+    }
+
+    long written() {
+        return written;
+    }
+
+    private void ensure(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    private void write(ByteBuffer source) throws IOException {
+        crc.update(source.duplicate());
+        written += source.remaining();
+        while (source.hasRemaining()) {
+            channel.write(source);
+        }
+    }
+}
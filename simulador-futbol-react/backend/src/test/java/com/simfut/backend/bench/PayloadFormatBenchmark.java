@@ -0,0 +1,95 @@
+package com.simfut.backend.bench;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.simfut.backend.model.Equipo;
+import com.simfut.backend.model.Partido;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compara tamaño y tiempos de codificación/decodificación de una lista grande de partidos
+ * en JSON, Smile y CBOR. Se ejecuta manualmente:
+ * <pre>
+ * mvn -q test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.simfut.backend.bench.PayloadFormatBenchmark -Dexec.args="100000"
+ * </pre>
+ */
+public final class PayloadFormatBenchmark {
+
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+
+    private PayloadFormatBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int partidos = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        List<Partido> dataset = buildDataset(partidos);
+        System.out.printf("Partidos: %d%n", partidos);
+        System.out.printf("%-6s %12s %12s %12s%n", "format", "bytes", "encode ms", "decode ms");
+        run("json", mapper(new JsonFactory()), dataset);
+        run("smile", mapper(new SmileFactory()), dataset);
+        run("cbor", mapper(new CBORFactory()), dataset);
+    }
+
+    private static void run(String name, ObjectMapper mapper, List<Partido> dataset) throws Exception {
+        TypeReference<List<Partido>> type = new TypeReference<>() {
+        };
+        byte[] payload = mapper.writeValueAsBytes(dataset);
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            mapper.readValue(mapper.writeValueAsBytes(dataset), type);
+        }
+
+        long encodeNanos = 0;
+        long decodeNanos = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            payload = mapper.writeValueAsBytes(dataset);
+            encodeNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            List<Partido> decoded = mapper.readValue(payload, type);
+            decodeNanos += System.nanoTime() - start;
+            if (decoded.size() != dataset.size()) {
+                throw new IllegalStateException("Decodificación incompleta para " + name);
+            }
+        }
+        System.out.printf("%-6s %12d %12.1f %12.1f%n", name, payload.length,
+                encodeNanos / 1e6 / MEASURED_ROUNDS, decodeNanos / 1e6 / MEASURED_ROUNDS);
+    }
+
+    private static ObjectMapper mapper(JsonFactory factory) {
+        return new ObjectMapper(factory)
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    private static List<Partido> buildDataset(int size) {
+        Random random = new Random(42);
+        List<Equipo> equipos = new ArrayList<>();
+        for (long id = 1; id <= 16; id++) {
+            Equipo equipo = new Equipo("Equipo " + id, "Ciudad " + id);
+            equipo.setId(id);
+            equipos.add(equipo);
+        }
+        LocalDate inicio = LocalDate.of(2024, 1, 1);
+        List<Partido> partidos = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Equipo local = equipos.get(random.nextInt(equipos.size()));
+            Equipo visitante = equipos.get(random.nextInt(equipos.size()));
+            Partido partido = new Partido(inicio.plusDays(i % 3650), local, visitante, random.nextInt(5), random.nextInt(5));
+            partido.setId((long) i + 1);
+            partidos.add(partido);
+        }
+        return partidos;
+    }
+}
@@ -1,5 +1,8 @@
 const API_BASE_URL = import.meta.env.VITE_API_URL || 'http://localhost:8080'
+const WRITE_SEQ_HEADER = 'X-Write-Seq'
 let authToken = null
+// Secuencia de la última escritura; el backend lee de la primaria hasta que la réplica la alcance
+let lastWriteSeq = 0
 
 export function setAuthToken(token) {
   authToken = token || null
@@ -22,6 +25,9 @@ function buildHeaders(body, customHeaders) {
   if (authToken) {
     headers['Authorization'] = `Bearer ${authToken}`
   }
+  if (lastWriteSeq > 0) {
+    headers[WRITE_SEQ_HEADER] = String(lastWriteSeq)
+  }
   return headers
 }
 
@@ -34,6 +40,11 @@ export async function httpRequest(path, { method = 'GET', body, headers, ...rest
     ...rest,
   })
 
+  const writeSeq = Number(response.headers.get(WRITE_SEQ_HEADER))
+  if (writeSeq > lastWriteSeq) {
+    lastWriteSeq = writeSeq
+  }
+
   const data = await parseBody(response).catch(() => null)
 
   if (!response.ok) {